@@ -0,0 +1,47 @@
+package io.fries.ioc.benchmarks;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.instantiator.Instantiator;
+import org.openjdk.jmh.annotations.*;
+import testable.stories.FantasyStory;
+import testable.stories.plots.IncrediblePlot;
+import testable.stories.protagonists.HeroicProtagonist;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InstantiatorBenchmark {
+
+    private Instantiator instantiator;
+    private List<Component> dependencies;
+
+    @Setup
+    public void setUp() {
+        instantiator = new DefaultInstantiator();
+        dependencies = asList(
+                Component.of(Id.of(IncrediblePlot.class), new IncrediblePlot()),
+                Component.of(Id.of(HeroicProtagonist.class), new HeroicProtagonist())
+        );
+    }
+
+    @Benchmark
+    public IncrediblePlot createWithoutDependencies() {
+        return instantiator.createInstance(IncrediblePlot.class, emptyList());
+    }
+
+    @Benchmark
+    public FantasyStory createWithDependencies() {
+        return instantiator.createInstance(FantasyStory.class, dependencies);
+    }
+}
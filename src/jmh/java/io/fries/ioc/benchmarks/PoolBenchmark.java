@@ -0,0 +1,58 @@
+package io.fries.ioc.benchmarks;
+
+import io.fries.ioc.Container;
+import io.fries.ioc.registry.pooled.Handle;
+import io.fries.ioc.registry.pooled.Pool;
+import org.openjdk.jmh.annotations.*;
+import testable.stories.plots.IncrediblePlot;
+import testable.stories.plots.Plot;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.fries.ioc.registry.managed.ManagedRegistrableBuilder.managed;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PoolBenchmark {
+
+    private static final int POOL_SIZE = 8;
+
+    private Pool<Plot> pool;
+
+    @Setup
+    public void setUp() {
+        final Container container = Container.empty()
+                .register(managed(IncrediblePlot.class).pooled(POOL_SIZE, POOL_SIZE))
+                .instantiate();
+
+        pool = container.provide(IncrediblePlot.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Plot borrowFromOneThread() {
+        return borrowAndClose();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Plot borrowFromEightThreads() {
+        return borrowAndClose();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Plot borrowFromSixtyFourThreads() {
+        return borrowAndClose();
+    }
+
+    private Plot borrowAndClose() {
+        try (final Handle<Plot> handle = pool.borrow()) {
+            return handle.get();
+        }
+    }
+}
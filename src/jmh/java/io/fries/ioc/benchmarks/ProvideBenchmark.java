@@ -0,0 +1,46 @@
+package io.fries.ioc.benchmarks;
+
+import io.fries.ioc.Container;
+import org.openjdk.jmh.annotations.*;
+import testable.stories.plots.IncrediblePlot;
+import testable.stories.plots.Plot;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.fries.ioc.registry.managed.ManagedRegistrableBuilder.managed;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProvideBenchmark {
+
+    private Container container;
+
+    @Setup
+    public void setUp() {
+        container = Container.empty()
+                .register(managed(IncrediblePlot.class))
+                .instantiate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Plot provideFromOneThread() {
+        return container.provide(IncrediblePlot.class);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Plot provideFromEightThreads() {
+        return container.provide(IncrediblePlot.class);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Plot provideFromSixtyFourThreads() {
+        return container.provide(IncrediblePlot.class);
+    }
+}
@@ -0,0 +1,71 @@
+package io.fries.ioc.benchmarks;
+
+import io.fries.ioc.Container;
+import io.fries.ioc.registry.proxy.Interceptor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.fries.ioc.registry.managed.ManagedRegistrableBuilder.managed;
+import static io.fries.ioc.registry.proxy.ProxyRegistrableBuilder.proxy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProxyDispatchBenchmark {
+
+    private Counter direct;
+    private Counter proxied;
+    private Counter intercepted;
+
+    @Setup
+    public void setUp() {
+        final Container container = Container.empty()
+                .register(managed(IncrementingCounter.class).as("counter.direct"))
+                .register(proxy(IncrementingCounter.class).of(Counter.class).as("counter.proxied"))
+                .register(proxy(IncrementingCounter.class).of(Counter.class).as("counter.intercepted")
+                        .interceptedBy(Interceptor.before((method, args) -> {
+                        }))
+                        .interceptedBy(Interceptor.after((method, result) -> result)))
+                .instantiate();
+
+        direct = container.provide("counter.direct");
+        proxied = container.provide("counter.proxied");
+        intercepted = container.provide("counter.intercepted");
+    }
+
+    @Benchmark
+    public int invokeDirectly() {
+        return direct.next();
+    }
+
+    @Benchmark
+    public int invokeThroughProxy() {
+        return proxied.next();
+    }
+
+    @Benchmark
+    public int invokeThroughInterceptedProxy() {
+        return intercepted.next();
+    }
+
+    public interface Counter {
+        int next();
+    }
+
+    static class IncrementingCounter implements Counter {
+
+        private int count;
+
+        IncrementingCounter() {
+        }
+
+        @Override
+        public int next() {
+            return ++count;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.fries.ioc.benchmarks;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.SyntheticGraph;
+import io.fries.ioc.registry.SyntheticGraph.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RegistryBenchmark {
+
+    @Param({"CHAIN", "FAN", "DIAMONDS", "RANDOM_DAG", "PROXIED_CYCLES"})
+    private Shape shape;
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private Instantiator instantiator;
+    private Registry registry;
+
+    @Setup
+    public void setUp() {
+        instantiator = new DefaultInstantiator();
+        registry = SyntheticGraph.generate(shape, size);
+    }
+
+    @Benchmark
+    public Components instantiate() {
+        return registry.instantiate(instantiator);
+    }
+}
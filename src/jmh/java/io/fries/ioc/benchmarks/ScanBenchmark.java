@@ -0,0 +1,29 @@
+package io.fries.ioc.benchmarks;
+
+import io.fries.ioc.Container;
+import io.fries.ioc.annotations.Register;
+import io.fries.ioc.scanner.type.ReflectionTypeScanner;
+import org.openjdk.jmh.annotations.*;
+import testable.TestableApplication;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScanBenchmark {
+
+    @Benchmark
+    public Set<Class<?>> findAnnotatedTypes() {
+        return new ReflectionTypeScanner(TestableApplication.class).findAnnotatedBy(Register.class);
+    }
+
+    @Benchmark
+    public Container scanContainer() {
+        return Container.scan(TestableApplication.class);
+    }
+}
@@ -0,0 +1,65 @@
+package io.fries.ioc;
+
+import io.fries.ioc.threads.ContainerThreads;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+
+final class AsyncExecutors {
+
+    private final Map<String, Executor> declaredExecutors;
+    private final ConcurrentHashMap<String, ExecutorService> ownedExecutors;
+    private volatile boolean shutdown;
+
+    private AsyncExecutors(final Map<String, Executor> declaredExecutors) {
+        this.declaredExecutors = declaredExecutors;
+        this.ownedExecutors = new ConcurrentHashMap<>();
+    }
+
+    static AsyncExecutors of(final Map<String, Executor> declaredExecutors) {
+        Objects.requireNonNull(declaredExecutors);
+        return new AsyncExecutors(new HashMap<>(declaredExecutors));
+    }
+
+    static AsyncExecutors none() {
+        return of(emptyMap());
+    }
+
+    Map<String, Executor> getDeclaredExecutors() {
+        return unmodifiableMap(declaredExecutors);
+    }
+
+    Executor find(final String name) {
+        final Executor declaredExecutor = declaredExecutors.get(name);
+        if (!isNull(declaredExecutor))
+            return declaredExecutor;
+
+        final ExecutorService ownedExecutor = ownedExecutors.get(name);
+        return isNull(ownedExecutor) ? createExecutor(name) : ownedExecutor;
+    }
+
+    private synchronized ExecutorService createExecutor(final String name) {
+        final ExecutorService executor = ownedExecutors.computeIfAbsent(name, AsyncExecutors::newExecutor);
+        if (shutdown)
+            executor.shutdown();
+
+        return executor;
+    }
+
+    private static ExecutorService newExecutor(final String name) {
+        return ContainerThreads.newExecutor(name.isEmpty() ? "ioc-container-async" : "ioc-container-async-" + name);
+    }
+
+    synchronized void shutdown() {
+        shutdown = true;
+        ownedExecutors.values().forEach(ExecutorService::shutdown);
+    }
+}
@@ -0,0 +1,100 @@
+package io.fries.ioc;
+
+import io.fries.ioc.annotations.Async;
+import io.fries.ioc.registry.proxy.Interceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.isNull;
+
+final class AsyncInterceptor implements Interceptor {
+
+    private static final MethodHandle SUBMIT = findSubmit();
+
+    private final AsyncExecutors asyncExecutors;
+
+    private AsyncInterceptor(final AsyncExecutors asyncExecutors) {
+        this.asyncExecutors = asyncExecutors;
+    }
+
+    static AsyncInterceptor of(final AsyncExecutors asyncExecutors) {
+        Objects.requireNonNull(asyncExecutors);
+        return new AsyncInterceptor(asyncExecutors);
+    }
+
+    static boolean declaresAsyncMethods(final Class<?> interfaceType) {
+        boolean async = false;
+
+        for (final Method method : interfaceType.getMethods()) {
+            if (!method.isAnnotationPresent(Async.class))
+                continue;
+            if (!isAsynchronous(method.getReturnType()))
+                throw new IllegalArgumentException("Asynchronous methods must return a CompletableFuture or a CompletionStage: " + method);
+
+            async = true;
+        }
+
+        return async;
+    }
+
+    private static boolean isAsynchronous(final Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    @Override
+    public MethodHandle intercept(final Method method, final MethodHandle invocation) {
+        final Async async = method.getAnnotation(Async.class);
+        if (isNull(async))
+            return invocation;
+
+        return MethodHandles.insertArguments(SUBMIT, 0, asyncExecutors.find(async.value()), invocation);
+    }
+
+    private static Object submit(final Executor executor, final MethodHandle invocation, final Object target, final Object[] args) {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> run(invocation, target, args, result));
+        } catch (final RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void run(final MethodHandle invocation, final Object target, final Object[] args, final CompletableFuture<Object> result) {
+        try {
+            final CompletionStage<Object> stage = (CompletionStage<Object>) (Object) invocation.invokeExact(target, args);
+            if (isNull(stage)) {
+                result.complete(null);
+                return;
+            }
+
+            stage.whenComplete((value, failure) -> {
+                if (isNull(failure))
+                    result.complete(value);
+                else
+                    result.completeExceptionally(failure);
+            });
+        } catch (final Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static MethodHandle findSubmit() {
+        try {
+            return MethodHandles.lookup().findStatic(AsyncInterceptor.class, "submit", methodType(Object.class, Executor.class, MethodHandle.class, Object.class, Object[].class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
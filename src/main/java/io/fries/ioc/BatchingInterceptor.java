@@ -0,0 +1,92 @@
+package io.fries.ioc;
+
+import io.fries.ioc.annotations.Async;
+import io.fries.ioc.annotations.Batched;
+import io.fries.ioc.registry.proxy.Interceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.isNull;
+
+final class BatchingInterceptor implements Interceptor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle CALL = findCall();
+
+    private BatchingInterceptor() {
+    }
+
+    static BatchingInterceptor of() {
+        return new BatchingInterceptor();
+    }
+
+    static boolean declaresBatchedMethods(final Class<?> interfaceType) {
+        boolean batched = false;
+
+        for (final Method method : interfaceType.getMethods()) {
+            final Batched batch = method.getAnnotation(Batched.class);
+            if (isNull(batch))
+                continue;
+            if (method.getParameterCount() != 1 || method.getReturnType() == void.class)
+                throw new IllegalArgumentException("Batched methods must take a single key and return a value: " + method);
+            if (method.isAnnotationPresent(Async.class))
+                throw new IllegalArgumentException("Batched methods cannot be asynchronous: " + method);
+
+            findBulkMethod(interfaceType, batch.value());
+            batched = true;
+        }
+
+        return batched;
+    }
+
+    private static Method findBulkMethod(final Class<?> interfaceType, final String name) {
+        for (final Method method : interfaceType.getMethods()) {
+            if (method.getName().equals(name)
+                    && method.getParameterCount() == 1
+                    && method.getParameterTypes()[0].isAssignableFrom(List.class)
+                    && Map.class.isAssignableFrom(method.getReturnType()))
+                return method;
+        }
+
+        throw new IllegalArgumentException("No bulk method " + name + " taking a collection of keys and returning a map of values on " + interfaceType);
+    }
+
+    @Override
+    public MethodHandle intercept(final Method method, final MethodHandle invocation) {
+        final Batched batch = method.getAnnotation(Batched.class);
+        if (isNull(batch))
+            return invocation;
+
+        final Method bulkMethod = findBulkMethod(method.getDeclaringClass(), batch.value());
+        final CallBatcher batcher = CallBatcher.of(bulkInvocationOf(bulkMethod), batch.maximumSize(), TimeUnit.MILLISECONDS.toNanos(batch.windowMillis()));
+
+        return MethodHandles.insertArguments(CALL, 0, batcher);
+    }
+
+    private static MethodHandle bulkInvocationOf(final Method bulkMethod) {
+        try {
+            bulkMethod.setAccessible(true);
+            return LOOKUP.unreflect(bulkMethod).asType(methodType(Object.class, Object.class, Object.class));
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object call(final CallBatcher batcher, final Object target, final Object[] args) throws Throwable {
+        return batcher.call(target, args[0]);
+    }
+
+    private static MethodHandle findCall() {
+        try {
+            return LOOKUP.findStatic(BatchingInterceptor.class, "call", methodType(Object.class, CallBatcher.class, Object.class, Object[].class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
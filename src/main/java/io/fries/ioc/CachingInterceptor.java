@@ -0,0 +1,71 @@
+package io.fries.ioc;
+
+import io.fries.ioc.annotations.Cached;
+import io.fries.ioc.registry.proxy.Interceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.isNull;
+
+final class CachingInterceptor implements Interceptor {
+
+    private static final MethodHandle INVOKE = findInvoke();
+
+    private final LongSupplier clock;
+
+    private CachingInterceptor(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    static CachingInterceptor of() {
+        return of(System::nanoTime);
+    }
+
+    static CachingInterceptor of(final LongSupplier clock) {
+        Objects.requireNonNull(clock);
+        return new CachingInterceptor(clock);
+    }
+
+    static boolean declaresCachedMethods(final Class<?> interfaceType) {
+        boolean cached = false;
+
+        for (final Method method : interfaceType.getMethods()) {
+            if (!method.isAnnotationPresent(Cached.class))
+                continue;
+            if (method.getReturnType() == void.class)
+                throw new IllegalArgumentException("Cached methods must return a value: " + method);
+
+            cached = true;
+        }
+
+        return cached;
+    }
+
+    @Override
+    public MethodHandle intercept(final Method method, final MethodHandle invocation) {
+        final Cached cached = method.getAnnotation(Cached.class);
+        if (isNull(cached))
+            return invocation;
+
+        final MethodCache cache = MethodCache.of(clock, cached.maximumSize(), TimeUnit.MILLISECONDS.toNanos(cached.expireAfterWriteMillis()));
+        return MethodHandles.insertArguments(INVOKE, 0, cache, invocation);
+    }
+
+    private static Object invoke(final MethodCache cache, final MethodHandle invocation, final Object target, final Object[] args) throws Throwable {
+        return cache.get(args, () -> (Object) invocation.invokeExact(target, args));
+    }
+
+    private static MethodHandle findInvoke() {
+        try {
+            return MethodHandles.lookup().findStatic(CachingInterceptor.class, "invoke", methodType(Object.class, MethodCache.class, MethodHandle.class, Object.class, Object[].class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.fries.ioc;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+class CallBatcher {
+
+    private final MethodHandle bulkInvocation;
+    private final int maximumSize;
+    private final long windowNanos;
+    private Batch pendingBatch;
+
+    private CallBatcher(final MethodHandle bulkInvocation, final int maximumSize, final long windowNanos) {
+        this.bulkInvocation = bulkInvocation;
+        this.maximumSize = maximumSize;
+        this.windowNanos = windowNanos;
+    }
+
+    static CallBatcher of(final MethodHandle bulkInvocation, final int maximumSize, final long windowNanos) {
+        Objects.requireNonNull(bulkInvocation);
+
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("The maximum batch size must be positive");
+        if (windowNanos < 0)
+            throw new IllegalArgumentException("The batching window must not be negative");
+
+        return new CallBatcher(bulkInvocation, maximumSize, windowNanos);
+    }
+
+    Object call(final Object target, final Object key) throws Throwable {
+        final Batch batch;
+        final CompletableFuture<Object> result;
+        final boolean leader;
+
+        synchronized (this) {
+            leader = isNull(pendingBatch);
+            if (leader)
+                pendingBatch = new Batch();
+
+            batch = pendingBatch;
+            result = batch.add(key);
+
+            if (batch.size() >= maximumSize)
+                close(batch);
+        }
+
+        if (leader)
+            flush(target, batch);
+
+        return join(result);
+    }
+
+    private void flush(final Object target, final Batch batch) {
+        batch.awaitClosing(windowNanos);
+
+        synchronized (this) {
+            close(batch);
+        }
+
+        batch.invoke(bulkInvocation, target);
+    }
+
+    private void close(final Batch batch) {
+        if (pendingBatch == batch)
+            pendingBatch = null;
+
+        batch.closing.countDown();
+    }
+
+    private Object join(final CompletableFuture<Object> result) throws Throwable {
+        try {
+            return result.join();
+        } catch (final CompletionException e) {
+            throw isNull(e.getCause()) ? e : e.getCause();
+        }
+    }
+
+    private static class Batch {
+
+        private final Map<Object, CompletableFuture<Object>> results = new LinkedHashMap<>();
+        private final CountDownLatch closing = new CountDownLatch(1);
+
+        private CompletableFuture<Object> add(final Object key) {
+            return results.computeIfAbsent(key, ignored -> new CompletableFuture<>());
+        }
+
+        private int size() {
+            return results.size();
+        }
+
+        private void awaitClosing(final long windowNanos) {
+            try {
+                closing.await(windowNanos, TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void invoke(final MethodHandle bulkInvocation, final Object target) {
+            final Map<?, ?> values;
+
+            try {
+                values = (Map<?, ?>) (Object) bulkInvocation.invokeExact(target, (Object) new ArrayList<>(results.keySet()));
+            } catch (final Throwable e) {
+                results.values().forEach(result -> result.completeExceptionally(e));
+                return;
+            }
+
+            results.forEach((key, result) -> result.complete(isNull(values) ? null : values.get(key)));
+        }
+    }
+}
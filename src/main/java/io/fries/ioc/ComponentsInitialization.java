@@ -0,0 +1,136 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.ComponentInitializationException;
+import io.fries.ioc.instantiator.InitializationHooks;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.threads.ContainerThreads;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static java.util.Objects.isNull;
+
+class ComponentsInitialization {
+
+    private final Components components;
+    private final Registry registry;
+
+    private ComponentsInitialization(final Components components, final Registry registry) {
+        this.components = components;
+        this.registry = registry;
+    }
+
+    static ComponentsInitialization of(final Components components, final Registry registry) {
+        Objects.requireNonNull(components);
+        Objects.requireNonNull(registry);
+
+        return new ComponentsInitialization(components, registry);
+    }
+
+    void initialize(final List<Id> instantiationOrder) {
+        if (!requiresInitialization(instantiationOrder))
+            return;
+
+        final ExecutorService executor = ContainerThreads.newExecutor("ioc-container-initialization");
+        try {
+            initialize(instantiationOrder, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    void initialize(final List<Id> instantiationOrder, final Executor executor) {
+        if (!requiresInitialization(instantiationOrder))
+            return;
+
+        final Map<Id, CompletableFuture<Void>> initializations = new LinkedHashMap<>();
+        for (int index = 0; index < instantiationOrder.size(); index++) {
+            final Id id = instantiationOrder.get(index);
+            final List<CompletableFuture<Void>> prerequisites = findPrerequisites(registry.get(id), instantiationOrder.subList(0, index), initializations);
+
+            initializations.put(id, schedule(id, prerequisites, executor));
+        }
+
+        await(initializations.values());
+    }
+
+    private boolean requiresInitialization(final List<Id> instantiationOrder) {
+        for (final Id id : instantiationOrder) {
+            if (InitializationHooks.isInitializable(components.get(id).getRawInstance()))
+                return true;
+        }
+
+        return false;
+    }
+
+    private List<CompletableFuture<Void>> findPrerequisites(final Registrable registrable, final List<Id> instantiatedBefore, final Map<Id, CompletableFuture<Void>> initializations) {
+        if (registrable.getDependencies().isEmpty() && registrable.countDependencies(registry) == 0)
+            return Collections.emptyList();
+
+        final Collection<Id> dependencies = registrable.getDependencies().isEmpty()
+                ? instantiatedBefore
+                : new LinkedHashSet<>(registrable.getDependencies());
+
+        final List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+        for (final Id dependency : dependencies) {
+            final CompletableFuture<Void> initialization = initializations.get(dependency);
+            if (!isNull(initialization))
+                prerequisites.add(initialization);
+        }
+
+        return prerequisites;
+    }
+
+    private CompletableFuture<Void> schedule(final Id id, final List<CompletableFuture<Void>> prerequisites, final Executor executor) {
+        final CompletableFuture<Void> initialized = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture<?>[0]));
+        final Object instance = components.get(id).getRawInstance();
+
+        if (!InitializationHooks.isInitializable(instance))
+            return initialized;
+
+        return initialized.thenRunAsync(() -> InitializationHooks.initialize(instance), executor);
+    }
+
+    private void await(final Collection<CompletableFuture<Void>> initializations) {
+        final Set<Throwable> causes = Collections.newSetFromMap(new IdentityHashMap<>());
+        ComponentInitializationException failure = null;
+
+        try {
+            for (final CompletableFuture<Void> initialization : initializations) {
+                final Throwable cause = awaitFailure(initialization);
+                if (!isNull(cause) && causes.add(cause))
+                    failure = fail(failure, cause);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            initializations.forEach(initialization -> initialization.cancel(true));
+            failure = fail(failure, e);
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    private Throwable awaitFailure(final CompletableFuture<Void> initialization) throws InterruptedException {
+        try {
+            initialization.get();
+            return null;
+        } catch (final ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private ComponentInitializationException fail(final ComponentInitializationException failure, final Throwable cause) {
+        if (!isNull(failure)) {
+            failure.addSuppressed(cause);
+            return failure;
+        }
+
+        return cause instanceof ComponentInitializationException
+                ? (ComponentInitializationException) cause
+                : new ComponentInitializationException(cause);
+    }
+}
@@ -0,0 +1,195 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.ComponentCloseException;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static java.util.Objects.isNull;
+
+class ComponentsShutdown {
+
+    private final Components components;
+    private final Registry registry;
+    private final Map<Id, List<Id>> dependencies;
+    private final Map<Id, Integer> remainingDependents;
+    private final Map<Future<Id>, Long> deadlines;
+    private final Map<Future<Id>, Id> closing;
+    private ComponentCloseException failure;
+
+    private ComponentsShutdown(final Components components, final Registry registry) {
+        this.components = components;
+        this.registry = registry;
+        this.dependencies = new HashMap<>();
+        this.remainingDependents = new HashMap<>();
+        this.deadlines = new HashMap<>();
+        this.closing = new HashMap<>();
+    }
+
+    static ComponentsShutdown of(final Components components, final Registry registry) {
+        Objects.requireNonNull(components);
+        Objects.requireNonNull(registry);
+
+        return new ComponentsShutdown(components, registry);
+    }
+
+    void close(final Executor executor, final Duration timeout) {
+        final List<Id> instantiationOrder = registry.instantiationOrder();
+        final Deque<Id> ready = findComponentsWithoutDependents(instantiationOrder);
+        final CompletionService<Id> completionService = new ExecutorCompletionService<>(executor);
+
+        try {
+            while (!ready.isEmpty() || !closing.isEmpty()) {
+                while (!ready.isEmpty())
+                    submit(ready.pop(), completionService, timeout, ready);
+
+                if (!closing.isEmpty())
+                    awaitNextClosing(completionService, ready);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closing.keySet().forEach(future -> future.cancel(true));
+            fail(e);
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    void close(final List<Id> ids) {
+        final Set<Id> owned = new HashSet<>(registry.instantiationOrder());
+
+        for (int index = ids.size() - 1; index >= 0; index--) {
+            if (!owned.contains(ids.get(index)))
+                continue;
+
+            final Optional<AutoCloseable> closeable = findCloseable(ids.get(index));
+
+            try {
+                if (closeable.isPresent())
+                    closeable.get().close();
+            } catch (final Exception e) {
+                fail(e);
+            }
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    private Deque<Id> findComponentsWithoutDependents(final List<Id> instantiationOrder) {
+        final Set<Id> owned = new HashSet<>(instantiationOrder);
+
+        for (int index = 0; index < instantiationOrder.size(); index++) {
+            final Id id = instantiationOrder.get(index);
+            final List<Id> closedAfter = findClosedAfter(registry.get(id), instantiationOrder.subList(0, index), owned);
+
+            dependencies.put(id, closedAfter);
+            remainingDependents.putIfAbsent(id, 0);
+            closedAfter.forEach(dependency -> remainingDependents.merge(dependency, 1, Integer::sum));
+        }
+
+        final Deque<Id> ready = new ArrayDeque<>();
+        for (int index = instantiationOrder.size() - 1; index >= 0; index--) {
+            if (remainingDependents.get(instantiationOrder.get(index)) == 0)
+                ready.addLast(instantiationOrder.get(index));
+        }
+
+        return ready;
+    }
+
+    private List<Id> findClosedAfter(final Registrable registrable, final List<Id> instantiatedBefore, final Set<Id> owned) {
+        if (registrable.getDependencies().isEmpty())
+            return registrable.countDependencies(registry) > 0 ? instantiatedBefore : Collections.emptyList();
+
+        final List<Id> closedAfter = new ArrayList<>();
+        for (final Id dependency : new LinkedHashSet<>(registrable.getDependencies())) {
+            if (owned.contains(dependency))
+                closedAfter.add(dependency);
+        }
+
+        return closedAfter;
+    }
+
+    private void submit(final Id id, final CompletionService<Id> completionService, final Duration timeout, final Deque<Id> ready) {
+        final Optional<AutoCloseable> closeable = findCloseable(id);
+
+        if (!closeable.isPresent()) {
+            release(id, ready);
+            return;
+        }
+
+        final Future<Id> future = completionService.submit(() -> {
+            closeable.get().close();
+            return id;
+        });
+        closing.put(future, id);
+        deadlines.put(future, System.nanoTime() + timeout.toNanos());
+    }
+
+    private Optional<AutoCloseable> findCloseable(final Id id) {
+        return ProxyRegistrable.unwrap(components.get(id).getRawInstance())
+                .filter(AutoCloseable.class::isInstance)
+                .map(AutoCloseable.class::cast);
+    }
+
+    private void awaitNextClosing(final CompletionService<Id> completionService, final Deque<Id> ready) throws InterruptedException {
+        final long nextDeadline = Collections.min(deadlines.values());
+        final Future<Id> completed = completionService.poll(Math.max(0, nextDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+        if (!isNull(completed)) {
+            complete(completed, ready);
+            return;
+        }
+
+        final long now = System.nanoTime();
+        for (final Future<Id> future : new ArrayList<>(closing.keySet())) {
+            if (deadlines.get(future) - now > 0)
+                continue;
+
+            future.cancel(true);
+            fail(new TimeoutException("The component did not close in time: " + closing.get(future)));
+            release(forget(future), ready);
+        }
+    }
+
+    private void complete(final Future<Id> future, final Deque<Id> ready) throws InterruptedException {
+        if (!closing.containsKey(future))
+            return;
+
+        try {
+            future.get();
+        } catch (final ExecutionException e) {
+            fail(e.getCause());
+        } catch (final CancellationException e) {
+            fail(e);
+        }
+
+        release(forget(future), ready);
+    }
+
+    private Id forget(final Future<Id> future) {
+        deadlines.remove(future);
+        return closing.remove(future);
+    }
+
+    private void release(final Id id, final Deque<Id> ready) {
+        for (final Id dependency : dependencies.get(id)) {
+            if (remainingDependents.merge(dependency, -1, Integer::sum) == 0)
+                ready.addLast(dependency);
+        }
+    }
+
+    private void fail(final Throwable cause) {
+        if (isNull(failure))
+            failure = new ComponentCloseException(cause);
+        else
+            failure.addSuppressed(cause);
+    }
+}
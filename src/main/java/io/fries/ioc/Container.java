@@ -1,27 +1,77 @@
 package io.fries.ioc;
 
+import io.fries.ioc.components.ComponentCloseException;
 import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
 import io.fries.ioc.instantiator.DefaultInstantiator;
 import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.instrumentation.ContainerEvents;
+import io.fries.ioc.instrumentation.ContainerMetrics;
+import io.fries.ioc.instrumentation.FlightRecorderEvent;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.RegistrableBuilder;
 import io.fries.ioc.registry.Registry;
 import io.fries.ioc.scanner.ComponentsScanner;
 import io.fries.ioc.scanner.registrable.RegistrableScanner;
+import io.fries.ioc.threads.ContainerThreads;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
 
-public class Container {
+public class Container implements AutoCloseable {
 
-    private final Components components;
+    private static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30);
 
-    private Container(final Components components) {
+    private final Instantiator instantiator;
+    private final ScopeSlotsPool scopeSlotsPool;
+    private final ScopeExpiration scopeExpiration;
+    private final ConcurrentHashMap<Object, Id> identifiers;
+    private final StartupProfile startupProfile;
+    private final ProxyInterception interception;
+    private volatile Components components;
+    private volatile SessionScopes sessionScopes;
+    private Registry registry;
+    private Registry registeredRegistry;
+    private boolean closed;
+
+    private Container(final Components components, final Registry registry, final Registry registeredRegistry, final Instantiator instantiator, final ScopeExpiration scopeExpiration, final StartupProfile startupProfile, final ProxyInterception interception) {
         this.components = components;
+        this.registry = registry;
+        this.registeredRegistry = registeredRegistry;
+        this.instantiator = instantiator;
+        this.scopeSlotsPool = ScopeSlotsPool.withDefaultCapacity();
+        this.scopeExpiration = scopeExpiration;
+        this.identifiers = new ConcurrentHashMap<>();
+        this.startupProfile = startupProfile;
+        this.interception = interception;
     }
 
     static Container of(final Components components) {
-        return new Container(components);
+        return of(components, Registry.empty(), new DefaultInstantiator(), ScopeExpiration.never());
+    }
+
+    static Container of(final Components components, final Registry registry, final Instantiator instantiator, final ScopeExpiration scopeExpiration) {
+        return of(components, registry, registry, instantiator, scopeExpiration, StartupProfile.disabled(), ProxyInterception.none());
+    }
+
+    static Container of(final Components components, final Registry registry, final Registry registeredRegistry, final Instantiator instantiator, final ScopeExpiration scopeExpiration, final StartupProfile startupProfile, final ProxyInterception interception) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(registeredRegistry);
+        Objects.requireNonNull(instantiator);
+        Objects.requireNonNull(scopeExpiration);
+        Objects.requireNonNull(startupProfile);
+        Objects.requireNonNull(interception);
+
+        return new Container(components, registry, registeredRegistry, instantiator, scopeExpiration, startupProfile, interception);
     }
 
     @SuppressWarnings("WeakerAccess")
@@ -35,6 +85,17 @@ public class Container {
         return RegistrationContainer.of(new DefaultInstantiator(), Registry.empty());
     }
 
+    @SuppressWarnings("WeakerAccess")
+    public static RegistrationContainer concurrentUsing(final Instantiator instantiator) {
+        Objects.requireNonNull(instantiator);
+        return RegistrationContainer.of(instantiator, Registry.concurrent());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static RegistrationContainer concurrent() {
+        return RegistrationContainer.of(new DefaultInstantiator(), Registry.concurrent());
+    }
+
     @SuppressWarnings("WeakerAccess")
     public static Container scan(final Class<?> entryPoint, final RegistrableScanner... scanners) {
         return scan(entryPoint, empty(), scanners);
@@ -50,8 +111,181 @@ public class Container {
 
     @SuppressWarnings("WeakerAccess")
     public <T, ID> T provide(final ID id) {
+        final Id cachedId = identifiers.get(id);
+        final Id componentId = isNull(cachedId) ? Id.of(id) : cachedId;
+        final FlightRecorderEvent event = ContainerEvents.beginSampledProvide();
+
+        try {
+            final T instance = lookup(componentId);
+            startupProfile.accessed(componentId);
+            if (isNull(cachedId))
+                cacheIdentifier(id, componentId);
+
+            return instance;
+        } finally {
+            event.commit(componentId);
+        }
+    }
+
+    private <T> T lookup(final Id componentId) {
+        final T instance;
+        try {
+            instance = components.getInstance(componentId);
+        } catch (final NoSuchElementException e) {
+            ContainerMetrics.installed().missed();
+            throw e;
+        }
+
+        ContainerMetrics.installed().provided(componentId);
+        return instance;
+    }
+
+    // Only value-based identifiers are cached, and only once resolved, so that the cache stays bounded by the registered components.
+    private void cacheIdentifier(final Object id, final Id componentId) {
+        if (id instanceof String || id instanceof Class)
+            identifiers.putIfAbsent(id, componentId);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public synchronized RegistrationContainer child() {
+        return RegistrationContainer.childOf(instantiator, registeredRegistry, components, scopeExpiration, interception);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public <ID> Container replace(final ID id, final RegistrableBuilder registrableBuilder) {
+        final Registrable registrable = registrableBuilder.build();
+        return replace(id, registrable);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public synchronized <ID> Container replace(final ID id, final Registrable registrable) {
+        publishReplacement(id, registrable);
+        return this;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public <ID> Container replaceAndClose(final ID id, final RegistrableBuilder registrableBuilder) {
+        final Registrable registrable = registrableBuilder.build();
+        return replaceAndClose(id, registrable);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public synchronized <ID> Container replaceAndClose(final ID id, final Registrable registrable) {
+        final ComponentsShutdown replacedShutdown = ComponentsShutdown.of(components, registry);
+        replacedShutdown.close(publishReplacement(id, registrable));
+
+        return this;
+    }
+
+    private <ID> List<Id> publishReplacement(final ID id, final Registrable registrable) {
         final Id componentId = Id.of(id);
-        return components.getInstance(componentId);
+
+        if (!componentId.equals(registrable.getId()))
+            throw new IllegalArgumentException("The replacing component must be registered with the id: " + componentId);
+        if (!registry.contains(componentId))
+            throw new IllegalStateException("Only the components registered in the registry of the container can be replaced: " + componentId);
+
+        final Registry replacedRegistry = registry.replace(interception.intercept(registrable));
+        final Components replacedComponents = replacedRegistry.reinstantiate(instantiator, components, componentId);
+        final List<Id> reinstantiated = findReinstantiated(replacedRegistry, replacedComponents);
+        ComponentsInitialization.of(replacedComponents, replacedRegistry).initialize(reinstantiated);
+
+        registry = replacedRegistry;
+        registeredRegistry = registeredRegistry.replace(registrable);
+        components = replacedComponents;
+
+        return reinstantiated;
+    }
+
+    private List<Id> findReinstantiated(final Registry replacedRegistry, final Components replacedComponents) {
+        final List<Id> reinstantiated = new ArrayList<>();
+        for (final Id id : replacedRegistry.instantiationOrder()) {
+            if (components.get(id).getRawInstance() != replacedComponents.get(id).getRawInstance())
+                reinstantiated.add(id);
+        }
+
+        return reinstantiated;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public ScopedContainer openScope() {
+        return ScopedContainer.open(components, scopeSlotsPool);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public <K> ScopedContainer scope(final K key) {
+        return sessionScopes().get(key);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public <K> void closeScope(final K key) {
+        sessionScopes().close(key);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public int expireScopes() {
+        return sessionScopes().expire();
+    }
+
+    @Override
+    public void close() {
+        final ExecutorService executor = ContainerThreads.newExecutor("ioc-container-shutdown");
+
+        try {
+            close(executor, DEFAULT_CLOSE_TIMEOUT);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public synchronized void close(final Executor executor, final Duration timeout) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(timeout);
+
+        if (closed)
+            return;
+
+        closed = true;
+        startupProfile.save();
+
+        ComponentCloseException failure = closeSessionScopes();
+        try {
+            ComponentsShutdown.of(components, registry).close(executor, timeout);
+        } catch (final ComponentCloseException e) {
+            if (isNull(failure))
+                failure = e;
+            else
+                failure.addSuppressed(e);
+        } finally {
+            interception.shutdown();
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    private ComponentCloseException closeSessionScopes() {
+        try {
+            if (!isNull(sessionScopes))
+                sessionScopes.closeAll();
+
+            return null;
+        } catch (final ComponentCloseException e) {
+            return e;
+        }
+    }
+
+    private SessionScopes sessionScopes() {
+        if (isNull(sessionScopes))
+            createSessionScopes();
+
+        return sessionScopes;
+    }
+
+    private synchronized void createSessionScopes() {
+        if (isNull(sessionScopes))
+            sessionScopes = SessionScopes.of(() -> components, scopeSlotsPool, scopeExpiration);
     }
 
     @Override
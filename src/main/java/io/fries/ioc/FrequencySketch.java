@@ -0,0 +1,89 @@
+package io.fries.ioc;
+
+class FrequencySketch {
+
+    private static final long[] SEEDS = {0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MINIMUM_CAPACITY = 8;
+    private static final int SAMPLE_FACTOR = 10;
+
+    private final long[] table;
+    private final int sampleSize;
+    private int additions;
+
+    private FrequencySketch(final int capacity, final int sampleSize) {
+        this.table = new long[capacity];
+        this.sampleSize = sampleSize;
+    }
+
+    static FrequencySketch of(final int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("The maximum size must be positive");
+
+        final int capacity = Integer.highestOneBit(Math.max(maximumSize, MINIMUM_CAPACITY) - 1) << 1;
+        return new FrequencySketch(capacity, SAMPLE_FACTOR * maximumSize);
+    }
+
+    int frequency(final Object element) {
+        final int hash = spread(element.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            final int index = indexOf(hash, depth);
+            final int count = (int) ((table[index] >>> ((start + depth) << 2)) & 0xFL);
+            frequency = Math.min(frequency, count);
+        }
+
+        return frequency;
+    }
+
+    void increment(final Object element) {
+        final int hash = spread(element.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+
+        for (int depth = 0; depth < SEEDS.length; depth++)
+            added |= incrementAt(indexOf(hash, depth), start + depth);
+
+        if (added && ++additions == sampleSize)
+            reset();
+    }
+
+    private boolean incrementAt(final int index, final int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xFL << offset;
+
+        if ((table[index] & mask) == mask)
+            return false;
+
+        table[index] += 1L << offset;
+        return true;
+    }
+
+    private void reset() {
+        int odd = 0;
+
+        for (int index = 0; index < table.length; index++) {
+            odd += Long.bitCount(table[index] & ONE_MASK);
+            table[index] = (table[index] >>> 1) & RESET_MASK;
+        }
+
+        additions = (additions >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(final int hash, final int depth) {
+        long indexHash = (hash + SEEDS[depth]) * SEEDS[depth];
+        indexHash += indexHash >>> 32;
+
+        return (int) indexHash & (table.length - 1);
+    }
+
+    private static int spread(final int hashCode) {
+        int hash = ((hashCode >>> 16) ^ hashCode) * 0x45D9F3B;
+        hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,143 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instrumentation.ConstructionCosts;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.managed.ManagedRegistrable;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+
+class LazyProxyInsertion {
+
+    private static final LazyProxyInsertion DISABLED = new LazyProxyInsertion(null, ConstructionCosts.empty(), Duration.ZERO, Collections.emptyList());
+
+    private final Path file;
+    private final ConstructionCosts costs;
+    private final Duration threshold;
+    private final List<Id> roots;
+
+    private LazyProxyInsertion(final Path file, final ConstructionCosts costs, final Duration threshold, final List<Id> roots) {
+        this.file = file;
+        this.costs = costs;
+        this.threshold = threshold;
+        this.roots = roots;
+    }
+
+    static LazyProxyInsertion of(final Path file, final Duration threshold, final List<Id> roots) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(threshold);
+        Objects.requireNonNull(roots);
+
+        if (threshold.isNegative())
+            throw new IllegalArgumentException("The threshold must not be negative");
+
+        return new LazyProxyInsertion(file, ConstructionCosts.load(file), threshold, roots);
+    }
+
+    static LazyProxyInsertion disabled() {
+        return DISABLED;
+    }
+
+    Registry apply(final Registry registry) {
+        if (isNull(file))
+            return registry;
+
+        final List<Id> owned = registry.instantiationOrder();
+        final Set<Id> requiredByRoots = findRequiredByRoots(registry);
+        final Map<Id, List<Registrable>> dependents = findDependents(registry, owned);
+
+        Registry proxiedRegistry = registry.listenedBy(costs);
+        for (final Id id : owned) {
+            final Registrable registrable = registry.get(id);
+            if (!(registrable instanceof ManagedRegistrable) || requiredByRoots.contains(id) || !isSlow(id))
+                continue;
+
+            final ManagedRegistrable managed = (ManagedRegistrable) registrable;
+            final Optional<Class<?>> interfaceType = findProxiedInterface(managed, dependents.getOrDefault(id, Collections.emptyList()));
+            if (interfaceType.isPresent())
+                proxiedRegistry = proxiedRegistry.replace(ProxyRegistrable.of(id, interfaceType.get(), managed.getType(), managed.getDependencies()));
+        }
+
+        return proxiedRegistry;
+    }
+
+    void save() {
+        if (isNull(file))
+            return;
+
+        try {
+            costs.save(file);
+        } catch (final UncheckedIOException ignored) {
+            // The costs only tune the next boot, so failing to persist them must not affect this one.
+        }
+    }
+
+    private boolean isSlow(final Id id) {
+        return costs.find(id)
+                .map(cost -> cost.compareTo(threshold) >= 0)
+                .orElse(false);
+    }
+
+    private Set<Id> findRequiredByRoots(final Registry registry) {
+        final Set<Id> required = new HashSet<>(roots);
+        final Deque<Id> pending = new ArrayDeque<>(roots);
+
+        while (!pending.isEmpty()) {
+            for (final Id dependency : registry.get(pending.pop()).getDependencies()) {
+                if (required.add(dependency))
+                    pending.push(dependency);
+            }
+        }
+
+        return required;
+    }
+
+    private Map<Id, List<Registrable>> findDependents(final Registry registry, final List<Id> owned) {
+        final Map<Id, List<Registrable>> dependents = new HashMap<>();
+
+        for (final Id id : owned) {
+            final Registrable registrable = registry.get(id);
+            for (final Id dependency : new LinkedHashSet<>(registrable.getDependencies()))
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(registrable);
+        }
+
+        return dependents;
+    }
+
+    private Optional<Class<?>> findProxiedInterface(final ManagedRegistrable managed, final List<Registrable> dependents) {
+        final Class<?>[] interfaces = managed.getType().getInterfaces();
+        if (interfaces.length != 1)
+            return Optional.empty();
+
+        for (final Registrable dependent : dependents) {
+            if (!acceptsInterface(dependent, managed.getId(), interfaces[0]))
+                return Optional.empty();
+        }
+
+        return Optional.of(interfaces[0]);
+    }
+
+    private boolean acceptsInterface(final Registrable dependent, final Id id, final Class<?> interfaceType) {
+        if (!(dependent instanceof ManagedRegistrable))
+            return false;
+
+        final Class<?>[] parameterTypes = ((ManagedRegistrable) dependent).getType().getDeclaredConstructors()[0].getParameterTypes();
+        final List<Id> dependencies = dependent.getDependencies();
+        if (parameterTypes.length != dependencies.size())
+            return false;
+
+        for (int index = 0; index < parameterTypes.length; index++) {
+            if (dependencies.get(index).equals(id) && !parameterTypes[index].isAssignableFrom(interfaceType))
+                return false;
+        }
+
+        return true;
+    }
+}
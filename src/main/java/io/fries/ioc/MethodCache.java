@@ -0,0 +1,145 @@
+package io.fries.ioc;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.isNull;
+
+class MethodCache {
+
+    private final LongSupplier clock;
+    private final long expireAfterWriteNanos;
+    private final ConcurrentHashMap<Arguments, Entry> entries;
+    private final TinyLfuPolicy<Arguments> policy;
+
+    private MethodCache(final LongSupplier clock, final int maximumSize, final long expireAfterWriteNanos) {
+        this.clock = clock;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.entries = new ConcurrentHashMap<>();
+        this.policy = TinyLfuPolicy.of(maximumSize);
+    }
+
+    static MethodCache of(final LongSupplier clock, final int maximumSize, final long expireAfterWriteNanos) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("The maximum size must be positive");
+        if (expireAfterWriteNanos < 0)
+            throw new IllegalArgumentException("The expiration delay must not be negative");
+
+        return new MethodCache(clock, maximumSize, expireAfterWriteNanos);
+    }
+
+    Object get(final Object[] args, final Loader loader) throws Throwable {
+        final Arguments key = Arguments.of(args);
+
+        final Entry existing = entries.get(key);
+        if (!isNull(existing) && !isExpired(existing)) {
+            policy.recordAccess(key);
+            return join(existing);
+        }
+
+        if (!isNull(existing) && entries.remove(key, existing))
+            policy.remove(key);
+
+        final Entry created = new Entry();
+        final Entry concurrent = entries.putIfAbsent(key, created);
+        if (!isNull(concurrent)) {
+            policy.recordAccess(key);
+            return join(concurrent);
+        }
+
+        return load(key, created, loader);
+    }
+
+    private Object load(final Arguments key, final Entry created, final Loader loader) throws Throwable {
+        final Object value;
+
+        try {
+            value = loader.load();
+        } catch (final Throwable e) {
+            entries.remove(key, created);
+            created.value.completeExceptionally(e);
+            throw e;
+        }
+
+        created.writeNanos = clock.getAsLong();
+        created.value.complete(value);
+        policy.admit(key, () -> entries.get(key) == created, entries::remove);
+
+        if (value instanceof CompletionStage)
+            ((CompletionStage<?>) value).whenComplete((result, failure) -> evictFailed(key, created, failure));
+
+        return value;
+    }
+
+    // A failed future is evicted once it completes, so that the next call retries instead of replaying the failure.
+    private void evictFailed(final Arguments key, final Entry entry, final Throwable failure) {
+        if (!isNull(failure) && entries.remove(key, entry))
+            policy.remove(key);
+    }
+
+    private boolean isExpired(final Entry entry) {
+        return expireAfterWriteNanos > 0
+                && entry.value.isDone()
+                && clock.getAsLong() - entry.writeNanos >= expireAfterWriteNanos;
+    }
+
+    private Object join(final Entry entry) throws Throwable {
+        try {
+            return entry.value.join();
+        } catch (final CompletionException e) {
+            throw isNull(e.getCause()) ? e : e.getCause();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        Object load() throws Throwable;
+    }
+
+    private static class Entry {
+
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
+        private volatile long writeNanos;
+    }
+
+    private static class Arguments {
+
+        private final Object[] values;
+        private final int hashCode;
+
+        private Arguments(final Object[] values) {
+            this.values = values;
+            this.hashCode = Arrays.deepHashCode(values);
+        }
+
+        private static Arguments of(final Object[] args) {
+            return new Arguments(isNull(args) ? new Object[0] : args.clone());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Arguments arguments = (Arguments) o;
+            return Arrays.deepEquals(values, arguments.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(values);
+        }
+    }
+}
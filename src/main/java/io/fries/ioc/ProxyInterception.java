@@ -0,0 +1,82 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.Interceptor;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+final class ProxyInterception {
+
+    private final List<Interceptor> interceptors;
+    private final AsyncExecutors asyncExecutors;
+
+    private ProxyInterception(final List<Interceptor> interceptors, final AsyncExecutors asyncExecutors) {
+        this.interceptors = interceptors;
+        this.asyncExecutors = asyncExecutors;
+    }
+
+    static ProxyInterception of(final List<Interceptor> interceptors, final AsyncExecutors asyncExecutors) {
+        Objects.requireNonNull(interceptors);
+        Objects.requireNonNull(asyncExecutors);
+
+        return new ProxyInterception(unmodifiableList(new ArrayList<>(interceptors)), asyncExecutors);
+    }
+
+    static ProxyInterception none() {
+        return of(emptyList(), AsyncExecutors.none());
+    }
+
+    List<Interceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    Map<String, Executor> getDeclaredExecutors() {
+        return asyncExecutors.getDeclaredExecutors();
+    }
+
+    Registry intercept(final Registry registry) {
+        Registry interceptedRegistry = registry;
+        for (final Id id : registry.instantiationOrder()) {
+            final Registrable registrable = registry.get(id);
+            final Registrable interceptedRegistrable = intercept(registrable);
+
+            if (interceptedRegistrable != registrable)
+                interceptedRegistry = interceptedRegistry.replace(interceptedRegistrable);
+        }
+
+        return interceptedRegistry;
+    }
+
+    Registrable intercept(final Registrable registrable) {
+        if (!(registrable instanceof ProxyRegistrable))
+            return registrable;
+
+        final ProxyRegistrable proxyRegistrable = (ProxyRegistrable) registrable;
+        ProxyRegistrable interceptedRegistrable = proxyRegistrable;
+        for (final Interceptor interceptor : interceptors)
+            interceptedRegistrable = interceptedRegistrable.interceptedBy(interceptor);
+
+        if (CachingInterceptor.declaresCachedMethods(proxyRegistrable.getInterfaceType()))
+            interceptedRegistrable = interceptedRegistrable.interceptedBy(CachingInterceptor.of());
+        if (BatchingInterceptor.declaresBatchedMethods(proxyRegistrable.getInterfaceType()))
+            interceptedRegistrable = interceptedRegistrable.interceptedBy(BatchingInterceptor.of());
+        if (AsyncInterceptor.declaresAsyncMethods(proxyRegistrable.getInterfaceType()))
+            interceptedRegistrable = interceptedRegistrable.interceptedBy(AsyncInterceptor.of(asyncExecutors));
+
+        return interceptedRegistrable;
+    }
+
+    void shutdown() {
+        asyncExecutors.shutdown();
+    }
+}
@@ -1,23 +1,76 @@
 package io.fries.ioc;
 
 import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
 import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.instrumentation.ChromeTrace;
+import io.fries.ioc.instrumentation.InstantiationListener;
+import io.fries.ioc.instrumentation.StartupPhase;
 import io.fries.ioc.registry.Registrable;
 import io.fries.ioc.registry.RegistrableBuilder;
 import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.Interceptor;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toList;
 
 public class RegistrationContainer {
 
     private final Instantiator instantiator;
-    private Registry registry;
+    private volatile Registry registry;
+    private Components parentComponents;
+    private ScopeExpiration scopeExpiration;
+    private Executor initializationExecutor;
+    private StartupProfile startupProfile;
+    private LazyProxyInsertion lazyProxyInsertion;
+    private final List<Interceptor> interceptors;
+    private final Map<String, Executor> asyncExecutors;
+    private ChromeTrace systemTrace;
 
     private RegistrationContainer(final Instantiator instantiator, final Registry registry) {
         this.instantiator = instantiator;
         this.registry = registry;
+        this.scopeExpiration = ScopeExpiration.never();
+        this.startupProfile = StartupProfile.disabled();
+        this.lazyProxyInsertion = LazyProxyInsertion.disabled();
+        this.interceptors = new ArrayList<>();
+        this.asyncExecutors = new HashMap<>();
     }
 
     static RegistrationContainer of(final Instantiator instantiator, final Registry registry) {
-        return new RegistrationContainer(instantiator, registry);
+        final RegistrationContainer registrationContainer = new RegistrationContainer(instantiator, registry);
+        ChromeTrace.claimSystemTrace().ifPresent(registrationContainer::traceStartup);
+
+        return registrationContainer;
+    }
+
+    static RegistrationContainer childOf(final Instantiator instantiator, final Registry parentRegistry, final Components parentComponents, final ScopeExpiration scopeExpiration, final ProxyInterception parentInterception) {
+        Objects.requireNonNull(parentComponents);
+        Objects.requireNonNull(scopeExpiration);
+        Objects.requireNonNull(parentInterception);
+
+        final RegistrationContainer registrationContainer = new RegistrationContainer(instantiator, parentRegistry.child());
+        registrationContainer.parentComponents = parentComponents;
+        registrationContainer.scopeExpiration = scopeExpiration;
+        registrationContainer.interceptors.addAll(parentInterception.getInterceptors());
+        registrationContainer.asyncExecutors.putAll(parentInterception.getDeclaredExecutors());
+
+        return registrationContainer;
+    }
+
+    private void traceStartup(final ChromeTrace systemTrace) {
+        this.systemTrace = systemTrace;
+        listenInstantiations(systemTrace);
     }
 
     @SuppressWarnings("WeakerAccess")
@@ -32,8 +85,84 @@ public class RegistrationContainer {
         return this;
     }
 
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer listenInstantiations(final InstantiationListener instantiationListener) {
+        registry = registry.listenedBy(instantiationListener);
+        return this;
+    }
+
+    public InstantiationListener getInstantiationListener() {
+        return registry.getInstantiationListener();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer expireScopes(final ScopeExpiration scopeExpiration) {
+        this.scopeExpiration = Objects.requireNonNull(scopeExpiration);
+        return this;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer initializeOn(final Executor executor) {
+        this.initializationExecutor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer profileStartup(final Path file, final Duration window) {
+        this.startupProfile = StartupProfile.of(file, window);
+        return this;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer proxySlowComponents(final Path costs, final Duration threshold, final Object... roots) {
+        Objects.requireNonNull(roots);
+        this.lazyProxyInsertion = LazyProxyInsertion.of(costs, threshold, stream(roots).map(Id::of).collect(toList()));
+        return this;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer interceptProxies(final Interceptor interceptor) {
+        this.interceptors.add(Objects.requireNonNull(interceptor));
+        return this;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public RegistrationContainer executeAsyncOn(final String name, final Executor executor) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(executor);
+
+        this.asyncExecutors.put(name, executor);
+        return this;
+    }
+
     public Container instantiate() {
-        final Components components = registry.instantiate(instantiator);
-        return Container.of(components);
+        final ProxyInterception interception = ProxyInterception.of(interceptors, AsyncExecutors.of(asyncExecutors));
+        final Registry registeredRegistry = lazyProxyInsertion.apply(registry);
+        final Registry instantiatedRegistry = interception.intercept(registeredRegistry);
+        final Components components = isNull(parentComponents)
+                ? instantiatedRegistry.instantiate(instantiator)
+                : instantiatedRegistry.instantiate(instantiator, parentComponents);
+        lazyProxyInsertion.save();
+        startupProfile.start(components, instantiatedRegistry);
+        initialize(components, instantiatedRegistry);
+        startupProfile.prefetch(components, instantiatedRegistry);
+        if (!isNull(systemTrace))
+            systemTrace.finish();
+        return Container.of(components, instantiatedRegistry, registeredRegistry, instantiator, scopeExpiration, startupProfile, interception);
+    }
+
+    private void initialize(final Components components, final Registry instantiatedRegistry) {
+        final InstantiationListener instantiationListener = instantiatedRegistry.getInstantiationListener();
+        final ComponentsInitialization initialization = ComponentsInitialization.of(components, instantiatedRegistry);
+
+        instantiationListener.phaseStarted(StartupPhase.INITIALIZATION);
+        try {
+            if (isNull(initializationExecutor))
+                initialization.initialize(instantiatedRegistry.instantiationOrder());
+            else
+                initialization.initialize(instantiatedRegistry.instantiationOrder(), initializationExecutor);
+        } finally {
+            instantiationListener.phaseEnded(StartupPhase.INITIALIZATION);
+        }
     }
 }
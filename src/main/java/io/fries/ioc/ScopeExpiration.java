@@ -0,0 +1,89 @@
+package io.fries.ioc;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class ScopeExpiration {
+
+    private static final Duration NEVER = Duration.ZERO;
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+
+    private final Duration idleTimeout;
+    private final Duration timeToLive;
+    private final Duration tick;
+
+    private ScopeExpiration(final Duration idleTimeout, final Duration timeToLive, final Duration tick) {
+        this.idleTimeout = idleTimeout;
+        this.timeToLive = timeToLive;
+        this.tick = tick;
+    }
+
+    public static ScopeExpiration never() {
+        return new ScopeExpiration(NEVER, NEVER, DEFAULT_TICK);
+    }
+
+    public ScopeExpiration afterIdle(final Duration idleTimeout) {
+        requirePositive(idleTimeout, "The idle timeout of a scope must be positive");
+        return new ScopeExpiration(idleTimeout, timeToLive, tick);
+    }
+
+    public ScopeExpiration afterCreation(final Duration timeToLive) {
+        requirePositive(timeToLive, "The time to live of a scope must be positive");
+        return new ScopeExpiration(idleTimeout, timeToLive, tick);
+    }
+
+    public ScopeExpiration tickingEvery(final Duration tick) {
+        requirePositive(tick, "The expiration tick must be positive");
+        return new ScopeExpiration(idleTimeout, timeToLive, tick);
+    }
+
+    private static void requirePositive(final Duration duration, final String message) {
+        Objects.requireNonNull(duration);
+
+        if (duration.isNegative() || duration.isZero())
+            throw new IllegalArgumentException(message);
+    }
+
+    boolean expires() {
+        return idleTimeout != NEVER || timeToLive != NEVER;
+    }
+
+    long deadlineNanos(final long createdNanos, final long lastAccessNanos) {
+        long deadline = Long.MAX_VALUE;
+
+        if (idleTimeout != NEVER)
+            deadline = Math.min(deadline, lastAccessNanos + idleTimeout.toNanos());
+        if (timeToLive != NEVER)
+            deadline = Math.min(deadline, createdNanos + timeToLive.toNanos());
+
+        return deadline;
+    }
+
+    long tickNanos() {
+        return tick.toNanos();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ScopeExpiration that = (ScopeExpiration) o;
+        return Objects.equals(idleTimeout, that.idleTimeout) &&
+                Objects.equals(timeToLive, that.timeToLive) &&
+                Objects.equals(tick, that.tick);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idleTimeout, timeToLive, tick);
+    }
+
+    @Override
+    public String toString() {
+        return "ScopeExpiration{" +
+                "idleTimeout=" + idleTimeout +
+                ", timeToLive=" + timeToLive +
+                ", tick=" + tick +
+                '}';
+    }
+}
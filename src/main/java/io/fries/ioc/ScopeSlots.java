@@ -0,0 +1,84 @@
+package io.fries.ioc;
+
+import io.fries.ioc.registry.scoped.ScopedInstance;
+
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+class ScopeSlots {
+
+    static final int INITIAL_CAPACITY = 16;
+
+    private ScopedInstance[] keys;
+    private Object[] values;
+    private Object[] created;
+    private int size;
+
+    ScopeSlots() {
+        this.keys = new ScopedInstance[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.created = new Object[INITIAL_CAPACITY / 2];
+    }
+
+    Object get(final ScopedInstance key) {
+        final int mask = keys.length - 1;
+
+        for (int index = key.slotHash() & mask; ; index = (index + 1) & mask) {
+            final ScopedInstance slot = keys[index];
+
+            if (slot == key)
+                return values[index];
+            if (isNull(slot))
+                return null;
+        }
+    }
+
+    void put(final ScopedInstance key, final Object instance) {
+        if ((size + 1) * 2 > keys.length)
+            grow();
+
+        insert(key, instance);
+        created[size++] = instance;
+    }
+
+    private void insert(final ScopedInstance key, final Object instance) {
+        final int mask = keys.length - 1;
+        int index = key.slotHash() & mask;
+
+        while (!isNull(keys[index]))
+            index = (index + 1) & mask;
+
+        keys[index] = key;
+        values[index] = instance;
+    }
+
+    private void grow() {
+        final ScopedInstance[] keys = this.keys;
+        final Object[] values = this.values;
+
+        this.keys = new ScopedInstance[keys.length * 2];
+        this.values = new Object[values.length * 2];
+        this.created = Arrays.copyOf(created, keys.length);
+
+        for (int index = 0; index < keys.length; index++) {
+            if (!isNull(keys[index]))
+                insert(keys[index], values[index]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    Object createdAt(final int index) {
+        return created[index];
+    }
+
+    void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        Arrays.fill(created, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,66 @@
+package io.fries.ioc;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.isNull;
+
+class ScopeSlotsPool {
+
+    private final AtomicReferenceArray<ScopeSlots> pooled;
+
+    private ScopeSlotsPool(final int capacity) {
+        this.pooled = new AtomicReferenceArray<>(capacity);
+    }
+
+    static ScopeSlotsPool of(final int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The pool capacity must be positive");
+
+        return new ScopeSlotsPool(capacity);
+    }
+
+    static ScopeSlotsPool withDefaultCapacity() {
+        return of(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    ScopeSlots acquire() {
+        final int start = startIndex();
+
+        for (int probe = 0; probe < pooled.length(); probe++) {
+            final int index = (start + probe) % pooled.length();
+            final ScopeSlots slots = pooled.get(index);
+
+            if (!isNull(slots) && pooled.compareAndSet(index, slots, null))
+                return slots;
+        }
+
+        return new ScopeSlots();
+    }
+
+    void release(final ScopeSlots slots) {
+        slots.clear();
+
+        final int start = startIndex();
+        for (int probe = 0; probe < pooled.length(); probe++) {
+            final int index = (start + probe) % pooled.length();
+
+            if (isNull(pooled.get(index)) && pooled.compareAndSet(index, null, slots))
+                return;
+        }
+    }
+
+    private int startIndex() {
+        return (int) (Thread.currentThread().getId() % pooled.length());
+    }
+
+    int countPooled() {
+        int count = 0;
+
+        for (int index = 0; index < pooled.length(); index++) {
+            if (!isNull(pooled.get(index)))
+                count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,141 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.ComponentCloseException;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.scoped.ScopedInstance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+
+public class ScopedContainer implements AutoCloseable {
+
+    private final Components components;
+    private final ScopeSlotsPool pool;
+    private final ReentrantLock lock;
+    private final Set<Id> resolving;
+    private ScopeSlots slots;
+
+    private ScopedContainer(final Components components, final ScopeSlotsPool pool, final ScopeSlots slots) {
+        this.components = components;
+        this.pool = pool;
+        this.lock = new ReentrantLock();
+        this.resolving = new HashSet<>();
+        this.slots = slots;
+    }
+
+    static ScopedContainer open(final Components components, final ScopeSlotsPool pool) {
+        Objects.requireNonNull(components);
+        Objects.requireNonNull(pool);
+
+        return new ScopedContainer(components, pool, pool.acquire());
+    }
+
+    @SuppressWarnings({"WeakerAccess", "unchecked"})
+    public <T, ID> T provide(final ID id) {
+        lock.lock();
+        try {
+            if (isNull(slots))
+                throw new IllegalStateException("This scope has already been closed");
+
+            final Id componentId = Id.of(id);
+            return (T) resolve(componentId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object resolve(final Id id) {
+        final Component component = components.get(id);
+        final Object rawInstance = component.getRawInstance();
+
+        if (rawInstance instanceof ScopedInstance)
+            return resolveScoped(id, (ScopedInstance) rawInstance);
+
+        return component.getInstance();
+    }
+
+    private Object resolveScoped(final Id id, final ScopedInstance scopedInstance) {
+        final Object existingInstance = slots.get(scopedInstance);
+        if (!isNull(existingInstance))
+            return existingInstance;
+
+        if (!resolving.add(id))
+            throw new IllegalStateException("Circular dependency detected on the scoped component: " + id);
+
+        try {
+            final List<Id> dependencies = scopedInstance.getDependencies();
+            final List<Component> requiredDependencies = new ArrayList<>(dependencies.size());
+            for (final Id dependency : dependencies)
+                requiredDependencies.add(Component.of(dependency, resolve(dependency)));
+
+            final Object instance = scopedInstance.createInstance(requiredDependencies);
+            slots.put(scopedInstance, instance);
+
+            return instance;
+        } finally {
+            resolving.remove(id);
+        }
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return isNull(slots);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        final ScopeSlots closedSlots;
+
+        lock.lock();
+        try {
+            if (isNull(slots))
+                return;
+
+            closedSlots = slots;
+            slots = null;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            closeInReverseOrder(closedSlots);
+        } finally {
+            pool.release(closedSlots);
+        }
+    }
+
+    private void closeInReverseOrder(final ScopeSlots slots) {
+        ComponentCloseException failure = null;
+
+        for (int index = slots.size() - 1; index >= 0; index--) {
+            final Object instance = slots.createdAt(index);
+            if (!(instance instanceof AutoCloseable))
+                continue;
+
+            try {
+                ((AutoCloseable) instance).close();
+            } catch (final Exception e) {
+                if (isNull(failure))
+                    failure = new ComponentCloseException(e);
+                else
+                    failure.addSuppressed(e);
+            }
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+}
@@ -0,0 +1,187 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.ComponentCloseException;
+import io.fries.ioc.components.Components;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+class SessionScopes {
+
+    private final Supplier<Components> components;
+    private final ScopeSlotsPool pool;
+    private final ScopeExpiration expiration;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<Object, Session> sessions;
+    private final TimerWheel<Session> timerWheel;
+    private final ReentrantLock timerWheelLock;
+
+    private SessionScopes(final Supplier<Components> components, final ScopeSlotsPool pool, final ScopeExpiration expiration, final LongSupplier clock) {
+        this.components = components;
+        this.pool = pool;
+        this.expiration = expiration;
+        this.clock = clock;
+        this.sessions = new ConcurrentHashMap<>();
+        this.timerWheel = TimerWheel.of(TimerWheel.DEFAULT_BUCKETS, expiration.tickNanos(), clock.getAsLong());
+        this.timerWheelLock = new ReentrantLock();
+    }
+
+    static SessionScopes of(final Supplier<Components> components, final ScopeSlotsPool pool, final ScopeExpiration expiration) {
+        return of(components, pool, expiration, System::nanoTime);
+    }
+
+    static SessionScopes of(final Supplier<Components> components, final ScopeSlotsPool pool, final ScopeExpiration expiration, final LongSupplier clock) {
+        Objects.requireNonNull(components);
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(expiration);
+        Objects.requireNonNull(clock);
+
+        return new SessionScopes(components, pool, expiration, clock);
+    }
+
+    ScopedContainer get(final Object key) {
+        Objects.requireNonNull(key);
+
+        final long now = clock.getAsLong();
+        if (timerWheelLock.tryLock()) {
+            try {
+                expire(now);
+            } finally {
+                timerWheelLock.unlock();
+            }
+        }
+
+        final Session session = sessions.get(key);
+        if (isNull(session) || session.scope.isClosed() || isExpired(session, now))
+            return open(key, now).scope;
+
+        session.lastAccessNanos = now;
+        return session.scope;
+    }
+
+    private boolean isExpired(final Session session, final long now) {
+        return expiration.deadlineNanos(session.createdNanos, session.lastAccessNanos) <= now;
+    }
+
+    private Session open(final Object key, final long now) {
+        final Session session = sessions.compute(key, (sessionKey, existing) -> {
+            if (!isNull(existing) && !existing.scope.isClosed() && !isExpired(existing, now))
+                return existing;
+
+            if (!isNull(existing))
+                closeQuietly(existing.scope);
+
+            return new Session(sessionKey, ScopedContainer.open(components.get(), pool), now);
+        });
+
+        if (expiration.expires()) {
+            timerWheelLock.lock();
+            try {
+                if (!session.isScheduled())
+                    timerWheel.schedule(session, expiration.deadlineNanos(session.createdNanos, now));
+            } finally {
+                timerWheelLock.unlock();
+            }
+        }
+
+        return session;
+    }
+
+    void close(final Object key) {
+        final Session session = sessions.remove(key);
+        if (isNull(session))
+            return;
+
+        timerWheelLock.lock();
+        try {
+            timerWheel.cancel(session);
+        } finally {
+            timerWheelLock.unlock();
+        }
+
+        session.scope.close();
+    }
+
+    void closeAll() {
+        ComponentCloseException failure = null;
+
+        for (final Object key : sessions.keySet()) {
+            try {
+                close(key);
+            } catch (final ComponentCloseException e) {
+                if (isNull(failure))
+                    failure = e;
+                else
+                    failure.addSuppressed(e.getCause());
+            }
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    int expire() {
+        timerWheelLock.lock();
+        try {
+            return expire(clock.getAsLong());
+        } finally {
+            timerWheelLock.unlock();
+        }
+    }
+
+    private int expire(final long now) {
+        final List<Session> dueSessions = timerWheel.advance(now);
+        int expired = 0;
+
+        for (final Session session : dueSessions) {
+            if (sessions.get(session.key) != session)
+                continue;
+
+            final long deadline = expiration.deadlineNanos(session.createdNanos, session.lastAccessNanos);
+            if (deadline > now) {
+                timerWheel.schedule(session, deadline);
+                continue;
+            }
+
+            if (sessions.remove(session.key, session)) {
+                closeQuietly(session.scope);
+                expired++;
+            }
+        }
+
+        return expired;
+    }
+
+    private void closeQuietly(final ScopedContainer scope) {
+        try {
+            scope.close();
+        } catch (final ComponentCloseException ignored) {
+            // Expired scopes are closed on behalf of an unrelated caller, which must not receive their failures.
+        }
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    private static class Session extends TimerWheel.Timeout {
+
+        private final Object key;
+        private final ScopedContainer scope;
+        private final long createdNanos;
+        private volatile long lastAccessNanos;
+
+        private Session(final Object key, final ScopedContainer scope, final long createdNanos) {
+            this.key = key;
+            this.scope = scope;
+            this.createdNanos = createdNanos;
+            this.lastAccessNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import io.fries.ioc.threads.ContainerThreads;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.isNull;
+
+class StartupProfile {
+
+    private static final StartupProfile DISABLED = new StartupProfile(null, Duration.ZERO, System::nanoTime);
+
+    private final Path file;
+    private final Duration window;
+    private final LongSupplier clock;
+    private final Set<Id> accessed;
+    private final Queue<Id> accessOrder;
+    private volatile boolean recording;
+    private long deadlineNanos;
+
+    private StartupProfile(final Path file, final Duration window, final LongSupplier clock) {
+        this.file = file;
+        this.window = window;
+        this.clock = clock;
+        this.accessed = ConcurrentHashMap.newKeySet();
+        this.accessOrder = new ConcurrentLinkedQueue<>();
+    }
+
+    static StartupProfile of(final Path file, final Duration window) {
+        return of(file, window, System::nanoTime);
+    }
+
+    static StartupProfile of(final Path file, final Duration window, final LongSupplier clock) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(window);
+        Objects.requireNonNull(clock);
+
+        if (window.isNegative())
+            throw new IllegalArgumentException("The recording window must not be negative");
+
+        return new StartupProfile(file, window, clock);
+    }
+
+    static StartupProfile disabled() {
+        return DISABLED;
+    }
+
+    void start(final Components components, final Registry registry) {
+        if (isNull(file))
+            return;
+
+        for (final Id id : registry.instantiationOrder())
+            ProxyRegistrable.listenFirstInvocation(components.get(id).getRawInstance(), () -> accessed(id));
+
+        deadlineNanos = clock.getAsLong() + window.toNanos();
+        recording = true;
+        scheduleSave();
+    }
+
+    void prefetch(final Components components, final Registry registry) {
+        if (isNull(file))
+            return;
+
+        final List<Object> prefetched = findPrefetched(load(), registry.instantiationOrder(), components, registry);
+        if (!prefetched.isEmpty())
+            ContainerThreads.newThread(() -> materialize(prefetched), "ioc-container-prefetch").start();
+    }
+
+    private List<Object> findPrefetched(final List<Id> profile, final List<Id> owned, final Components components, final Registry registry) {
+        final Set<Id> ownedIds = new HashSet<>(owned);
+        final List<Object> prefetched = new ArrayList<>();
+
+        for (final Id id : profile) {
+            if (ownedIds.contains(id) && registry.get(id).isLazy())
+                prefetched.add(components.get(id).getRawInstance());
+        }
+
+        return prefetched;
+    }
+
+    private void materialize(final List<Object> prefetched) {
+        for (final Object instance : prefetched) {
+            try {
+                ProxyRegistrable.materialize(instance);
+            } catch (final RuntimeException ignored) {
+                // A failed prefetch is retried, and reported, by the first invocation of the proxy.
+            }
+        }
+    }
+
+    private void scheduleSave() {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> ContainerThreads.newThread(runnable, "ioc-container-profile"));
+        scheduler.schedule(this::save, window.toNanos(), TimeUnit.NANOSECONDS);
+        scheduler.shutdown();
+    }
+
+    void accessed(final Id id) {
+        if (!recording)
+            return;
+
+        if (clock.getAsLong() - deadlineNanos >= 0)
+            save();
+        else if (accessed.add(id))
+            accessOrder.add(id);
+    }
+
+    List<Id> load() {
+        if (isNull(file) || !Files.isRegularFile(file))
+            return Collections.emptyList();
+
+        try {
+            final List<Id> profile = new ArrayList<>();
+            for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty())
+                    profile.add(Id.of(line));
+            }
+
+            return profile;
+        } catch (final IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    synchronized void save() {
+        if (!recording)
+            return;
+
+        recording = false;
+        final List<String> lines = new ArrayList<>();
+        for (final Id id : accessOrder) {
+            if (id.getValue().indexOf('\n') < 0 && id.getValue().indexOf('\r') < 0)
+                lines.add(id.getValue());
+        }
+
+        try {
+            if (!isNull(file.toAbsolutePath().getParent()))
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (final IOException ignored) {
+            // The profile only speeds up the next boot, so failing to persist it must not affect this one.
+        }
+    }
+}
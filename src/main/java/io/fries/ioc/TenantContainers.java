@@ -0,0 +1,116 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.ComponentCloseException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+public class TenantContainers<K> {
+
+    private final Function<? super K, Container> containerFactory;
+    private final ConcurrentHashMap<K, CompletableFuture<Container>> containers;
+    private final TinyLfuPolicy<K> policy;
+
+    private TenantContainers(final int maximumSize, final Function<? super K, Container> containerFactory) {
+        this.containerFactory = containerFactory;
+        this.containers = new ConcurrentHashMap<>();
+        this.policy = TinyLfuPolicy.of(maximumSize);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static <K> TenantContainers<K> of(final int maximumSize, final Function<? super K, Container> containerFactory) {
+        Objects.requireNonNull(containerFactory);
+
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("The maximum size must be positive");
+
+        return new TenantContainers<>(maximumSize, containerFactory);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Container get(final K tenant) {
+        Objects.requireNonNull(tenant);
+
+        final CompletableFuture<Container> existing = containers.get(tenant);
+        if (!isNull(existing)) {
+            policy.recordAccess(tenant);
+            return join(existing);
+        }
+
+        final CompletableFuture<Container> created = new CompletableFuture<>();
+        final CompletableFuture<Container> concurrent = containers.putIfAbsent(tenant, created);
+        if (!isNull(concurrent)) {
+            policy.recordAccess(tenant);
+            return join(concurrent);
+        }
+
+        return build(tenant, created);
+    }
+
+    private Container build(final K tenant, final CompletableFuture<Container> created) {
+        final Container container;
+
+        try {
+            container = containerFactory.apply(tenant);
+        } catch (final RuntimeException e) {
+            containers.remove(tenant, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+
+        created.complete(container);
+        closeQuietly(policy.admit(tenant, () -> containers.get(tenant) == created, containers::remove));
+
+        return container;
+    }
+
+    private Container join(final CompletableFuture<Container> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void invalidate(final K tenant) {
+        Objects.requireNonNull(tenant);
+
+        policy.remove(tenant);
+
+        final CompletableFuture<Container> removed = containers.remove(tenant);
+        if (!isNull(removed))
+            close(removed);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public int size() {
+        return containers.size();
+    }
+
+    private void closeQuietly(final List<CompletableFuture<Container>> evicted) {
+        for (final CompletableFuture<Container> container : evicted) {
+            if (isNull(container))
+                continue;
+
+            try {
+                close(container);
+            } catch (final ComponentCloseException ignored) {
+                // Evicted containers are closed on behalf of an unrelated tenant, which must not receive their failures.
+            }
+        }
+    }
+
+    private void close(final CompletableFuture<Container> container) {
+        container.join().close();
+    }
+}
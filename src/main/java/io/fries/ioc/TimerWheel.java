@@ -0,0 +1,118 @@
+package io.fries.ioc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+class TimerWheel<T extends TimerWheel.Timeout> {
+
+    static final int DEFAULT_BUCKETS = 1024;
+
+    private final long tickNanos;
+    private final Timeout[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    private TimerWheel(final int bucketCount, final long tickNanos, final long nowNanos) {
+        this.tickNanos = tickNanos;
+        this.buckets = new Timeout[bucketCount];
+        this.mask = bucketCount - 1;
+        this.currentTick = nowNanos / tickNanos;
+
+        for (int index = 0; index < bucketCount; index++)
+            buckets[index] = Timeout.sentinel();
+    }
+
+    static <T extends Timeout> TimerWheel<T> of(final int bucketCount, final long tickNanos, final long nowNanos) {
+        if (Integer.bitCount(bucketCount) != 1)
+            throw new IllegalArgumentException("The number of buckets must be a power of two");
+        if (tickNanos <= 0)
+            throw new IllegalArgumentException("The tick duration must be positive");
+
+        return new TimerWheel<>(bucketCount, tickNanos, nowNanos);
+    }
+
+    void schedule(final T scheduled, final long deadlineNanos) {
+        final Timeout timeout = scheduled;
+        if (timeout.isScheduled())
+            unlink(timeout);
+
+        timeout.deadlineTick = Math.max(ceilTick(deadlineNanos), currentTick + 1);
+
+        final Timeout head = buckets[(int) (timeout.deadlineTick & mask)];
+        timeout.previous = head;
+        timeout.next = head.next;
+        if (!isNull(head.next))
+            head.next.previous = timeout;
+        head.next = timeout;
+        size++;
+    }
+
+    void cancel(final T timeout) {
+        if (timeout.isScheduled())
+            unlink(timeout);
+    }
+
+    private void unlink(final Timeout timeout) {
+        timeout.previous.next = timeout.next;
+        if (!isNull(timeout.next))
+            timeout.next.previous = timeout.previous;
+
+        timeout.previous = null;
+        timeout.next = null;
+        size--;
+    }
+
+    private long ceilTick(final long deadlineNanos) {
+        final long tick = deadlineNanos / tickNanos;
+        return tick * tickNanos < deadlineNanos ? tick + 1 : tick;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> advance(final long nowNanos) {
+        final long targetTick = nowNanos / tickNanos;
+        final List<T> expired = new ArrayList<>();
+
+        if (targetTick <= currentTick)
+            return expired;
+
+        final long lastTick = Math.min(targetTick, currentTick + buckets.length);
+        for (long tick = currentTick + 1; tick <= lastTick; tick++)
+            collect(buckets[(int) (tick & mask)], targetTick, expired);
+
+        currentTick = targetTick;
+        for (final T timeout : expired)
+            unlink(timeout);
+
+        return expired;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(final Timeout head, final long targetTick, final List<T> expired) {
+        for (Timeout timeout = head.next; !isNull(timeout); timeout = timeout.next) {
+            if (timeout.deadlineTick <= targetTick)
+                expired.add((T) timeout);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    static class Timeout {
+
+        private long deadlineTick;
+        private Timeout previous;
+        private Timeout next;
+
+        private static Timeout sentinel() {
+            return new Timeout();
+        }
+
+        boolean isScheduled() {
+            return !isNull(previous);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.fries.ioc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+class TinyLfuPolicy<K> {
+
+    private static final int WINDOW_PERCENTAGE = 1;
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final ReentrantLock lock;
+    private final FrequencySketch sketch;
+    private final LinkedHashSet<K> window;
+    private final LinkedHashSet<K> probation;
+    private final LinkedHashSet<K> protectedSegment;
+    private final int maximumWindowSize;
+    private final int maximumMainSize;
+    private final int maximumProtectedSize;
+
+    private TinyLfuPolicy(final int maximumSize) {
+        this.lock = new ReentrantLock();
+        this.sketch = FrequencySketch.of(maximumSize);
+        this.window = new LinkedHashSet<>();
+        this.probation = new LinkedHashSet<>();
+        this.protectedSegment = new LinkedHashSet<>();
+        this.maximumWindowSize = Math.max(1, maximumSize * WINDOW_PERCENTAGE / 100);
+        this.maximumMainSize = maximumSize - maximumWindowSize;
+        this.maximumProtectedSize = maximumMainSize * PROTECTED_PERCENTAGE / 100;
+    }
+
+    static <K> TinyLfuPolicy<K> of(final int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("The maximum size must be positive");
+
+        return new TinyLfuPolicy<>(maximumSize);
+    }
+
+    void recordAccess(final K key) {
+        if (!lock.tryLock())
+            return;
+
+        try {
+            sketch.increment(key);
+
+            if (window.remove(key))
+                window.add(key);
+            else if (protectedSegment.remove(key))
+                protectedSegment.add(key);
+            else if (probation.remove(key))
+                promote(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void promote(final K key) {
+        protectedSegment.add(key);
+
+        if (protectedSegment.size() > maximumProtectedSize)
+            probation.add(removeEldest(protectedSegment));
+    }
+
+    <V> List<V> admit(final K key, final BooleanSupplier present, final Function<? super K, V> eviction) {
+        final List<V> evicted = new ArrayList<>();
+
+        lock.lock();
+        try {
+            sketch.increment(key);
+            if (!present.getAsBoolean() || probation.contains(key) || protectedSegment.contains(key))
+                return evicted;
+
+            window.add(key);
+
+            while (window.size() > maximumWindowSize) {
+                final K victim = admitToMain(removeEldest(window));
+                if (!isNull(victim))
+                    evicted.add(eviction.apply(victim));
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return evicted;
+    }
+
+    private K admitToMain(final K candidate) {
+        if (probation.size() + protectedSegment.size() < maximumMainSize) {
+            probation.add(candidate);
+            return null;
+        }
+
+        final LinkedHashSet<K> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+        if (victimSegment.isEmpty())
+            return candidate;
+
+        final K victim = victimSegment.iterator().next();
+        if (sketch.frequency(candidate) <= sketch.frequency(victim))
+            return candidate;
+
+        victimSegment.remove(victim);
+        probation.add(candidate);
+
+        return victim;
+    }
+
+    void remove(final K key) {
+        lock.lock();
+        try {
+            window.remove(key);
+            probation.remove(key);
+            protectedSegment.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private K removeEldest(final LinkedHashSet<K> segment) {
+        final Iterator<K> iterator = segment.iterator();
+        final K eldest = iterator.next();
+        iterator.remove();
+
+        return eldest;
+    }
+}
@@ -0,0 +1,19 @@
+package io.fries.ioc.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Batched {
+    String value();
+
+    int maximumSize() default 100;
+
+    long windowMillis() default 5;
+}
@@ -0,0 +1,17 @@
+package io.fries.ioc.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Cached {
+    int maximumSize() default 1_000;
+
+    long expireAfterWriteMillis() default 0;
+}
@@ -23,9 +23,16 @@ public class Component {
 
     @SuppressWarnings("unchecked")
     public <T> T getInstance() {
+        if (instance instanceof ContextualInstance)
+            return (T) ((ContextualInstance) instance).get();
+
         return (T) instance;
     }
 
+    public Object getRawInstance() {
+        return instance;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
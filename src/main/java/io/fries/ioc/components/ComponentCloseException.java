@@ -0,0 +1,9 @@
+package io.fries.ioc.components;
+
+@SuppressWarnings("WeakerAccess")
+public class ComponentCloseException extends RuntimeException {
+
+    public ComponentCloseException(final Throwable cause) {
+        super(cause);
+    }
+}
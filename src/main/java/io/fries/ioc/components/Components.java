@@ -5,41 +5,54 @@ import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class Components {
 
     private final Map<Id, Component> dependencies;
+    private final Components parent;
 
-    private Components(final Map<Id, Component> dependencies) {
+    private Components(final Map<Id, Component> dependencies, final Components parent) {
         this.dependencies = dependencies;
+        this.parent = parent;
     }
 
     public static Components of(final Map<Id, Component> dependencies) {
-        return new Components(dependencies);
+        return new Components(dependencies, null);
     }
 
     public static Components empty() {
         return of(new HashMap<>());
     }
 
+    public static Components inheriting(final Components parent) {
+        Objects.requireNonNull(parent);
+        return new Components(new HashMap<>(), parent);
+    }
+
     public Components add(final Component component) {
         dependencies.put(component.getId(), component);
 
         return this;
     }
 
+    public Components copy() {
+        return new Components(new HashMap<>(dependencies), parent);
+    }
+
     public List<Component> findAllById(final List<Id> identifiers) {
-        return identifiers
-                .stream()
-                .map(this::get)
-                .collect(toList());
+        final List<Component> found = new ArrayList<>(identifiers.size());
+        for (final Id identifier : identifiers)
+            found.add(get(identifier));
+
+        return found;
     }
 
-    Component get(final Id id) {
+    public Component get(final Id id) {
         final Component component = dependencies.get(id);
 
+        if (isNull(component) && !isNull(parent))
+            return parent.get(id);
         if (isNull(component))
             throw new NoSuchElementException("No component registered with id: " + id);
 
@@ -55,7 +68,7 @@ public class Components {
                 .flatMap(map -> map.entrySet().stream())
                 .collect(toMap(Entry::getKey, Entry::getValue));
 
-        return Components.of(merged);
+        return new Components(merged, parent);
     }
 
     @Override
@@ -63,12 +76,13 @@ public class Components {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final Components that = (Components) o;
-        return Objects.equals(dependencies, that.dependencies);
+        return Objects.equals(dependencies, that.dependencies) &&
+                Objects.equals(parent, that.parent);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(dependencies);
+        return Objects.hash(dependencies, parent);
     }
 
     @Override
@@ -0,0 +1,5 @@
+package io.fries.ioc.components;
+
+public interface ContextualInstance {
+    Object get();
+}
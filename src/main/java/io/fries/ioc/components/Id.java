@@ -16,6 +16,10 @@ public class Id {
         return new Id(value.toString());
     }
 
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -26,7 +30,7 @@ public class Id {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Objects.hashCode(value);
     }
 
     @Override
@@ -0,0 +1,6 @@
+package io.fries.ioc.components;
+
+public interface Initializable {
+
+    void initialize() throws Exception;
+}
@@ -0,0 +1,9 @@
+package io.fries.ioc.instantiator;
+
+@SuppressWarnings("WeakerAccess")
+public class ComponentInitializationException extends RuntimeException {
+
+    public ComponentInitializationException(final Throwable cause) {
+        super(cause);
+    }
+}
@@ -6,29 +6,36 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
-import static java.util.stream.Collectors.toList;
-
 public class DefaultInstantiator implements Instantiator {
 
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(final Class<?> type) {
+            final Constructor<?> constructor = type.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+
+            return constructor;
+        }
+    };
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> type, final List<Component> dependencies) {
         try {
-            final List<?> parameterInstances = mapParameterInstances(dependencies);
+            final Object[] parameterInstances = mapParameterInstances(dependencies);
+            final Constructor<?> constructor = CONSTRUCTORS.get(type);
 
-            final Constructor<?> constructor = type.getDeclaredConstructors()[0];
-            constructor.setAccessible(true);
-
-            return (T) constructor.newInstance(parameterInstances.toArray());
+            return (T) constructor.newInstance(parameterInstances);
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException | IllegalArgumentException e) {
             throw new ComponentInstantiationException(e);
         }
     }
 
-    private List<?> mapParameterInstances(final List<Component> dependencies) {
-        return dependencies
-                .stream()
-                .map(Component::getInstance)
-                .collect(toList());
+    private Object[] mapParameterInstances(final List<Component> dependencies) {
+        final Object[] parameterInstances = new Object[dependencies.size()];
+        for (int index = 0; index < parameterInstances.length; index++)
+            parameterInstances[index] = dependencies.get(index).getInstance();
+
+        return parameterInstances;
     }
 }
@@ -0,0 +1,101 @@
+package io.fries.ioc.instantiator;
+
+import io.fries.ioc.annotations.Initialize;
+import io.fries.ioc.components.Initializable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+public final class InitializationHooks {
+
+    private static final MethodType HOOK_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final String INITIALIZABLE_METHOD = "initialize";
+
+    private static final ClassValue<List<MethodHandle>> HOOKS = new ClassValue<List<MethodHandle>>() {
+        @Override
+        protected List<MethodHandle> computeValue(final Class<?> type) {
+            return Proxy.isProxyClass(type) ? emptyList() : findHooks(type);
+        }
+    };
+
+    private InitializationHooks() {
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static boolean isInitializable(final Object instance) {
+        Objects.requireNonNull(instance);
+        return !HOOKS.get(instance.getClass()).isEmpty();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static void initialize(final Object instance) {
+        Objects.requireNonNull(instance);
+
+        for (final MethodHandle hook : HOOKS.get(instance.getClass())) {
+            try {
+                hook.invokeExact(instance);
+            } catch (final Throwable throwable) {
+                throw new ComponentInitializationException(throwable);
+            }
+        }
+    }
+
+    private static List<MethodHandle> findHooks(final Class<?> type) {
+        final Set<String> overridden = new HashSet<>();
+        final Deque<Method> annotatedMethods = new ArrayDeque<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (final Method method : current.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Initialize.class) && isNotOverridden(method, overridden))
+                    annotatedMethods.addFirst(validate(method));
+            }
+        }
+
+        final List<MethodHandle> hooks = new ArrayList<>();
+        for (final Method method : annotatedMethods)
+            hooks.add(unreflect(method));
+
+        if (Initializable.class.isAssignableFrom(type) && !overridden.contains(INITIALIZABLE_METHOD))
+            hooks.add(findInitializableHook());
+
+        return hooks.isEmpty() ? emptyList() : unmodifiableList(hooks);
+    }
+
+    private static boolean isNotOverridden(final Method method, final Set<String> overridden) {
+        return Modifier.isPrivate(method.getModifiers()) || overridden.add(method.getName());
+    }
+
+    private static Method validate(final Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > 0)
+            throw new IllegalArgumentException("Initialization methods must be instance methods without parameters: " + method);
+
+        return method;
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(HOOK_TYPE);
+        } catch (final IllegalAccessException e) {
+            throw new ComponentInitializationException(e);
+        }
+    }
+
+    private static MethodHandle findInitializableHook() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(Initializable.class, INITIALIZABLE_METHOD, MethodType.methodType(void.class))
+                    .asType(HOOK_TYPE);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ComponentInitializationException(e);
+        }
+    }
+}
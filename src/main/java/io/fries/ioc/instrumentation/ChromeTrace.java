@@ -0,0 +1,223 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.registry.Registrable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.isNull;
+
+public class ChromeTrace implements InstantiationListener {
+
+    static final String FILE_PROPERTY = "io.fries.ioc.trace.file";
+
+    private static final Optional<ChromeTrace> SYSTEM_TRACE = createSystemTrace();
+    private static final int PROCESS_ID = 1;
+
+    private final LongSupplier clock;
+    private final long originNanos;
+    private final Path file;
+    private final Queue<TraceEvent> events;
+    private final Map<Long, String> threadNames;
+    private final AtomicBoolean claimed;
+    private final AtomicBoolean finished;
+
+    private ChromeTrace(final LongSupplier clock, final Path file) {
+        this.clock = clock;
+        this.originNanos = clock.getAsLong();
+        this.file = file;
+        this.events = new ConcurrentLinkedQueue<>();
+        this.threadNames = new ConcurrentHashMap<>();
+        this.claimed = new AtomicBoolean();
+        this.finished = new AtomicBoolean();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static ChromeTrace create() {
+        return of(System::nanoTime, null);
+    }
+
+    static ChromeTrace of(final LongSupplier clock, final Path file) {
+        Objects.requireNonNull(clock);
+        return new ChromeTrace(clock, file);
+    }
+
+    private static Optional<ChromeTrace> createSystemTrace() {
+        final String file = System.getProperty(FILE_PROPERTY);
+        if (isNull(file))
+            return Optional.empty();
+
+        final ChromeTrace trace = of(System::nanoTime, Paths.get(file));
+        Runtime.getRuntime().addShutdownHook(new Thread(trace::finish, "ioc-container-trace"));
+
+        return Optional.of(trace);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static Optional<ChromeTrace> fromSystemProperties() {
+        return SYSTEM_TRACE;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static Optional<ChromeTrace> claimSystemTrace() {
+        return SYSTEM_TRACE.filter(ChromeTrace::claim);
+    }
+
+    boolean claim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    @Override
+    public void phaseStarted(final StartupPhase phase) {
+        begin(phase.name(), "phase", null);
+    }
+
+    @Override
+    public void phaseEnded(final StartupPhase phase) {
+        end(null);
+    }
+
+    @Override
+    public void instantiationStarted(final Registrable registrable) {
+        begin(registrable.getId().toString(), "instantiation", registrable.getClass().getName());
+    }
+
+    @Override
+    public void instantiationEnded(final Registrable registrable) {
+        end(null);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void materializationStarted() {
+        begin("ProxyMaterialization", "proxy", null);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void materializationEnded(final Class<?> instanceType) {
+        end(isNull(instanceType) ? null : instanceType.getName());
+    }
+
+    private void begin(final String name, final String category, final String type) {
+        if (finished.get())
+            return;
+
+        events.add(new TraceEvent('B', name, category, type, clock.getAsLong(), currentThreadId()));
+    }
+
+    private void end(final String type) {
+        if (finished.get())
+            return;
+
+        events.add(new TraceEvent('E', null, null, type, clock.getAsLong(), currentThreadId()));
+    }
+
+    private long currentThreadId() {
+        final Thread thread = Thread.currentThread();
+        threadNames.putIfAbsent(thread.getId(), thread.getName());
+
+        return thread.getId();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void writeTo(final Writer writer) throws IOException {
+        writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+
+        String separator = "\n";
+        for (final Map.Entry<Long, String> threadName : new TreeMap<>(threadNames).entrySet()) {
+            writer.write(separator);
+            writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + PROCESS_ID + ",\"tid\":" + threadName.getKey() +
+                    ",\"args\":{\"name\":" + quote(threadName.getValue()) + "}}");
+            separator = ",\n";
+        }
+
+        for (final TraceEvent event : events) {
+            writer.write(separator);
+            writer.write(format(event));
+            separator = ",\n";
+        }
+
+        writer.write("\n]}\n");
+        writer.flush();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void writeTo(final Path file) {
+        try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeTo(writer);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void finish() {
+        if (!finished.compareAndSet(false, true) || isNull(file))
+            return;
+
+        try {
+            writeTo(file);
+        } catch (final UncheckedIOException ignored) {
+            // Tracing is a diagnostic aid and must never prevent the container from starting or stopping.
+        }
+    }
+
+    private String format(final TraceEvent event) {
+        final StringBuilder json = new StringBuilder("{\"ph\":\"").append(event.phase).append('"');
+
+        if (!isNull(event.name))
+            json.append(",\"name\":").append(quote(event.name)).append(",\"cat\":").append(quote(event.category));
+
+        json.append(",\"ts\":").append(String.format(Locale.ROOT, "%.3f", (event.nanos - originNanos) / 1_000.0))
+                .append(",\"pid\":").append(PROCESS_ID)
+                .append(",\"tid\":").append(event.threadId);
+
+        if (!isNull(event.type))
+            json.append(",\"args\":{\"type\":").append(quote(event.type)).append('}');
+
+        return json.append('}').toString();
+    }
+
+    private static String quote(final String value) {
+        final StringBuilder quoted = new StringBuilder("\"");
+
+        for (final char character : value.toCharArray()) {
+            if (character == '"' || character == '\\')
+                quoted.append('\\').append(character);
+            else if (character < 0x20)
+                quoted.append(String.format("\\u%04x", (int) character));
+            else
+                quoted.append(character);
+        }
+
+        return quoted.append('"').toString();
+    }
+
+    private static class TraceEvent {
+
+        private final char phase;
+        private final String name;
+        private final String category;
+        private final String type;
+        private final long nanos;
+        private final long threadId;
+
+        private TraceEvent(final char phase, final String name, final String category, final String type, final long nanos, final long threadId) {
+            this.phase = phase;
+            this.name = name;
+            this.category = category;
+            this.type = type;
+            this.nanos = nanos;
+            this.threadId = threadId;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static io.fries.ioc.instrumentation.ThreadResources.UNSUPPORTED;
+
+public class ComponentTiming {
+
+    private final Id id;
+    private final List<Id> dependencies;
+    private final long startNanos;
+    private final long endNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+
+    private ComponentTiming(final Id id, final List<Id> dependencies, final long startNanos, final long endNanos, final long cpuNanos, final long allocatedBytes) {
+        this.id = id;
+        this.dependencies = dependencies;
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    static ComponentTiming of(final Id id, final List<Id> dependencies, final long startNanos, final long endNanos, final long cpuNanos, final long allocatedBytes) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(dependencies);
+
+        return new ComponentTiming(id, dependencies, startNanos, endNanos, cpuNanos, allocatedBytes);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Id getId() {
+        return id;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Duration getWallTime() {
+        return Duration.ofNanos(getWallNanos());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Optional<Duration> getCpuTime() {
+        return cpuNanos == UNSUPPORTED ? Optional.empty() : Optional.of(Duration.ofNanos(cpuNanos));
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public OptionalLong getAllocatedBytes() {
+        return allocatedBytes == UNSUPPORTED ? OptionalLong.empty() : OptionalLong.of(allocatedBytes);
+    }
+
+    long getWallNanos() {
+        return endNanos - startNanos;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getEndNanos() {
+        return endNanos;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ComponentTiming that = (ComponentTiming) o;
+        return startNanos == that.startNanos &&
+                endNanos == that.endNanos &&
+                cpuNanos == that.cpuNanos &&
+                allocatedBytes == that.allocatedBytes &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(dependencies, that.dependencies);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, dependencies, startNanos, endNanos, cpuNanos, allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentTiming{" +
+                "id=" + id +
+                ", wallTime=" + getWallTime() +
+                ", cpuTime=" + getCpuTime() +
+                ", allocatedBytes=" + getAllocatedBytes() +
+                '}';
+    }
+}
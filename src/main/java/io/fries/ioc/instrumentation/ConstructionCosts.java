@@ -0,0 +1,109 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.isNull;
+
+public class ConstructionCosts implements InstantiationListener {
+
+    private static final char SEPARATOR = '\t';
+
+    private final LongSupplier clock;
+    private final Map<Id, Long> costs;
+    private final Map<Id, Long> startedInstantiations;
+
+    private ConstructionCosts(final LongSupplier clock, final Map<Id, Long> costs) {
+        this.clock = clock;
+        this.costs = costs;
+        this.startedInstantiations = new ConcurrentHashMap<>();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static ConstructionCosts empty() {
+        return of(System::nanoTime, new ConcurrentHashMap<>());
+    }
+
+    static ConstructionCosts of(final LongSupplier clock, final Map<Id, Long> costs) {
+        Objects.requireNonNull(clock);
+        Objects.requireNonNull(costs);
+
+        return new ConstructionCosts(clock, new ConcurrentHashMap<>(costs));
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static ConstructionCosts load(final Path file) {
+        Objects.requireNonNull(file);
+
+        if (!Files.isRegularFile(file))
+            return empty();
+
+        try {
+            final Map<Id, Long> costs = new HashMap<>();
+            for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8))
+                parse(line, costs);
+
+            return of(System::nanoTime, costs);
+        } catch (final IOException e) {
+            return empty();
+        }
+    }
+
+    private static void parse(final String line, final Map<Id, Long> costs) {
+        final int separator = line.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == line.length() - 1)
+            return;
+
+        try {
+            costs.put(Id.of(line.substring(separator + 1)), Long.parseLong(line.substring(0, separator)));
+        } catch (final NumberFormatException ignored) {
+        }
+    }
+
+    @Override
+    public void instantiationStarted(final Registrable registrable) {
+        if (!registrable.isLazy())
+            startedInstantiations.put(registrable.getId(), clock.getAsLong());
+    }
+
+    @Override
+    public void instantiationEnded(final Registrable registrable) {
+        final Long startNanos = startedInstantiations.remove(registrable.getId());
+
+        if (!isNull(startNanos))
+            costs.put(registrable.getId(), clock.getAsLong() - startNanos);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Optional<Duration> find(final Id id) {
+        final Long nanos = costs.get(id);
+        return isNull(nanos) ? Optional.empty() : Optional.of(Duration.ofNanos(nanos));
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void save(final Path file) {
+        final List<String> lines = new ArrayList<>();
+        costs.forEach((id, nanos) -> {
+            if (id.getValue().indexOf('\n') < 0 && id.getValue().indexOf('\r') < 0)
+                lines.add(nanos + String.valueOf(SEPARATOR) + id.getValue());
+        });
+
+        try {
+            if (!isNull(file.toAbsolutePath().getParent()))
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
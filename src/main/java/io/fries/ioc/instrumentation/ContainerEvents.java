@@ -0,0 +1,43 @@
+package io.fries.ioc.instrumentation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ContainerEvents {
+
+    static final int PROVIDE_SAMPLING = Math.max(1, Integer.getInteger("io.fries.ioc.jfr.provideSampling", 64));
+
+    private static final FlightRecorderEventType COMPONENT_SCAN = FlightRecorderEventType.define(
+            "io.fries.ioc.ComponentScan", "Component Scan"
+    );
+    private static final FlightRecorderEventType COMPONENT_INSTANTIATION = FlightRecorderEventType.define(
+            "io.fries.ioc.ComponentInstantiation", "Component Instantiation", "componentId", "registrableType"
+    );
+    private static final FlightRecorderEventType PROXY_MATERIALIZATION = FlightRecorderEventType.define(
+            "io.fries.ioc.ProxyMaterialization", "Proxy Materialization", "instanceType"
+    );
+    private static final FlightRecorderEventType COMPONENT_PROVIDE = FlightRecorderEventType.define(
+            "io.fries.ioc.ComponentProvide", "Component Provide", "componentId"
+    );
+
+    private ContainerEvents() {
+    }
+
+    public static FlightRecorderEvent beginScan() {
+        return COMPONENT_SCAN.begin();
+    }
+
+    public static FlightRecorderEvent beginInstantiation() {
+        return COMPONENT_INSTANTIATION.begin();
+    }
+
+    public static FlightRecorderEvent beginMaterialization() {
+        return PROXY_MATERIALIZATION.begin();
+    }
+
+    public static FlightRecorderEvent beginSampledProvide() {
+        if (!COMPONENT_PROVIDE.isEnabled() || ThreadLocalRandom.current().nextInt(PROVIDE_SAMPLING) != 0)
+            return FlightRecorderEvent.DISABLED;
+
+        return COMPONENT_PROVIDE.begin();
+    }
+}
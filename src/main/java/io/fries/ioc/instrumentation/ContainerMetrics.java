@@ -0,0 +1,32 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+
+import java.lang.reflect.Method;
+
+public interface ContainerMetrics {
+
+    static ContainerMetrics none() {
+        return InstalledContainerMetrics.NONE;
+    }
+
+    static ContainerMetrics installed() {
+        return InstalledContainerMetrics.get();
+    }
+
+    static void install(final ContainerMetrics containerMetrics) {
+        InstalledContainerMetrics.set(containerMetrics);
+    }
+
+    default void provided(final Id id) {
+    }
+
+    default void missed() {
+    }
+
+    default void proxyInvoked(final Method method, final long nanos) {
+    }
+
+    default void proxyMaterialized(final Class<?> type, final long nanos) {
+    }
+}
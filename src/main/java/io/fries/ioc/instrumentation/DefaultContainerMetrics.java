@@ -0,0 +1,87 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+public class DefaultContainerMetrics implements ContainerMetrics {
+
+    private final ConcurrentHashMap<Id, LongAdder> provisions;
+    private final LongAdder misses;
+    private final ConcurrentHashMap<Method, LatencyHistogram> invocations;
+    private final ConcurrentHashMap<Class<?>, LatencyHistogram> materializations;
+
+    public DefaultContainerMetrics() {
+        this.provisions = new ConcurrentHashMap<>();
+        this.misses = new LongAdder();
+        this.invocations = new ConcurrentHashMap<>();
+        this.materializations = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void provided(final Id id) {
+        get(provisions, id, LongAdder::new).increment();
+    }
+
+    @Override
+    public void missed() {
+        misses.increment();
+    }
+
+    @Override
+    public void proxyInvoked(final Method method, final long nanos) {
+        get(invocations, method, LatencyHistogram::empty).record(nanos);
+    }
+
+    @Override
+    public void proxyMaterialized(final Class<?> type, final long nanos) {
+        get(materializations, type, LatencyHistogram::empty).record(nanos);
+    }
+
+    // ConcurrentHashMap.computeIfAbsent locks the bin even when the key is present on Java 8.
+    private <K, V> V get(final ConcurrentHashMap<K, V> values, final K key, final Supplier<V> factory) {
+        final V value = values.get(key);
+        return isNull(value) ? values.computeIfAbsent(key, absent -> factory.get()) : value;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Map<Id, Long> getProvisions() {
+        final Map<Id, Long> counts = new HashMap<>();
+        provisions.forEach((id, count) -> counts.put(id, count.sum()));
+
+        return counts;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Map<Method, LatencyHistogram> getInvocations() {
+        return Collections.unmodifiableMap(invocations);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Map<Class<?>, LatencyHistogram> getMaterializations() {
+        return Collections.unmodifiableMap(materializations);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultContainerMetrics{" +
+                "provisions=" + getProvisions() +
+                ", misses=" + misses +
+                ", invocations=" + invocations +
+                ", materializations=" + materializations +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package io.fries.ioc.instrumentation;
+
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+public class FlightRecorderEvent {
+
+    static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null, null);
+
+    private final FlightRecorderEventType type;
+    private final Object event;
+
+    private FlightRecorderEvent(final FlightRecorderEventType type, final Object event) {
+        this.type = type;
+        this.event = event;
+    }
+
+    static FlightRecorderEvent of(final FlightRecorderEventType type, final Object event) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(event);
+
+        return new FlightRecorderEvent(type, event);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public boolean isRecording() {
+        return !isNull(event);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void commit() {
+        if (isRecording())
+            type.commit(event);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void commit(final Object value) {
+        if (isRecording())
+            type.commit(event, value);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void commit(final Object firstValue, final Object secondValue) {
+        if (isRecording())
+            type.commit(event, firstValue, secondValue);
+    }
+}
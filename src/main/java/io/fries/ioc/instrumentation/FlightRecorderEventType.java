@@ -0,0 +1,125 @@
+package io.fries.ioc.instrumentation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.isNull;
+
+class FlightRecorderEventType {
+
+    private static final String CATEGORY = "IoC Container";
+
+    private final MethodHandle isEnabled;
+    private final MethodHandle newEvent;
+    private final MethodHandle begin;
+    private final MethodHandle set;
+    private final MethodHandle end;
+    private final MethodHandle commit;
+
+    private FlightRecorderEventType(final MethodHandle isEnabled, final MethodHandle newEvent, final MethodHandle begin, final MethodHandle set, final MethodHandle end, final MethodHandle commit) {
+        this.isEnabled = isEnabled;
+        this.newEvent = newEvent;
+        this.begin = begin;
+        this.set = set;
+        this.end = end;
+        this.commit = commit;
+    }
+
+    static FlightRecorderEventType define(final String name, final String label, final String... fields) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(label);
+
+        try {
+            return register(name, label, fields);
+        } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Flight Recorder is not available on this JVM: the event is never recorded.
+            return new FlightRecorderEventType(null, null, null, null, null, null);
+        }
+    }
+
+    private static FlightRecorderEventType register(final String name, final String label, final String... fields) throws ReflectiveOperationException {
+        final Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+        final Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType");
+        final Class<?> eventClass = Class.forName("jdk.jfr.Event");
+        final Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+        final Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+        final Constructor<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class);
+
+        final List<Object> annotations = new ArrayList<>();
+        annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Name"), name));
+        annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Label"), label));
+        annotations.add(annotationElement.newInstance(annotation("jdk.jfr.Category"), new String[]{CATEGORY}));
+
+        final List<Object> valueDescriptors = new ArrayList<>();
+        for (final String field : fields)
+            valueDescriptors.add(valueDescriptor.newInstance(String.class, field));
+
+        final Object eventFactory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, valueDescriptors);
+        final Object eventType = eventFactoryClass.getMethod("getEventType").invoke(eventFactory);
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+        return new FlightRecorderEventType(
+                lookup.findVirtual(eventTypeClass, "isEnabled", methodType(boolean.class)).bindTo(eventType),
+                lookup.findVirtual(eventFactoryClass, "newEvent", methodType(eventClass)).bindTo(eventFactory).asType(methodType(Object.class)),
+                lookup.findVirtual(eventClass, "begin", methodType(void.class)).asType(methodType(void.class, Object.class)),
+                lookup.findVirtual(eventClass, "set", methodType(void.class, int.class, Object.class)).asType(methodType(void.class, Object.class, int.class, Object.class)),
+                lookup.findVirtual(eventClass, "end", methodType(void.class)).asType(methodType(void.class, Object.class)),
+                lookup.findVirtual(eventClass, "commit", methodType(void.class)).asType(methodType(void.class, Object.class))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(final String name) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(name);
+    }
+
+    boolean isAvailable() {
+        return !isNull(isEnabled);
+    }
+
+    boolean isEnabled() {
+        if (isNull(isEnabled))
+            return false;
+
+        try {
+            return (boolean) isEnabled.invokeExact();
+        } catch (final Throwable e) {
+            return false;
+        }
+    }
+
+    FlightRecorderEvent begin() {
+        if (!isEnabled())
+            return FlightRecorderEvent.DISABLED;
+
+        try {
+            final Object event = (Object) newEvent.invokeExact();
+            begin.invokeExact(event);
+
+            return FlightRecorderEvent.of(this, event);
+        } catch (final Throwable e) {
+            return FlightRecorderEvent.DISABLED;
+        }
+    }
+
+    void commit(final Object event, final Object... values) {
+        try {
+            end.invokeExact(event);
+            for (int index = 0; index < values.length; index++)
+                set.invokeExact(event, index, (Object) format(values[index]));
+            commit.invokeExact(event);
+        } catch (final Throwable ignored) {
+            // Recording an event must never break the container.
+        }
+    }
+
+    private String format(final Object value) {
+        return value instanceof Class ? ((Class<?>) value).getName() : String.valueOf(value);
+    }
+}
@@ -0,0 +1,29 @@
+package io.fries.ioc.instrumentation;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+class InstalledContainerMetrics {
+
+    static final ContainerMetrics NONE = new ContainerMetrics() {
+    };
+
+    private static volatile ContainerMetrics installed = load();
+
+    private InstalledContainerMetrics() {
+    }
+
+    private static ContainerMetrics load() {
+        final Iterator<ContainerMetrics> providers = ServiceLoader.load(ContainerMetrics.class).iterator();
+        return providers.hasNext() ? providers.next() : NONE;
+    }
+
+    static ContainerMetrics get() {
+        return installed;
+    }
+
+    static void set(final ContainerMetrics containerMetrics) {
+        installed = Objects.requireNonNull(containerMetrics);
+    }
+}
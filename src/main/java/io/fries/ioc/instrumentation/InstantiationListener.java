@@ -0,0 +1,56 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.registry.Registrable;
+
+import java.util.Objects;
+
+public interface InstantiationListener {
+
+    static InstantiationListener none() {
+        return new InstantiationListener() {
+        };
+    }
+
+    default void phaseStarted(final StartupPhase phase) {
+    }
+
+    default void phaseEnded(final StartupPhase phase) {
+    }
+
+    default void instantiationStarted(final Registrable registrable) {
+    }
+
+    default void instantiationEnded(final Registrable registrable) {
+    }
+
+    default InstantiationListener andThen(final InstantiationListener next) {
+        Objects.requireNonNull(next);
+
+        final InstantiationListener first = this;
+        return new InstantiationListener() {
+            @Override
+            public void phaseStarted(final StartupPhase phase) {
+                first.phaseStarted(phase);
+                next.phaseStarted(phase);
+            }
+
+            @Override
+            public void phaseEnded(final StartupPhase phase) {
+                next.phaseEnded(phase);
+                first.phaseEnded(phase);
+            }
+
+            @Override
+            public void instantiationStarted(final Registrable registrable) {
+                first.instantiationStarted(registrable);
+                next.instantiationStarted(registrable);
+            }
+
+            @Override
+            public void instantiationEnded(final Registrable registrable) {
+                next.instantiationEnded(registrable);
+                first.instantiationEnded(registrable);
+            }
+        };
+    }
+}
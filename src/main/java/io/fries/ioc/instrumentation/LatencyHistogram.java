@@ -0,0 +1,105 @@
+package io.fries.ioc.instrumentation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maximumNanos;
+
+    private LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maximumNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static LatencyHistogram empty() {
+        return new LatencyHistogram();
+    }
+
+    static int indexOf(final long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return (int) nanos;
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        final int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public void record(final long nanos) {
+        final long recorded = Math.max(0, nanos);
+
+        buckets.incrementAndGet(indexOf(recorded));
+        count.increment();
+        totalNanos.add(recorded);
+        maximumNanos.accumulate(recorded);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public long getCount() {
+        return count.sum();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Duration getMean() {
+        final long recorded = count.sum();
+        return recorded == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / recorded);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Duration getMaximum() {
+        return Duration.ofNanos(maximumNanos.get());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Duration getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+
+        final long recorded = count.sum();
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long cumulated = 0;
+
+        for (int index = 0; index < BUCKETS && recorded > 0; index++) {
+            cumulated += buckets.get(index);
+
+            if (cumulated >= rank)
+                return Duration.ofNanos(Math.min(upperBoundOf(index), maximumNanos.get()));
+        }
+
+        return getMaximum();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", mean=" + getMean() +
+                ", p99=" + getPercentile(99) +
+                ", maximum=" + getMaximum() +
+                '}';
+    }
+}
@@ -0,0 +1,8 @@
+package io.fries.ioc.instrumentation;
+
+public enum StartupPhase {
+    SCANNING,
+    SORTING,
+    CONSTRUCTION,
+    INITIALIZATION
+}
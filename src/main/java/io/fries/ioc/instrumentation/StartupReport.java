@@ -0,0 +1,145 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+public class StartupReport {
+
+    private final List<ComponentTiming> componentTimings;
+    private final Map<StartupPhase, Long> phaseNanos;
+
+    private StartupReport(final List<ComponentTiming> componentTimings, final Map<StartupPhase, Long> phaseNanos) {
+        this.componentTimings = componentTimings;
+        this.phaseNanos = phaseNanos;
+    }
+
+    static StartupReport of(final List<ComponentTiming> componentTimings, final Map<StartupPhase, Long> phaseNanos) {
+        Objects.requireNonNull(componentTimings);
+        Objects.requireNonNull(phaseNanos);
+
+        final List<ComponentTiming> sortedTimings = new ArrayList<>(componentTimings);
+        sortedTimings.sort(comparingLong(ComponentTiming::getStartNanos));
+
+        return new StartupReport(sortedTimings, phaseNanos);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public List<ComponentTiming> getComponentTimings() {
+        return componentTimings;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public Duration getPhaseTime(final StartupPhase phase) {
+        return Duration.ofNanos(phaseNanos.getOrDefault(phase, 0L));
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public List<ComponentTiming> getSlowestComponents(final int count) {
+        return componentTimings
+                .stream()
+                .sorted(comparingLong(ComponentTiming::getWallNanos).reversed())
+                .limit(count)
+                .collect(toList());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public List<ComponentTiming> getCriticalPath() {
+        final List<ComponentTiming> byEnd = new ArrayList<>(componentTimings);
+        byEnd.sort(comparingLong(ComponentTiming::getEndNanos));
+
+        final Map<Id, ComponentTiming> finished = new HashMap<>();
+        final Map<ComponentTiming, Long> pathNanos = new IdentityHashMap<>();
+        final Map<ComponentTiming, ComponentTiming> predecessors = new IdentityHashMap<>();
+        ComponentTiming last = null;
+
+        for (final ComponentTiming timing : byEnd) {
+            ComponentTiming predecessor = null;
+
+            for (final Id dependency : timing.getDependencies()) {
+                final ComponentTiming dependencyTiming = finished.get(dependency);
+
+                // Only the dependencies built before the component delayed it: lazy ones, such as proxies, did not.
+                if (isNull(dependencyTiming) || dependencyTiming.getEndNanos() > timing.getStartNanos())
+                    continue;
+
+                if (isNull(predecessor) || pathNanos.get(dependencyTiming) > pathNanos.get(predecessor))
+                    predecessor = dependencyTiming;
+            }
+
+            if (!isNull(predecessor))
+                predecessors.put(timing, predecessor);
+
+            pathNanos.put(timing, (isNull(predecessor) ? 0 : pathNanos.get(predecessor)) + timing.getWallNanos());
+            finished.put(timing.getId(), timing);
+
+            if (isNull(last) || pathNanos.get(timing) > pathNanos.get(last))
+                last = timing;
+        }
+
+        final LinkedList<ComponentTiming> criticalPath = new LinkedList<>();
+        for (ComponentTiming timing = last; !isNull(timing); timing = predecessors.get(timing))
+            criticalPath.addFirst(timing);
+
+        return criticalPath;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public String describe(final int slowestCount) {
+        final List<ComponentTiming> criticalPath = getCriticalPath();
+        final long criticalPathNanos = criticalPath.stream().mapToLong(ComponentTiming::getWallNanos).sum();
+        final StringBuilder description = new StringBuilder();
+
+        description.append("Startup phases:");
+        for (final StartupPhase phase : StartupPhase.values())
+            description.append(' ').append(phase).append('=').append(millis(phaseNanos.getOrDefault(phase, 0L)));
+
+        description.append("\nSlowest components:");
+        for (final ComponentTiming timing : getSlowestComponents(slowestCount))
+            description.append("\n  ").append(describe(timing));
+
+        description.append("\nCritical path (").append(millis(criticalPathNanos)).append("): ")
+                .append(criticalPath.stream().map(timing -> timing.getId().toString()).collect(joining(" -> ")));
+
+        return description.toString();
+    }
+
+    private String describe(final ComponentTiming timing) {
+        return timing.getId() +
+                " wall=" + millis(timing.getWallNanos()) +
+                " cpu=" + timing.getCpuTime().map(cpuTime -> millis(cpuTime.toNanos())).orElse("n/a") +
+                " allocated=" + (timing.getAllocatedBytes().isPresent() ? timing.getAllocatedBytes().getAsLong() + "B" : "n/a");
+    }
+
+    private String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final StartupReport that = (StartupReport) o;
+        return Objects.equals(componentTimings, that.componentTimings) &&
+                Objects.equals(phaseNanos, that.phaseNanos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(componentTimings, phaseNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "StartupReport{" +
+                "componentTimings=" + componentTimings +
+                ", phaseNanos=" + phaseNanos +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+public class StartupTimeline implements InstantiationListener {
+
+    private final ThreadResources threadResources;
+    private final Map<StartupPhase, Long> startedPhases;
+    private final Map<StartupPhase, LongAdder> phaseNanos;
+    private final Map<Id, Sample> startedInstantiations;
+    private final Queue<ComponentTiming> componentTimings;
+
+    private StartupTimeline(final ThreadResources threadResources) {
+        this.threadResources = threadResources;
+        this.startedPhases = new ConcurrentHashMap<>();
+        this.phaseNanos = new ConcurrentHashMap<>();
+        this.startedInstantiations = new ConcurrentHashMap<>();
+        this.componentTimings = new ConcurrentLinkedQueue<>();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static StartupTimeline create() {
+        return of(ThreadResources.current());
+    }
+
+    static StartupTimeline of(final ThreadResources threadResources) {
+        Objects.requireNonNull(threadResources);
+        return new StartupTimeline(threadResources);
+    }
+
+    @Override
+    public void phaseStarted(final StartupPhase phase) {
+        startedPhases.put(phase, threadResources.wallNanos());
+    }
+
+    @Override
+    public void phaseEnded(final StartupPhase phase) {
+        final Long startNanos = startedPhases.remove(phase);
+
+        if (!isNull(startNanos))
+            phaseNanos.computeIfAbsent(phase, key -> new LongAdder()).add(threadResources.wallNanos() - startNanos);
+    }
+
+    @Override
+    public void instantiationStarted(final Registrable registrable) {
+        startedInstantiations.put(registrable.getId(), new Sample(
+                threadResources.wallNanos(),
+                threadResources.cpuNanos(),
+                threadResources.allocatedBytes()
+        ));
+    }
+
+    @Override
+    public void instantiationEnded(final Registrable registrable) {
+        final long endNanos = threadResources.wallNanos();
+        final long endCpuNanos = threadResources.cpuNanos();
+        final long endAllocatedBytes = threadResources.allocatedBytes();
+        final Sample start = startedInstantiations.remove(registrable.getId());
+
+        if (isNull(start))
+            return;
+
+        componentTimings.add(ComponentTiming.of(
+                registrable.getId(),
+                registrable.getDependencies(),
+                start.wallNanos,
+                endNanos,
+                difference(start.cpuNanos, endCpuNanos),
+                difference(start.allocatedBytes, endAllocatedBytes)
+        ));
+    }
+
+    private long difference(final long start, final long end) {
+        return start == ThreadResources.UNSUPPORTED || end == ThreadResources.UNSUPPORTED
+                ? ThreadResources.UNSUPPORTED
+                : end - start;
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public StartupReport report() {
+        final Map<StartupPhase, Long> phases = new EnumMap<>(StartupPhase.class);
+        phaseNanos.forEach((phase, nanos) -> phases.put(phase, nanos.sum()));
+
+        return StartupReport.of(new ArrayList<>(componentTimings), phases);
+    }
+
+    private static class Sample {
+
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        private Sample(final long wallNanos, final long cpuNanos, final long allocatedBytes) {
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.fries.ioc.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+class ThreadResources {
+
+    static final long UNSUPPORTED = -1;
+
+    private final ThreadMXBean threadMXBean;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+
+    private ThreadResources(final ThreadMXBean threadMXBean, final boolean cpuTimeSupported, final boolean allocatedBytesSupported) {
+        this.threadMXBean = threadMXBean;
+        this.cpuTimeSupported = cpuTimeSupported;
+        this.allocatedBytesSupported = allocatedBytesSupported;
+    }
+
+    static ThreadResources current() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        final boolean cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+
+        return new ThreadResources(threadMXBean, cpuTimeSupported, isAllocatedBytesSupported(threadMXBean));
+    }
+
+    private static boolean isAllocatedBytesSupported(final ThreadMXBean threadMXBean) {
+        try {
+            return threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                    ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported() &&
+                    ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+        } catch (final LinkageError e) {
+            return false;
+        }
+    }
+
+    long wallNanos() {
+        return System.nanoTime();
+    }
+
+    long cpuNanos() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : UNSUPPORTED;
+    }
+
+    long allocatedBytes() {
+        if (!allocatedBytesSupported)
+            return UNSUPPORTED;
+
+        return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
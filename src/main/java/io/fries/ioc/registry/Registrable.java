@@ -5,8 +5,24 @@ import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
 import io.fries.ioc.instantiator.Instantiator;
 
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
 public interface Registrable {
     Id getId();
     int countDependencies(final Registry registry);
     Component instantiate(final Instantiator instantiator, final Components components);
+
+    default List<Id> getDependencies() {
+        return emptyList();
+    }
+
+    default boolean isLazy() {
+        return false;
+    }
+
+    default boolean isContextual() {
+        return false;
+    }
 }
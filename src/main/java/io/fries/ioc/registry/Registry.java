@@ -4,43 +4,100 @@ import io.fries.ioc.components.Component;
 import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
 import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.instrumentation.ContainerEvents;
+import io.fries.ioc.instrumentation.FlightRecorderEvent;
+import io.fries.ioc.instrumentation.InstantiationListener;
+import io.fries.ioc.instrumentation.StartupPhase;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.singleton;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Comparator.comparingInt;
 import static java.util.Objects.isNull;
 import static java.util.stream.Collectors.toList;
 
 public class Registry {
 
     private final Map<Id, Registrable> registrables;
+    private final boolean concurrent;
+    private final Registry parent;
+    private final InstantiationListener instantiationListener;
 
-    private Registry(final Map<Id, Registrable> registrables) {
-        this.registrables = unmodifiableMap(registrables);
+    private Registry(final Map<Id, Registrable> registrables, final boolean concurrent, final Registry parent, final InstantiationListener instantiationListener) {
+        this.registrables = registrables;
+        this.concurrent = concurrent;
+        this.parent = parent;
+        this.instantiationListener = instantiationListener;
     }
 
     public static Registry of(final Map<Id, Registrable> registrables) {
-        return new Registry(registrables);
+        return new Registry(unmodifiableMap(registrables), false, null, InstantiationListener.none());
     }
 
     public static Registry empty() {
         return of(emptyMap());
     }
 
+    public static Registry concurrent() {
+        return new Registry(new ConcurrentHashMap<>(), true, null, InstantiationListener.none());
+    }
+
+    public Registry child() {
+        return new Registry(emptyMap(), false, this, instantiationListener);
+    }
+
+    public Registry listenedBy(final InstantiationListener instantiationListener) {
+        Objects.requireNonNull(instantiationListener);
+        return new Registry(registrables, concurrent, parent, this.instantiationListener.andThen(instantiationListener));
+    }
+
+    public InstantiationListener getInstantiationListener() {
+        return instantiationListener;
+    }
+
     public Registry add(final Registrable registrable) {
+        if (concurrent)
+            return addConcurrently(registrable);
+
         if (registrables.containsKey(registrable.getId()))
-            throw new IllegalStateException("Another component was already registered with the id: " + registrable.getId());
+            throw alreadyRegistered(registrable);
 
+        return put(registrable);
+    }
+
+    public Registry replace(final Registrable registrable) {
+        get(registrable.getId());
+        return put(registrable);
+    }
+
+    private Registry put(final Registrable registrable) {
         final Map<Id, Registrable> registrables = new HashMap<>(this.registrables);
         registrables.put(registrable.getId(), registrable);
 
-        return of(registrables);
+        return new Registry(unmodifiableMap(registrables), false, parent, instantiationListener);
+    }
+
+    private Registry addConcurrently(final Registrable registrable) {
+        final Registrable existing = registrables.putIfAbsent(registrable.getId(), registrable);
+
+        if (!isNull(existing))
+            throw alreadyRegistered(registrable);
+
+        return this;
+    }
+
+    private IllegalStateException alreadyRegistered(final Registrable registrable) {
+        return new IllegalStateException("Another component was already registered with the id: " + registrable.getId());
     }
 
     public Registrable get(final Id id) {
-        final Registrable registrable = registrables.get(id);
+        final Registrable registrable = find(id);
 
         if (isNull(registrable))
             throw new NoSuchElementException("This identifier is not linked to any component inside the container: " + id);
@@ -48,34 +105,194 @@ public class Registry {
         return registrable;
     }
 
+    public boolean contains(final Id id) {
+        return !isNull(find(id));
+    }
+
+    private Registrable find(final Id id) {
+        final Registrable registrable = registrables.get(id);
+        return isNull(registrable) && !isNull(parent) ? parent.find(id) : registrable;
+    }
+
     public Components instantiate(final Instantiator instantiator) {
         final List<Registrable> sortedRegistrables = topologicalSort(registrables.values());
 
-        return sortedRegistrables
+        instantiationListener.phaseStarted(StartupPhase.CONSTRUCTION);
+        try {
+            return sortedRegistrables
+                    .stream()
+                    .reduce(
+                            Components.empty(),
+                            reduceDependencies(instantiator),
+                            Components::merge
+                    );
+        } finally {
+            instantiationListener.phaseEnded(StartupPhase.CONSTRUCTION);
+        }
+    }
+
+    public Components instantiate(final Instantiator instantiator, final Components parentComponents) {
+        final List<Registrable> sortedRegistrables = topologicalSort(findOwned());
+        return instantiateInto(instantiator, Components.inheriting(parentComponents), sortedRegistrables);
+    }
+
+    public List<Id> instantiationOrder() {
+        return sort(findOwned())
                 .stream()
-                .reduce(
-                        Components.empty(),
-                        reduceDependencies(instantiator),
-                        Components::merge
-                );
+                .map(Registrable::getId)
+                .collect(toList());
+    }
+
+    private Collection<Registrable> findOwned() {
+        return isNull(parent) ? registrables.values() : findDependents(registrables.keySet());
+    }
+
+    public Components reinstantiate(final Instantiator instantiator, final Components components, final Id id) {
+        final List<Registrable> sortedRegistrables = topologicalSort(findDependents(singleton(id)));
+        return instantiateInto(instantiator, components.copy(), sortedRegistrables);
     }
 
     private BiFunction<Components, Registrable, Components> reduceDependencies(final Instantiator instantiator) {
         return (components, registrable) -> {
-            final Component component = registrable.instantiate(instantiator, components);
+            final Component component = instantiate(registrable, instantiator, components);
             return components.add(component);
         };
     }
 
+    private Components instantiateInto(final Instantiator instantiator, final Components components, final List<Registrable> sortedRegistrables) {
+        instantiationListener.phaseStarted(StartupPhase.CONSTRUCTION);
+        try {
+            sortedRegistrables.forEach(registrable -> components.add(instantiate(registrable, instantiator, components)));
+            return components;
+        } finally {
+            instantiationListener.phaseEnded(StartupPhase.CONSTRUCTION);
+        }
+    }
+
+    private Component instantiate(final Registrable registrable, final Instantiator instantiator, final Components components) {
+        final FlightRecorderEvent event = ContainerEvents.beginInstantiation();
+
+        instantiationListener.instantiationStarted(registrable);
+        try {
+            return registrable.instantiate(instantiator, components);
+        } finally {
+            instantiationListener.instantiationEnded(registrable);
+            event.commit(registrable.getId(), registrable.getClass());
+        }
+    }
+
+    private List<Registrable> findDependents(final Collection<Id> ids) {
+        final Map<Id, List<Registrable>> dependents = new HashMap<>();
+        flatten().values().forEach(registrable -> registrable.getDependencies().forEach(dependency ->
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(registrable)
+        ));
+
+        final Set<Id> visited = new HashSet<>();
+        final List<Registrable> found = new ArrayList<>();
+        final Deque<Registrable> pending = new ArrayDeque<>();
+        ids.forEach(id -> pending.push(get(id)));
+
+        while (!pending.isEmpty()) {
+            final Registrable registrable = pending.pop();
+
+            if (visited.add(registrable.getId())) {
+                found.add(registrable);
+                dependents.getOrDefault(registrable.getId(), emptyList()).forEach(pending::push);
+            }
+        }
+
+        return found;
+    }
+
+    private Map<Id, Registrable> flatten() {
+        if (isNull(parent))
+            return registrables;
+
+        final Map<Id, Registrable> flattened = new HashMap<>(parent.flatten());
+        flattened.putAll(registrables);
+
+        return flattened;
+    }
+
     private List<Registrable> topologicalSort(final Collection<Registrable> registrables) {
+        instantiationListener.phaseStarted(StartupPhase.SORTING);
+        try {
+            return sort(registrables);
+        } finally {
+            instantiationListener.phaseEnded(StartupPhase.SORTING);
+        }
+    }
+
+    private List<Registrable> sort(final Collection<Registrable> registrables) {
+        registrables.forEach(this::checkContextualDependencies);
+
+        final Map<Registrable, Integer> ranks = new IdentityHashMap<>();
+        registrables.forEach(registrable -> rank(registrable, ranks));
+
         return registrables
                 .stream()
-                .sorted(this::compareRegistrables)
+                .sorted(comparingInt(ranks::get))
                 .collect(toList());
     }
 
-    private int compareRegistrables(final Registrable firstRegistrable, final Registrable secondRegistrable) {
-        return firstRegistrable.countDependencies(this) - secondRegistrable.countDependencies(this);
+    private void checkContextualDependencies(final Registrable registrable) {
+        if (registrable.isContextual())
+            return;
+
+        for (final Id dependency : registrable.getDependencies()) {
+            final Registrable required = find(dependency);
+            if (!isNull(required) && required.isContextual())
+                throw new IllegalStateException("A shared component cannot depend on a contextual component: " + registrable.getId() + " -> " + dependency);
+        }
+    }
+
+    private void rank(final Registrable registrable, final Map<Registrable, Integer> ranks) {
+        final Set<Registrable> visiting = newSetFromMap(new IdentityHashMap<>());
+        final Deque<Registrable> pending = new ArrayDeque<>();
+        pending.push(registrable);
+
+        while (!pending.isEmpty()) {
+            final Registrable current = pending.peek();
+            if (ranks.containsKey(current)) {
+                pending.pop();
+                continue;
+            }
+
+            final List<Registrable> unranked = findRequiredDependencies(current)
+                    .stream()
+                    .filter(dependency -> !ranks.containsKey(dependency))
+                    .collect(toList());
+
+            if (unranked.isEmpty()) {
+                ranks.put(current, computeRank(current, ranks));
+                pending.pop();
+            } else if (!visiting.add(current)) {
+                throw new IllegalStateException("Circular dependency detected on the component: " + current.getId());
+            } else {
+                unranked.forEach(pending::push);
+            }
+        }
+    }
+
+    private int computeRank(final Registrable registrable, final Map<Registrable, Integer> ranks) {
+        if (registrable.getDependencies().isEmpty())
+            return registrable.countDependencies(this);
+
+        return findRequiredDependencies(registrable)
+                .stream()
+                .mapToInt(dependency -> ranks.get(dependency) + 1)
+                .max()
+                .orElse(0);
+    }
+
+    private List<Registrable> findRequiredDependencies(final Registrable registrable) {
+        if (registrable.isLazy())
+            return emptyList();
+
+        return registrable.getDependencies()
+                .stream()
+                .map(this::get)
+                .collect(toList());
     }
 
     @Override
@@ -83,12 +300,13 @@ public class Registry {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final Registry registry1 = (Registry) o;
-        return Objects.equals(registrables, registry1.registrables);
+        return Objects.equals(registrables, registry1.registrables) &&
+                Objects.equals(parent, registry1.parent);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(registrables);
+        return Objects.hash(registrables, parent);
     }
 
     @Override
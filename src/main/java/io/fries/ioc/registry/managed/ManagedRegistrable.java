@@ -35,6 +35,15 @@ public class ManagedRegistrable implements Registrable {
         return id;
     }
 
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
     @Override
     public int countDependencies(final Registry registry) {
         final int firstLevelDependencies = dependencies.size();
@@ -3,6 +3,10 @@ package io.fries.ioc.registry.managed;
 import io.fries.ioc.components.Id;
 import io.fries.ioc.registry.Registrable;
 import io.fries.ioc.registry.RegistrableBuilder;
+import io.fries.ioc.registry.pooled.PoolConfiguration;
+import io.fries.ioc.registry.pooled.PooledRegistrable;
+import io.fries.ioc.registry.scoped.ScopedRegistrable;
+import io.fries.ioc.registry.thread.ThreadRegistrable;
 import io.fries.ioc.scanner.dependencies.DependenciesScanner;
 import io.fries.ioc.scanner.dependencies.DependenciesTypeScanner;
 
@@ -20,6 +24,9 @@ public class ManagedRegistrableBuilder implements RegistrableBuilder {
     private final Class<?> type;
     private Id id;
     private List<Id> dependencies;
+    private ManagedScope scope;
+    private boolean closeOnThreadDeath;
+    private PoolConfiguration poolConfiguration;
 
     private ManagedRegistrableBuilder(final DependenciesScanner dependenciesScanner, final Id id, final Class<?> type) {
         this(dependenciesScanner, id, type, emptyList());
@@ -30,6 +37,7 @@ public class ManagedRegistrableBuilder implements RegistrableBuilder {
         this.id = id;
         this.type = type;
         this.dependencies = dependencies;
+        this.scope = ManagedScope.SINGLETON;
     }
 
     public static ManagedRegistrableBuilder managed(final Class<?> type) {
@@ -52,12 +60,48 @@ public class ManagedRegistrableBuilder implements RegistrableBuilder {
         return this;
     }
 
+    public ManagedRegistrableBuilder perThread() {
+        return perThread(false);
+    }
+
+    public ManagedRegistrableBuilder perThread(final boolean closeOnThreadDeath) {
+        this.scope = ManagedScope.THREAD;
+        this.closeOnThreadDeath = closeOnThreadDeath;
+        return this;
+    }
+
+    public ManagedRegistrableBuilder scoped() {
+        this.scope = ManagedScope.SCOPED;
+        return this;
+    }
+
+    public ManagedRegistrableBuilder pooled(final int minimumSize, final int maximumSize) {
+        return pooled(PoolConfiguration.of(minimumSize, maximumSize));
+    }
+
+    public ManagedRegistrableBuilder pooled(final PoolConfiguration poolConfiguration) {
+        Objects.requireNonNull(poolConfiguration);
+
+        this.scope = ManagedScope.POOLED;
+        this.poolConfiguration = poolConfiguration;
+        return this;
+    }
+
     @Override
     public Registrable build() {
         if (dependencies.isEmpty())
             dependencies = dependenciesScanner.findByConstructor(type);
 
-        return ManagedRegistrable.of(id, type, dependencies);
+        switch (scope) {
+            case THREAD:
+                return ThreadRegistrable.of(id, type, dependencies, closeOnThreadDeath);
+            case SCOPED:
+                return ScopedRegistrable.of(id, type, dependencies);
+            case POOLED:
+                return PooledRegistrable.of(id, type, dependencies, poolConfiguration);
+            default:
+                return ManagedRegistrable.of(id, type, dependencies);
+        }
     }
 
     @Override
@@ -65,14 +109,17 @@ public class ManagedRegistrableBuilder implements RegistrableBuilder {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final ManagedRegistrableBuilder that = (ManagedRegistrableBuilder) o;
-        return Objects.equals(id, that.id) &&
+        return scope == that.scope &&
+                closeOnThreadDeath == that.closeOnThreadDeath &&
+                Objects.equals(poolConfiguration, that.poolConfiguration) &&
+                Objects.equals(id, that.id) &&
                 Objects.equals(type, that.type) &&
                 Objects.equals(dependencies, that.dependencies);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, type, dependencies);
+        return Objects.hash(id, type, dependencies, scope, closeOnThreadDeath, poolConfiguration);
     }
 
     @Override
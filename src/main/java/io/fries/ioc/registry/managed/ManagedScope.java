@@ -0,0 +1,8 @@
+package io.fries.ioc.registry.managed;
+
+enum ManagedScope {
+    SINGLETON,
+    THREAD,
+    SCOPED,
+    POOLED
+}
@@ -0,0 +1,35 @@
+package io.fries.ioc.registry.pooled;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class Handle<T> implements AutoCloseable {
+
+    private final Pool<T> pool;
+    private final Pool.Entry entry;
+    private final AtomicBoolean released;
+
+    Handle(final Pool<T> pool, final Pool.Entry entry) {
+        this.pool = pool;
+        this.entry = entry;
+        this.released = new AtomicBoolean();
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (released.get())
+            throw new IllegalStateException("This handle has already been returned to its pool");
+
+        return (T) entry.instance;
+    }
+
+    public void invalidate() {
+        if (released.compareAndSet(false, true))
+            pool.discard(entry);
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true))
+            pool.giveBack(entry);
+    }
+}
@@ -0,0 +1,294 @@
+package io.fries.ioc.registry.pooled;
+
+import io.fries.ioc.components.ComponentCloseException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+public class Pool<T> implements AutoCloseable {
+
+    private static final long MAXIMUM_BACKOFF_NANOS = 1_000_000;
+
+    private final Supplier<?> instanceSupplier;
+    private final PoolConfiguration configuration;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Entry> idleEntries;
+    private final AtomicInteger size;
+    private volatile boolean closed;
+
+    private Pool(final Supplier<?> instanceSupplier, final PoolConfiguration configuration, final LongSupplier clock) {
+        this.instanceSupplier = instanceSupplier;
+        this.configuration = configuration;
+        this.clock = clock;
+        this.idleEntries = new AtomicReferenceArray<>(configuration.getMaximumSize());
+        this.size = new AtomicInteger();
+    }
+
+    static <T> Pool<T> of(final Supplier<?> instanceSupplier, final PoolConfiguration configuration) {
+        return of(instanceSupplier, configuration, System::nanoTime);
+    }
+
+    static <T> Pool<T> of(final Supplier<?> instanceSupplier, final PoolConfiguration configuration, final LongSupplier clock) {
+        Objects.requireNonNull(instanceSupplier);
+        Objects.requireNonNull(configuration);
+        Objects.requireNonNull(clock);
+
+        final Pool<T> pool = new Pool<>(instanceSupplier, configuration, clock);
+        pool.fill();
+
+        return pool;
+    }
+
+    private void fill() {
+        for (int index = 0; index < configuration.getMinimumSize(); index++) {
+            size.incrementAndGet();
+            giveBack(create());
+        }
+    }
+
+    public Handle<T> borrow() {
+        return borrow(Long.MAX_VALUE);
+    }
+
+    public Handle<T> borrow(final Duration timeout) {
+        Objects.requireNonNull(timeout);
+
+        if (timeout.isNegative())
+            throw new IllegalArgumentException("The borrowing timeout cannot be negative");
+
+        return borrow(timeout.toNanos());
+    }
+
+    private Handle<T> borrow(final long timeoutNanos) {
+        final long startNanos = clock.getAsLong();
+        long backoffNanos = 1;
+
+        while (true) {
+            final Optional<Handle<T>> handle = tryBorrow();
+            if (handle.isPresent())
+                return handle.get();
+
+            final long remainingNanos = timeoutNanos - (clock.getAsLong() - startNanos);
+            if (remainingNanos <= 0)
+                throw new IllegalStateException("No pooled instance became available within: " + Duration.ofNanos(timeoutNanos));
+
+            LockSupport.parkNanos(Math.min(backoffNanos, remainingNanos));
+            backoffNanos = Math.min(backoffNanos * 2, MAXIMUM_BACKOFF_NANOS);
+        }
+    }
+
+    public Optional<Handle<T>> tryBorrow() {
+        if (closed)
+            throw new IllegalStateException("This pool has already been closed");
+
+        while (true) {
+            final Entry entry = pollIdle();
+
+            if (isNull(entry))
+                return tryGrow();
+
+            if (isIdleForTooLong(entry, clock.getAsLong()) && tryShrink()) {
+                closeQuietly(entry);
+                continue;
+            }
+
+            if (!configuration.isValid(entry.instance)) {
+                discard(entry);
+                continue;
+            }
+
+            return Optional.of(new Handle<>(this, entry));
+        }
+    }
+
+    private Entry pollIdle() {
+        final int start = startIndex();
+
+        for (int probe = 0; probe < idleEntries.length(); probe++) {
+            final int index = (start + probe) % idleEntries.length();
+            final Entry entry = idleEntries.get(index);
+
+            if (!isNull(entry) && idleEntries.compareAndSet(index, entry, null))
+                return entry;
+        }
+
+        return null;
+    }
+
+    private Optional<Handle<T>> tryGrow() {
+        while (true) {
+            final int currentSize = size.get();
+
+            if (currentSize >= configuration.getMaximumSize())
+                return Optional.empty();
+
+            if (size.compareAndSet(currentSize, currentSize + 1))
+                return Optional.of(new Handle<>(this, create()));
+        }
+    }
+
+    private boolean tryShrink() {
+        while (true) {
+            final int currentSize = size.get();
+
+            if (currentSize <= configuration.getMinimumSize())
+                return false;
+
+            if (size.compareAndSet(currentSize, currentSize - 1))
+                return true;
+        }
+    }
+
+    private Entry create() {
+        try {
+            return new Entry(instanceSupplier.get());
+        } catch (final RuntimeException e) {
+            size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    void giveBack(final Entry entry) {
+        if (closed) {
+            destroy(entry);
+            return;
+        }
+
+        entry.lastReturnedNanos = clock.getAsLong();
+        offer(entry);
+    }
+
+    private void offer(final Entry entry) {
+        for (int index = startIndex(); ; index = (index + 1) % idleEntries.length()) {
+            if (isNull(idleEntries.get(index)) && idleEntries.compareAndSet(index, null, entry)) {
+                if (closed && idleEntries.compareAndSet(index, entry, null))
+                    destroy(entry);
+                return;
+            }
+        }
+    }
+
+    void destroy(final Entry entry) {
+        size.decrementAndGet();
+
+        if (!(entry.instance instanceof AutoCloseable))
+            return;
+
+        try {
+            ((AutoCloseable) entry.instance).close();
+        } catch (final Exception e) {
+            throw new ComponentCloseException(e);
+        }
+    }
+
+    void discard(final Entry entry) {
+        size.decrementAndGet();
+        closeQuietly(entry);
+    }
+
+    private void closeQuietly(final Entry entry) {
+        if (!(entry.instance instanceof AutoCloseable))
+            return;
+
+        try {
+            ((AutoCloseable) entry.instance).close();
+        } catch (final Exception ignored) {
+            // Discarded instances are closed on behalf of a borrower or of the eviction sweep, which must not receive their failures.
+        }
+    }
+
+    public int evictIdle() {
+        final long now = clock.getAsLong();
+        int evicted = 0;
+
+        for (int index = 0; index < idleEntries.length(); index++) {
+            final Entry entry = idleEntries.get(index);
+
+            if (isNull(entry) || !isIdleForTooLong(entry, now) || !idleEntries.compareAndSet(index, entry, null))
+                continue;
+
+            if (!tryShrink()) {
+                offer(entry);
+                break;
+            }
+
+            closeQuietly(entry);
+            evicted++;
+        }
+
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ComponentCloseException failure = null;
+
+        for (int index = 0; index < idleEntries.length(); index++) {
+            final Entry entry = idleEntries.get(index);
+            if (isNull(entry) || !idleEntries.compareAndSet(index, entry, null))
+                continue;
+
+            try {
+                destroy(entry);
+            } catch (final ComponentCloseException e) {
+                if (isNull(failure))
+                    failure = e;
+                else
+                    failure.addSuppressed(e.getCause());
+            }
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    private boolean isIdleForTooLong(final Entry entry, final long now) {
+        return configuration.evictsIdleInstances() && now - entry.lastReturnedNanos > configuration.getIdleTimeoutNanos();
+    }
+
+    private int startIndex() {
+        return (int) (Thread.currentThread().getId() % idleEntries.length());
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int countIdle() {
+        int count = 0;
+
+        for (int index = 0; index < idleEntries.length(); index++) {
+            if (!isNull(idleEntries.get(index)))
+                count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "Pool{" +
+                "configuration=" + configuration +
+                ", size=" + size +
+                '}';
+    }
+
+    static class Entry {
+
+        final Object instance;
+        volatile long lastReturnedNanos;
+
+        private Entry(final Object instance) {
+            this.instance = instance;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.fries.ioc.registry.pooled;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public class PoolConfiguration {
+
+    private static final Predicate<Object> ALWAYS_VALID = instance -> true;
+
+    private final int minimumSize;
+    private final int maximumSize;
+    private final Predicate<Object> validator;
+    private final Duration idleTimeout;
+
+    private PoolConfiguration(final int minimumSize, final int maximumSize, final Predicate<Object> validator, final Duration idleTimeout) {
+        this.minimumSize = minimumSize;
+        this.maximumSize = maximumSize;
+        this.validator = validator;
+        this.idleTimeout = idleTimeout;
+    }
+
+    public static PoolConfiguration of(final int minimumSize, final int maximumSize) {
+        if (minimumSize < 0)
+            throw new IllegalArgumentException("The minimum size of a pool cannot be negative");
+        if (maximumSize <= 0 || maximumSize < minimumSize)
+            throw new IllegalArgumentException("The maximum size of a pool must be positive and greater than its minimum size");
+
+        return new PoolConfiguration(minimumSize, maximumSize, ALWAYS_VALID, Duration.ZERO);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> PoolConfiguration validatedBy(final Predicate<? super T> validator) {
+        Objects.requireNonNull(validator);
+        return new PoolConfiguration(minimumSize, maximumSize, (Predicate<Object>) validator, idleTimeout);
+    }
+
+    public PoolConfiguration evictIdleAfter(final Duration idleTimeout) {
+        Objects.requireNonNull(idleTimeout);
+
+        if (idleTimeout.isNegative())
+            throw new IllegalArgumentException("The idle timeout of a pool cannot be negative");
+
+        return new PoolConfiguration(minimumSize, maximumSize, validator, idleTimeout);
+    }
+
+    int getMinimumSize() {
+        return minimumSize;
+    }
+
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    boolean isValid(final Object instance) {
+        return validator.test(instance);
+    }
+
+    boolean evictsIdleInstances() {
+        return !idleTimeout.isZero();
+    }
+
+    long getIdleTimeoutNanos() {
+        return idleTimeout.toNanos();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final PoolConfiguration that = (PoolConfiguration) o;
+        return minimumSize == that.minimumSize &&
+                maximumSize == that.maximumSize &&
+                Objects.equals(validator, that.validator) &&
+                Objects.equals(idleTimeout, that.idleTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minimumSize, maximumSize, validator, idleTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return "PoolConfiguration{" +
+                "minimumSize=" + minimumSize +
+                ", maximumSize=" + maximumSize +
+                ", idleTimeout=" + idleTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+package io.fries.ioc.registry.pooled;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.InitializationHooks;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class PooledRegistrable implements Registrable {
+
+    private final Id id;
+    private final Class<?> type;
+    private final List<Id> dependencies;
+    private final PoolConfiguration configuration;
+
+    private PooledRegistrable(final Id id, final Class<?> type, final List<Id> dependencies, final PoolConfiguration configuration) {
+        this.id = id;
+        this.type = type;
+        this.dependencies = dependencies;
+        this.configuration = configuration;
+    }
+
+    public static PooledRegistrable of(final Id id, final Class<?> type, final List<Id> dependencies, final PoolConfiguration configuration) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(dependencies);
+        Objects.requireNonNull(configuration);
+
+        return new PooledRegistrable(id, type, dependencies, configuration);
+    }
+
+    @Override
+    public Id getId() {
+        return id;
+    }
+
+    @Override
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public int countDependencies(final Registry registry) {
+        final int firstLevelDependencies = dependencies.size();
+        final int deepDependencies = countDeepDependencies(registry);
+
+        return firstLevelDependencies + deepDependencies;
+    }
+
+    private int countDeepDependencies(final Registry registry) {
+        return dependencies
+                .stream()
+                .map(registry::get)
+                .mapToInt(registrable -> registrable.countDependencies(registry))
+                .sum();
+    }
+
+    @Override
+    public Component instantiate(final Instantiator instantiator, final Components components) {
+        final Supplier<?> instanceSupplier = createInstanceSupplier(instantiator, components);
+        final Pool<?> pool = Pool.of(instanceSupplier, configuration);
+
+        return Component.of(id, pool);
+    }
+
+    private Supplier<?> createInstanceSupplier(final Instantiator instantiator, final Components components) {
+        return () -> {
+            final List<Component> requiredDependencies = components.findAllById(this.dependencies);
+            final Object instance = instantiator.createInstance(type, requiredDependencies);
+            InitializationHooks.initialize(instance);
+
+            return instance;
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final PooledRegistrable that = (PooledRegistrable) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(dependencies, that.dependencies) &&
+                Objects.equals(configuration, that.configuration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, dependencies, configuration);
+    }
+
+    @Override
+    public String toString() {
+        return "PooledRegistrable{" +
+                "id=" + id +
+                ", type=" + type +
+                ", components=" + dependencies +
+                ", configuration=" + configuration +
+                '}';
+    }
+}
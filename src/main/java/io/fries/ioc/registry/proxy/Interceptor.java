@@ -0,0 +1,31 @@
+package io.fries.ioc.registry.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.ObjLongConsumer;
+
+public interface Interceptor {
+
+    MethodType INVOCATION_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    MethodHandle intercept(Method method, MethodHandle invocation);
+
+    static Interceptor before(final BiConsumer<Method, Object[]> action) {
+        Objects.requireNonNull(action);
+        return (method, invocation) -> InterceptorHandles.before(method, invocation, action);
+    }
+
+    static Interceptor after(final BiFunction<Method, Object, Object> transformation) {
+        Objects.requireNonNull(transformation);
+        return (method, invocation) -> InterceptorHandles.after(method, invocation, transformation);
+    }
+
+    static Interceptor timed(final ObjLongConsumer<Method> recorder) {
+        Objects.requireNonNull(recorder);
+        return (method, invocation) -> InterceptorHandles.timed(method, invocation, recorder);
+    }
+}
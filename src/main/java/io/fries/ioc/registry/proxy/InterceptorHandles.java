@@ -0,0 +1,104 @@
+package io.fries.ioc.registry.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.ObjLongConsumer;
+
+import static io.fries.ioc.registry.proxy.Interceptor.INVOCATION_TYPE;
+import static java.lang.invoke.MethodType.methodType;
+
+final class InterceptorHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle ACCEPT = findVirtual(BiConsumer.class, "accept", methodType(void.class, Object.class, Object.class));
+    private static final MethodHandle APPLY = findVirtual(BiFunction.class, "apply", methodType(Object.class, Object.class, Object.class));
+    private static final MethodHandle NANO_TIME = findStatic(System.class, "nanoTime", methodType(long.class));
+    private static final MethodHandle RECORD_ELAPSED = findStatic(InterceptorHandles.class, "recordElapsed", methodType(Object.class, ObjLongConsumer.class, Method.class, long.class, Object.class));
+    private static final MethodHandle RECORD_FAILURE = findStatic(InterceptorHandles.class, "recordFailure", methodType(Throwable.class, ObjLongConsumer.class, Method.class, Throwable.class, long.class));
+
+    private InterceptorHandles() {
+    }
+
+    static MethodHandle compile(final Method method, final List<Interceptor> interceptors) {
+        MethodHandle chain = invocationOf(method);
+
+        for (int index = interceptors.size() - 1; index >= 0; index--) {
+            chain = interceptors.get(index).intercept(method, chain);
+
+            if (!INVOCATION_TYPE.equals(chain.type()))
+                throw new IllegalStateException("The interceptor must preserve the invocation type " + INVOCATION_TYPE + ": " + interceptors.get(index));
+        }
+
+        return chain;
+    }
+
+    private static MethodHandle invocationOf(final Method method) {
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOCATION_TYPE);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MethodHandle before(final Method method, final MethodHandle invocation, final BiConsumer<Method, Object[]> action) {
+        final MethodHandle combiner = MethodHandles.insertArguments(ACCEPT, 0, action, method)
+                .asType(methodType(void.class, Object[].class));
+
+        return MethodHandles.foldArguments(invocation, MethodHandles.dropArguments(combiner, 0, Object.class));
+    }
+
+    static MethodHandle after(final Method method, final MethodHandle invocation, final BiFunction<Method, Object, Object> transformation) {
+        return MethodHandles.filterReturnValue(invocation, MethodHandles.insertArguments(APPLY, 0, transformation, method));
+    }
+
+    static MethodHandle timed(final Method method, final MethodHandle invocation, final ObjLongConsumer<Method> recorder) {
+        final MethodHandle recordElapsed = MethodHandles.insertArguments(RECORD_ELAPSED, 0, recorder, method);
+        final MethodHandle recordFailure = MethodHandles.insertArguments(RECORD_FAILURE, 0, recorder, method);
+        final MethodHandle rethrow = MethodHandles.filterReturnValue(
+                MethodHandles.dropArguments(recordFailure, 2, Object.class, Object[].class),
+                MethodHandles.throwException(Object.class, Throwable.class)
+        );
+        final MethodHandle guarded = MethodHandles.catchException(MethodHandles.dropArguments(invocation, 0, long.class), Throwable.class, rethrow);
+        final MethodHandle measured = MethodHandles.permuteArguments(
+                MethodHandles.collectArguments(recordElapsed, 1, guarded),
+                methodType(Object.class, long.class, Object.class, Object[].class),
+                0, 0, 1, 2
+        );
+
+        return MethodHandles.foldArguments(measured, NANO_TIME);
+    }
+
+    private static Object recordElapsed(final ObjLongConsumer<Method> recorder, final Method method, final long startNanos, final Object result) {
+        recorder.accept(method, System.nanoTime() - startNanos);
+        return result;
+    }
+
+    private static Throwable recordFailure(final ObjLongConsumer<Method> recorder, final Method method, final Throwable failure, final long startNanos) {
+        recorder.accept(method, System.nanoTime() - startNanos);
+        return failure;
+    }
+
+    private static MethodHandle findVirtual(final Class<?> type, final String name, final MethodType methodType) {
+        try {
+            return LOOKUP.findVirtual(type, name, methodType);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findStatic(final Class<?> type, final String name, final MethodType methodType) {
+        try {
+            return LOOKUP.findStatic(type, name, methodType);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,30 +1,185 @@
 package io.fries.ioc.registry.proxy;
 
+import io.fries.ioc.instrumentation.ChromeTrace;
+import io.fries.ioc.instrumentation.ContainerEvents;
+import io.fries.ioc.instrumentation.ContainerMetrics;
+import io.fries.ioc.instrumentation.FlightRecorderEvent;
+import io.fries.ioc.threads.ContainerThreads;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 
 class ProxyInvocationHandler implements InvocationHandler {
 
+    private static final Executor MATERIALIZATIONS = ContainerThreads.newBoundedExecutor("ioc-container-materialization", Runtime.getRuntime().availableProcessors());
+
     private final Supplier<?> instanceSupplier;
+    private final List<Interceptor> interceptors;
+    private final Executor materializationExecutor;
+    private final ConcurrentHashMap<Method, MethodHandle> chains;
+    private final ReentrantLock materializationLock;
     private volatile Object instance;
+    private final AtomicReference<CompletableFuture<Object>> materialization;
+    private volatile Runnable invocationListener;
 
-    private ProxyInvocationHandler(final Supplier<?> instanceSupplier) {
+    private ProxyInvocationHandler(final Supplier<?> instanceSupplier, final List<Interceptor> interceptors, final Executor materializationExecutor) {
         this.instanceSupplier = instanceSupplier;
+        this.interceptors = interceptors;
+        this.materializationExecutor = materializationExecutor;
+        this.chains = new ConcurrentHashMap<>();
+        this.materializationLock = new ReentrantLock();
+        this.materialization = new AtomicReference<>();
     }
 
     static ProxyInvocationHandler of(final Supplier<?> instanceSupplier) {
+        return of(instanceSupplier, emptyList());
+    }
+
+    static ProxyInvocationHandler of(final Supplier<?> instanceSupplier, final List<Interceptor> interceptors) {
+        return of(instanceSupplier, interceptors, MATERIALIZATIONS);
+    }
+
+    static ProxyInvocationHandler of(final Supplier<?> instanceSupplier, final List<Interceptor> interceptors, final Executor materializationExecutor) {
         Objects.requireNonNull(instanceSupplier);
-        return new ProxyInvocationHandler(instanceSupplier);
+        Objects.requireNonNull(interceptors);
+        Objects.requireNonNull(materializationExecutor);
+
+        return new ProxyInvocationHandler(instanceSupplier, interceptors, materializationExecutor);
     }
 
     @Override
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
         method.setAccessible(true);
-        return method.invoke(this.getInstance(), args);
+        notifyFirstInvocation();
+
+        if (isNull(instance) && isAsynchronous(method.getReturnType()))
+            return materializeAsync().thenComposeAsync(target -> invokeLater(target, method, args), materializationExecutor);
+
+        return invokeTarget(this.getInstance(), method, args);
+    }
+
+    private static boolean isAsynchronous(final Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<Object> invokeLater(final Object target, final Method method, final Object[] args) {
+        try {
+            final CompletionStage<Object> stage = (CompletionStage<Object>) invokeTarget(target, method, args);
+            return isNull(stage) ? CompletableFuture.completedFuture(null) : stage;
+        } catch (final Throwable e) {
+            final CompletableFuture<Object> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            return failure;
+        }
+    }
+
+    private Object invokeTarget(final Object target, final Method method, final Object[] args) throws Throwable {
+        final ContainerMetrics metrics = ContainerMetrics.installed();
+        if (metrics == ContainerMetrics.none())
+            return dispatch(target, method, args);
+
+        final long startNanos = System.nanoTime();
+        try {
+            return dispatch(target, method, args);
+        } finally {
+            metrics.proxyInvoked(method, System.nanoTime() - startNanos);
+        }
+    }
+
+    private Object dispatch(final Object target, final Method method, final Object[] args) throws Throwable {
+        if (interceptors.isEmpty())
+            return invokeReflectively(target, method, args);
+
+        return (Object) findChain(method).invokeExact(target, args);
+    }
+
+    private static Object invokeReflectively(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private MethodHandle findChain(final Method method) {
+        final MethodHandle chain = chains.get(method);
+        return isNull(chain) ? chains.computeIfAbsent(method, key -> InterceptorHandles.compile(key, interceptors)) : chain;
+    }
+
+    private void notifyFirstInvocation() {
+        final Runnable listener = invocationListener;
+        if (!isNull(listener)) {
+            invocationListener = null;
+            listener.run();
+        }
+    }
+
+    Optional<Object> findInstance() {
+        return Optional.ofNullable(instance);
+    }
+
+    void listenFirstInvocation(final Runnable listener) {
+        this.invocationListener = Objects.requireNonNull(listener);
+    }
+
+    void materialize() {
+        getInstance();
+    }
+
+    private CompletableFuture<Object> materializeAsync() {
+        final CompletableFuture<Object> existing = materialization.get();
+        return isNull(existing) ? startMaterialization() : existing;
+    }
+
+    private CompletableFuture<Object> startMaterialization() {
+        materializationLock.lock();
+        try {
+            final CompletableFuture<Object> existing = materialization.get();
+            if (!isNull(existing))
+                return existing;
+            if (!isNull(instance))
+                return CompletableFuture.completedFuture(instance);
+
+            final CompletableFuture<Object> started = new CompletableFuture<>();
+            materialization.set(started);
+            try {
+                materializationExecutor.execute(() -> {
+                    try {
+                        started.complete(getInstance());
+                    } catch (final Throwable e) {
+                        fail(started, e);
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                fail(started, e);
+            }
+
+            return started;
+        } finally {
+            materializationLock.unlock();
+        }
+    }
+
+    private void fail(final CompletableFuture<Object> started, final Throwable failure) {
+        materialization.compareAndSet(started, null);
+        started.completeExceptionally(failure);
     }
 
     private Object getInstance() {
@@ -35,9 +190,29 @@ class ProxyInvocationHandler implements InvocationHandler {
         return instance;
     }
 
-    private synchronized void lockAndSupplyInstance() {
-        if (isNull(instance)) {
+    private void lockAndSupplyInstance() {
+        materializationLock.lock();
+        try {
+            if (isNull(instance))
+                supplyInstance();
+        } finally {
+            materializationLock.unlock();
+        }
+    }
+
+    private void supplyInstance() {
+        final FlightRecorderEvent event = ContainerEvents.beginMaterialization();
+        final Optional<ChromeTrace> trace = ChromeTrace.fromSystemProperties();
+
+        final long startNanos = System.nanoTime();
+
+        trace.ifPresent(ChromeTrace::materializationStarted);
+        try {
             instance = instanceSupplier.get();
+        } finally {
+            trace.ifPresent(chromeTrace -> chromeTrace.materializationEnded(isNull(instance) ? null : instance.getClass()));
         }
+        event.commit(instance.getClass());
+        ContainerMetrics.installed().proxyMaterialized(instance.getClass(), System.nanoTime() - startNanos);
     }
 }
@@ -3,15 +3,22 @@ package io.fries.ioc.registry.proxy;
 import io.fries.ioc.components.Component;
 import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.InitializationHooks;
 import io.fries.ioc.instantiator.Instantiator;
 import io.fries.ioc.registry.Registrable;
 import io.fries.ioc.registry.Registry;
 
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
 public class ProxyRegistrable implements Registrable {
 
     static final int NO_DEPENDENCIES = 0;
@@ -20,12 +27,14 @@ public class ProxyRegistrable implements Registrable {
     private final Class<?> interfaceType;
     private final Class<?> type;
     private final List<Id> dependencies;
+    private final List<Interceptor> interceptors;
 
-    private ProxyRegistrable(final Id id, final Class<?> interfaceType, final Class<?> type, final List<Id> dependencies) {
+    private ProxyRegistrable(final Id id, final Class<?> interfaceType, final Class<?> type, final List<Id> dependencies, final List<Interceptor> interceptors) {
         this.id = id;
         this.interfaceType = interfaceType;
         this.type = type;
         this.dependencies = dependencies;
+        this.interceptors = interceptors;
     }
 
     public static ProxyRegistrable of(final Id id, final Class<?> interfaceType, final Class<?> type, final List<Id> dependencies) {
@@ -37,7 +46,52 @@ public class ProxyRegistrable implements Registrable {
         if (!interfaceType.isInterface())
             throw new IllegalArgumentException("Proxied type must be an interface");
 
-        return new ProxyRegistrable(id, interfaceType, type, dependencies);
+        return new ProxyRegistrable(id, interfaceType, type, dependencies, emptyList());
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public ProxyRegistrable interceptedBy(final Interceptor interceptor) {
+        Objects.requireNonNull(interceptor);
+
+        final List<Interceptor> interceptors = new ArrayList<>(this.interceptors);
+        interceptors.add(interceptor);
+
+        return new ProxyRegistrable(id, interfaceType, type, dependencies, unmodifiableList(interceptors));
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static Optional<Object> unwrap(final Object instance) {
+        Objects.requireNonNull(instance);
+
+        final Optional<ProxyInvocationHandler> invocationHandler = findInvocationHandler(instance);
+        if (!invocationHandler.isPresent())
+            return Optional.of(instance);
+
+        return invocationHandler.get().findInstance();
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static void materialize(final Object instance) {
+        Objects.requireNonNull(instance);
+        findInvocationHandler(instance).ifPresent(ProxyInvocationHandler::materialize);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static void listenFirstInvocation(final Object instance, final Runnable listener) {
+        Objects.requireNonNull(instance);
+        Objects.requireNonNull(listener);
+        findInvocationHandler(instance).ifPresent(invocationHandler -> invocationHandler.listenFirstInvocation(listener));
+    }
+
+    private static Optional<ProxyInvocationHandler> findInvocationHandler(final Object instance) {
+        if (!Proxy.isProxyClass(instance.getClass()))
+            return Optional.empty();
+
+        final InvocationHandler invocationHandler = Proxy.getInvocationHandler(instance);
+        if (!(invocationHandler instanceof ProxyInvocationHandler))
+            return Optional.empty();
+
+        return Optional.of((ProxyInvocationHandler) invocationHandler);
     }
 
     @Override
@@ -45,6 +99,20 @@ public class ProxyRegistrable implements Registrable {
         return id;
     }
 
+    public Class<?> getInterfaceType() {
+        return interfaceType;
+    }
+
+    @Override
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public boolean isLazy() {
+        return true;
+    }
+
     @Override
     public int countDependencies(final Registry registry) {
         return NO_DEPENDENCIES;
@@ -61,7 +129,10 @@ public class ProxyRegistrable implements Registrable {
     private Supplier<?> createInstanceSupplier(final Instantiator instantiator, final Components components) {
         return () -> {
             final List<Component> requiredDependencies = components.findAllById(this.dependencies);
-            return instantiator.createInstance(type, requiredDependencies);
+            final Object instance = instantiator.createInstance(type, requiredDependencies);
+            InitializationHooks.initialize(instance);
+
+            return instance;
         };
     }
 
@@ -69,7 +140,7 @@ public class ProxyRegistrable implements Registrable {
         return Proxy.newProxyInstance(
                 interfaceType.getClassLoader(),
                 new Class[]{interfaceType},
-                ProxyInvocationHandler.of(instanceSupplier)
+                ProxyInvocationHandler.of(instanceSupplier, interceptors)
         );
     }
 
@@ -81,12 +152,13 @@ public class ProxyRegistrable implements Registrable {
         return Objects.equals(id, proxy.id) &&
                 Objects.equals(interfaceType, proxy.interfaceType) &&
                 Objects.equals(type, proxy.type) &&
-                Objects.equals(dependencies, proxy.dependencies);
+                Objects.equals(dependencies, proxy.dependencies) &&
+                Objects.equals(interceptors, proxy.interceptors);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, interfaceType, type, dependencies);
+        return Objects.hash(id, interfaceType, type, dependencies, interceptors);
     }
 
     @Override
@@ -96,6 +168,7 @@ public class ProxyRegistrable implements Registrable {
                 ", interfaceType=" + interfaceType +
                 ", type=" + type +
                 ", components=" + dependencies +
+                ", interceptors=" + interceptors +
                 '}';
     }
 }
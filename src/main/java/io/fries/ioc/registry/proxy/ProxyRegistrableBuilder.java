@@ -6,6 +6,7 @@ import io.fries.ioc.registry.RegistrableBuilder;
 import io.fries.ioc.scanner.dependencies.DependenciesScanner;
 import io.fries.ioc.scanner.dependencies.DependenciesTypeScanner;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -21,6 +22,7 @@ public class ProxyRegistrableBuilder implements RegistrableBuilder {
     private Class<?> interfaceType;
     private Class<?> type;
     private List<Id> dependencies;
+    private final List<Interceptor> interceptors;
 
     private ProxyRegistrableBuilder(final DependenciesScanner dependenciesScanner, final Id id, final Class<?> interfaceType, final Class<?> type) {
         this(dependenciesScanner, id, interfaceType, type, emptyList());
@@ -32,6 +34,7 @@ public class ProxyRegistrableBuilder implements RegistrableBuilder {
         this.interfaceType = interfaceType;
         this.type = type;
         this.dependencies = dependencies;
+        this.interceptors = new ArrayList<>();
     }
 
     public static ProxyRegistrableBuilder proxy(final Class<?> type) {
@@ -70,12 +73,21 @@ public class ProxyRegistrableBuilder implements RegistrableBuilder {
         return this;
     }
 
+    public ProxyRegistrableBuilder interceptedBy(final Interceptor interceptor) {
+        this.interceptors.add(Objects.requireNonNull(interceptor));
+        return this;
+    }
+
     @Override
     public Registrable build() {
         if (dependencies.isEmpty())
             dependencies = dependenciesScanner.findByConstructor(type);
 
-        return ProxyRegistrable.of(id, interfaceType, type, dependencies);
+        ProxyRegistrable proxyRegistrable = ProxyRegistrable.of(id, interfaceType, type, dependencies);
+        for (final Interceptor interceptor : interceptors)
+            proxyRegistrable = proxyRegistrable.interceptedBy(interceptor);
+
+        return proxyRegistrable;
     }
 
     @Override
@@ -86,12 +98,13 @@ public class ProxyRegistrableBuilder implements RegistrableBuilder {
         return Objects.equals(id, that.id) &&
                 Objects.equals(interfaceType, that.interfaceType) &&
                 Objects.equals(type, that.type) &&
-                Objects.equals(dependencies, that.dependencies);
+                Objects.equals(dependencies, that.dependencies) &&
+                Objects.equals(interceptors, that.interceptors);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, interfaceType, type, dependencies);
+        return Objects.hash(id, interfaceType, type, dependencies, interceptors);
     }
 
     @Override
@@ -101,6 +114,7 @@ public class ProxyRegistrableBuilder implements RegistrableBuilder {
                 ", interfaceType=" + interfaceType +
                 ", type=" + type +
                 ", dependencies=" + dependencies +
+                ", interceptors=" + interceptors +
                 '}';
     }
 }
@@ -0,0 +1,68 @@
+package io.fries.ioc.registry.scoped;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.ContextualInstance;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.InitializationHooks;
+import io.fries.ioc.instantiator.Instantiator;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ScopedInstance implements ContextualInstance {
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private static final AtomicInteger NEXT_HASH = new AtomicInteger();
+
+    private final Id id;
+    private final Class<?> type;
+    private final List<Id> dependencies;
+    private final Instantiator instantiator;
+    private final int hash;
+
+    private ScopedInstance(final Id id, final Class<?> type, final List<Id> dependencies, final Instantiator instantiator) {
+        this.id = id;
+        this.type = type;
+        this.dependencies = dependencies;
+        this.instantiator = instantiator;
+        this.hash = NEXT_HASH.getAndAdd(GOLDEN_RATIO);
+    }
+
+    static ScopedInstance of(final Id id, final Class<?> type, final List<Id> dependencies, final Instantiator instantiator) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(dependencies);
+        Objects.requireNonNull(instantiator);
+
+        return new ScopedInstance(id, type, dependencies, instantiator);
+    }
+
+    @Override
+    public Object get() {
+        throw new IllegalStateException("The component " + id + " is scoped and can only be provided from an opened scope");
+    }
+
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
+    public Object createInstance(final List<Component> dependencies) {
+        final Object instance = instantiator.createInstance(type, dependencies);
+        InitializationHooks.initialize(instance);
+
+        return instance;
+    }
+
+    public int slotHash() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ScopedInstance{" +
+                "id=" + id +
+                ", type=" + type +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package io.fries.ioc.registry.scoped;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ScopedRegistrable implements Registrable {
+
+    static final int NO_DEPENDENCIES = 0;
+
+    private final Id id;
+    private final Class<?> type;
+    private final List<Id> dependencies;
+
+    private ScopedRegistrable(final Id id, final Class<?> type, final List<Id> dependencies) {
+        this.id = id;
+        this.type = type;
+        this.dependencies = dependencies;
+    }
+
+    public static ScopedRegistrable of(final Id id, final Class<?> type, final List<Id> dependencies) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(dependencies);
+
+        return new ScopedRegistrable(id, type, dependencies);
+    }
+
+    @Override
+    public Id getId() {
+        return id;
+    }
+
+    @Override
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public boolean isLazy() {
+        return true;
+    }
+
+    @Override
+    public boolean isContextual() {
+        return true;
+    }
+
+    @Override
+    public int countDependencies(final Registry registry) {
+        return NO_DEPENDENCIES;
+    }
+
+    @Override
+    public Component instantiate(final Instantiator instantiator, final Components components) {
+        return Component.of(id, ScopedInstance.of(id, type, dependencies, instantiator));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ScopedRegistrable that = (ScopedRegistrable) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(dependencies, that.dependencies);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, dependencies);
+    }
+
+    @Override
+    public String toString() {
+        return "ScopedRegistrable{" +
+                "id=" + id +
+                ", type=" + type +
+                ", components=" + dependencies +
+                '}';
+    }
+}
@@ -0,0 +1,111 @@
+package io.fries.ioc.registry.thread;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.InitializationHooks;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class ThreadRegistrable implements Registrable {
+
+    private final Id id;
+    private final Class<?> type;
+    private final List<Id> dependencies;
+    private final boolean closeOnThreadDeath;
+
+    private ThreadRegistrable(final Id id, final Class<?> type, final List<Id> dependencies, final boolean closeOnThreadDeath) {
+        this.id = id;
+        this.type = type;
+        this.dependencies = dependencies;
+        this.closeOnThreadDeath = closeOnThreadDeath;
+    }
+
+    public static ThreadRegistrable of(final Id id, final Class<?> type, final List<Id> dependencies, final boolean closeOnThreadDeath) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(dependencies);
+
+        return new ThreadRegistrable(id, type, dependencies, closeOnThreadDeath);
+    }
+
+    @Override
+    public Id getId() {
+        return id;
+    }
+
+    @Override
+    public List<Id> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public boolean isContextual() {
+        return true;
+    }
+
+    @Override
+    public int countDependencies(final Registry registry) {
+        final int firstLevelDependencies = dependencies.size();
+        final int deepDependencies = countDeepDependencies(registry);
+
+        return firstLevelDependencies + deepDependencies;
+    }
+
+    private int countDeepDependencies(final Registry registry) {
+        return dependencies
+                .stream()
+                .map(registry::get)
+                .mapToInt(registrable -> registrable.countDependencies(registry))
+                .sum();
+    }
+
+    @Override
+    public Component instantiate(final Instantiator instantiator, final Components components) {
+        final Supplier<?> instanceSupplier = createInstanceSupplier(instantiator, components);
+        final ThreadSlots threadSlots = ThreadSlots.of(instanceSupplier, closeOnThreadDeath);
+
+        return Component.of(id, threadSlots);
+    }
+
+    private Supplier<?> createInstanceSupplier(final Instantiator instantiator, final Components components) {
+        return () -> {
+            final List<Component> requiredDependencies = components.findAllById(this.dependencies);
+            final Object instance = instantiator.createInstance(type, requiredDependencies);
+            InitializationHooks.initialize(instance);
+
+            return instance;
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ThreadRegistrable that = (ThreadRegistrable) o;
+        return closeOnThreadDeath == that.closeOnThreadDeath &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(dependencies, that.dependencies);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, dependencies, closeOnThreadDeath);
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadRegistrable{" +
+                "id=" + id +
+                ", type=" + type +
+                ", components=" + dependencies +
+                ", closeOnThreadDeath=" + closeOnThreadDeath +
+                '}';
+    }
+}
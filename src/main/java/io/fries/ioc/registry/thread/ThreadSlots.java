@@ -0,0 +1,210 @@
+package io.fries.ioc.registry.thread;
+
+import io.fries.ioc.components.ComponentCloseException;
+import io.fries.ioc.components.ContextualInstance;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+class ThreadSlots implements ContextualInstance, AutoCloseable {
+
+    static final int INITIAL_CAPACITY = 16;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private static final Slot TOMBSTONE = new Slot(null, null);
+
+    private final Supplier<?> instanceSupplier;
+    private final boolean closeOnThreadDeath;
+
+    private volatile AtomicReferenceArray<Slot> slots;
+    private int occupied;
+
+    private ThreadSlots(final Supplier<?> instanceSupplier, final boolean closeOnThreadDeath, final int capacity) {
+        this.instanceSupplier = instanceSupplier;
+        this.closeOnThreadDeath = closeOnThreadDeath;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    static ThreadSlots of(final Supplier<?> instanceSupplier, final boolean closeOnThreadDeath) {
+        Objects.requireNonNull(instanceSupplier);
+        return new ThreadSlots(instanceSupplier, closeOnThreadDeath, INITIAL_CAPACITY);
+    }
+
+    @Override
+    public Object get() {
+        final Thread thread = Thread.currentThread();
+        final Slot slot = find(slots, thread);
+
+        if (isNull(slot))
+            return claim(thread);
+
+        return slot.instance;
+    }
+
+    private static Slot find(final AtomicReferenceArray<Slot> slots, final Thread thread) {
+        final int mask = slots.length() - 1;
+
+        for (int probe = 0, index = indexOf(thread, mask); probe <= mask; probe++, index = (index + 1) & mask) {
+            final Slot slot = slots.get(index);
+
+            if (isNull(slot))
+                return null;
+            if (slot.get() == thread)
+                return slot;
+        }
+
+        return null;
+    }
+
+    private static int indexOf(final Thread thread, final int mask) {
+        final long id = thread.getId();
+        final int hash = (int) (id ^ (id >>> 32)) * GOLDEN_RATIO;
+
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private Object claim(final Thread thread) {
+        final Object instance = instanceSupplier.get();
+
+        synchronized (this) {
+            if ((occupied + 1) * 2 > slots.length())
+                slots = rehash(slots);
+
+            insert(slots, new Slot(thread, instance));
+        }
+
+        return instance;
+    }
+
+    private void insert(final AtomicReferenceArray<Slot> slots, final Slot inserted) {
+        final int mask = slots.length() - 1;
+        int index = indexOf(inserted.get(), mask);
+
+        while (true) {
+            final Slot slot = slots.get(index);
+
+            if (isNull(slot)) {
+                occupied++;
+                slots.set(index, inserted);
+                return;
+            }
+            if (slot == TOMBSTONE) {
+                slots.set(index, inserted);
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+    }
+
+    private AtomicReferenceArray<Slot> rehash(final AtomicReferenceArray<Slot> slots) {
+        final int alive = purge(slots);
+        final int capacity = alive * 4 > slots.length() ? slots.length() * 2 : slots.length();
+        final AtomicReferenceArray<Slot> rehashed = new AtomicReferenceArray<>(capacity);
+
+        occupied = 0;
+        for (int index = 0; index < slots.length(); index++) {
+            final Slot slot = slots.get(index);
+
+            if (!isNull(slot) && slot != TOMBSTONE)
+                insert(rehashed, slot);
+        }
+
+        return rehashed;
+    }
+
+    synchronized int purge() {
+        return purge(slots);
+    }
+
+    private int purge(final AtomicReferenceArray<Slot> slots) {
+        int alive = 0;
+
+        for (int index = 0; index < slots.length(); index++) {
+            final Slot slot = slots.get(index);
+
+            if (isNull(slot) || slot == TOMBSTONE)
+                continue;
+
+            if (slot.isOwnerAlive()) {
+                alive++;
+                continue;
+            }
+
+            slots.set(index, TOMBSTONE);
+            if (closeOnThreadDeath)
+                close(slot.instance);
+        }
+
+        return alive;
+    }
+
+    private void close(final Object instance) {
+        if (!(instance instanceof AutoCloseable))
+            return;
+
+        try {
+            ((AutoCloseable) instance).close();
+        } catch (final Exception ignored) {
+            // The owner thread is gone: there is no caller left to report the failure to.
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        final AtomicReferenceArray<Slot> closedSlots = slots;
+        ComponentCloseException failure = null;
+
+        slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        occupied = 0;
+
+        for (int index = 0; index < closedSlots.length(); index++) {
+            final Slot slot = closedSlots.get(index);
+            if (isNull(slot) || slot == TOMBSTONE || !(slot.instance instanceof AutoCloseable))
+                continue;
+
+            try {
+                ((AutoCloseable) slot.instance).close();
+            } catch (final Exception e) {
+                if (isNull(failure))
+                    failure = new ComponentCloseException(e);
+                else
+                    failure.addSuppressed(e);
+            }
+        }
+
+        if (!isNull(failure))
+            throw failure;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSlots{" +
+                "instanceSupplier=" + instanceSupplier +
+                ", closeOnThreadDeath=" + closeOnThreadDeath +
+                '}';
+    }
+
+    private static class Slot extends WeakReference<Thread> {
+
+        private final Object instance;
+
+        private Slot(final Thread owner, final Object instance) {
+            super(owner);
+            this.instance = instance;
+        }
+
+        private boolean isOwnerAlive() {
+            final Thread owner = get();
+            return !isNull(owner) && owner.isAlive();
+        }
+    }
+}
@@ -3,6 +3,10 @@ package io.fries.ioc.scanner;
 import io.fries.ioc.Container;
 import io.fries.ioc.RegistrationContainer;
 import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.instrumentation.ContainerEvents;
+import io.fries.ioc.instrumentation.FlightRecorderEvent;
+import io.fries.ioc.instrumentation.InstantiationListener;
+import io.fries.ioc.instrumentation.StartupPhase;
 import io.fries.ioc.scanner.dependencies.DependenciesScanner;
 import io.fries.ioc.scanner.dependencies.IdentifiedDependenciesScanner;
 import io.fries.ioc.scanner.registrable.ManagedRegistrableScanner;
@@ -45,9 +49,18 @@ public class ComponentsScanner {
     }
 
     public Container scan() {
-        scanners.stream()
-                .flatMap(scanner -> scanner.findAll().stream())
-                .forEach(registrationContainer::register);
+        final InstantiationListener instantiationListener = registrationContainer.getInstantiationListener();
+        final FlightRecorderEvent event = ContainerEvents.beginScan();
+
+        instantiationListener.phaseStarted(StartupPhase.SCANNING);
+        try {
+            scanners.stream()
+                    .flatMap(scanner -> scanner.findAll().stream())
+                    .forEach(registrationContainer::register);
+        } finally {
+            instantiationListener.phaseEnded(StartupPhase.SCANNING);
+            event.commit();
+        }
 
         return registrationContainer.instantiate();
     }
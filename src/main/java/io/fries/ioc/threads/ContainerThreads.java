@@ -0,0 +1,113 @@
+package io.fries.ioc.threads;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+public final class ContainerThreads {
+
+    private static final VirtualThreads VIRTUAL_THREADS = VirtualThreads.find();
+
+    private ContainerThreads() {
+    }
+
+    public static boolean areVirtual() {
+        return !isNull(VIRTUAL_THREADS);
+    }
+
+    public static Thread newThread(final Runnable runnable, final String name) {
+        Objects.requireNonNull(runnable);
+        Objects.requireNonNull(name);
+
+        if (areVirtual())
+            return VIRTUAL_THREADS.factory(name).newThread(runnable);
+
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+    public static ExecutorService newExecutor(final String name) {
+        Objects.requireNonNull(name);
+
+        if (areVirtual())
+            return VIRTUAL_THREADS.executor(name);
+
+        return Executors.newCachedThreadPool(runnable -> newThread(runnable, name));
+    }
+
+    public static ExecutorService newBoundedExecutor(final String name, final int maximumThreads) {
+        Objects.requireNonNull(name);
+
+        if (maximumThreads <= 0)
+            throw new IllegalArgumentException("The maximum number of threads must be positive");
+        if (areVirtual())
+            return VIRTUAL_THREADS.executor(name);
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maximumThreads, maximumThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> newThread(runnable, name));
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    // Looked up reflectively, so that this Java 8 build runs on virtual threads whenever the running JVM supports them.
+    private static final class VirtualThreads {
+
+        private final Method ofVirtual;
+        private final Method name;
+        private final Method factory;
+        private final Method newThreadPerTaskExecutor;
+
+        private VirtualThreads(final Method ofVirtual, final Method name, final Method factory, final Method newThreadPerTaskExecutor) {
+            this.ofVirtual = ofVirtual;
+            this.name = name;
+            this.factory = factory;
+            this.newThreadPerTaskExecutor = newThreadPerTaskExecutor;
+        }
+
+        private static VirtualThreads find() {
+            try {
+                final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                final VirtualThreads virtualThreads = new VirtualThreads(
+                        Thread.class.getMethod("ofVirtual"),
+                        builderType.getMethod("name", String.class),
+                        builderType.getMethod("factory"),
+                        Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                );
+                virtualThreads.createFactory("ioc-container");
+
+                return virtualThreads;
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        private ThreadFactory factory(final String threadName) {
+            try {
+                return createFactory(threadName);
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create virtual threads named: " + threadName, e);
+            }
+        }
+
+        private ThreadFactory createFactory(final String threadName) throws ReflectiveOperationException {
+            return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(null), threadName));
+        }
+
+        private ExecutorService executor(final String threadName) {
+            try {
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory(threadName));
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create virtual threads named: " + threadName, e);
+            }
+        }
+    }
+}
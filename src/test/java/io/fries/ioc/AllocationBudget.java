@@ -0,0 +1,47 @@
+package io.fries.ioc;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class AllocationBudget {
+
+    private static final int WARMUP_OPERATIONS = 50_000;
+    private static final int MEASURED_OPERATIONS = 200_000;
+
+    private static volatile Object sink;
+
+    private AllocationBudget() {
+    }
+
+    public static void assertAllocatesAtMost(final long bytesPerOperation, final Supplier<?> operation) {
+        final com.sun.management.ThreadMXBean threadMXBean = allocationAccounting();
+        final long threadId = Thread.currentThread().getId();
+
+        for (int index = 0; index < WARMUP_OPERATIONS; index++)
+            sink = operation.get();
+
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int index = 0; index < MEASURED_OPERATIONS; index++)
+            sink = operation.get();
+        final long allocatedAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        assertThat((allocatedAfter - allocatedBefore) / MEASURED_OPERATIONS)
+                .as("Bytes allocated per operation")
+                .isLessThanOrEqualTo(bytesPerOperation);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationAccounting() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean, "Allocation accounting requires a HotSpot JVM");
+        final com.sun.management.ThreadMXBean hotSpotThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(hotSpotThreadMXBean.isThreadAllocatedMemorySupported() && hotSpotThreadMXBean.isThreadAllocatedMemoryEnabled(),
+                "Allocation accounting is not enabled on this JVM");
+
+        return hotSpotThreadMXBean;
+    }
+}
@@ -0,0 +1,82 @@
+package io.fries.ioc;
+
+import io.fries.ioc.threads.ContainerThreads;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Async executors should")
+class AsyncExecutorsTest {
+
+    @Test
+    @DisplayName("throw when created from null executors")
+    void should_throw_when_created_from_null_executors() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> AsyncExecutors.of(null));
+    }
+
+    @Test
+    @DisplayName("find the declared executor of a name")
+    void should_find_the_declared_executor_of_a_name() {
+        final Executor executor = Runnable::run;
+
+        assertThat(AsyncExecutors.of(singletonMap("io", executor)).find("io")).isSameAs(executor);
+    }
+
+    @Test
+    @DisplayName("create one executor per undeclared name")
+    void should_create_one_executor_per_undeclared_name() throws Exception {
+        final AsyncExecutors asyncExecutors = AsyncExecutors.none();
+
+        final Executor executor = asyncExecutors.find("io");
+
+        assertThat(asyncExecutors.find("io")).isSameAs(executor);
+        assertThat(asyncExecutors.find("")).isNotSameAs(executor);
+        assertThat(CompletableFuture.supplyAsync(() -> "ran", executor).get(5, TimeUnit.SECONDS)).isEqualTo("ran");
+        asyncExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("run the tasks of the executors it creates on virtual threads whenever the running JVM supports them")
+    void should_run_the_tasks_of_the_executors_it_creates_on_virtual_threads_whenever_the_running_jvm_supports_them() throws Exception {
+        assumeTrue(ContainerThreads.areVirtual());
+        final AsyncExecutors asyncExecutors = AsyncExecutors.none();
+
+        try {
+            final Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, asyncExecutors.find("io")).get(5, TimeUnit.SECONDS);
+
+            assertThat((boolean) Thread.class.getMethod("isVirtual").invoke(thread)).isTrue();
+            assertThat(thread.getName()).isEqualTo("ioc-container-async-io");
+        } finally {
+            asyncExecutors.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("shut down the executors it created but not the declared ones")
+    void should_shut_down_the_executors_it_created_but_not_the_declared_ones() {
+        final Executor declared = Runnable::run;
+        final AsyncExecutors asyncExecutors = AsyncExecutors.of(singletonMap("declared", declared));
+        final Executor created = asyncExecutors.find("created");
+
+        asyncExecutors.shutdown();
+
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> created.execute(() -> {
+                }));
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> asyncExecutors.find("late").execute(() -> {
+                }));
+        asyncExecutors.find("declared").execute(() -> {
+        });
+    }
+}
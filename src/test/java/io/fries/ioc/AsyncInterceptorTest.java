@@ -0,0 +1,144 @@
+package io.fries.ioc;
+
+import io.fries.ioc.annotations.Async;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Async interceptor should")
+class AsyncInterceptorTest {
+
+    private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("detect the interfaces declaring asynchronous methods")
+    void should_detect_the_interfaces_declaring_asynchronous_methods() {
+        assertThat(AsyncInterceptor.declaresAsyncMethods(Client.class)).isTrue();
+        assertThat(AsyncInterceptor.declaresAsyncMethods(Runnable.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("throw when an asynchronous method does not return a future")
+    void should_throw_when_an_asynchronous_method_does_not_return_a_future() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> AsyncInterceptor.declaresAsyncMethods(BlockingClient.class))
+                .withMessageStartingWith("Asynchronous methods must return a CompletableFuture or a CompletionStage: ");
+    }
+
+    @Test
+    @DisplayName("return the future immediately and complete it on the named executor")
+    void should_return_the_future_immediately_and_complete_it_on_the_named_executor() throws Exception {
+        final Client client = proxy();
+
+        final CompletableFuture<String> future = client.fetch("resource");
+
+        assertThat(future).isNotDone();
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("fetched resource");
+    }
+
+    @Test
+    @DisplayName("complete the future exceptionally when the invocation fails")
+    void should_complete_the_future_exceptionally_when_the_invocation_fails() {
+        final Client client = proxy();
+
+        final CompletionStage<String> stage = client.fail("resource");
+        tasks.get(0).run();
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> stage.toCompletableFuture().get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("complete the future exceptionally when the executor rejects the invocation")
+    void should_complete_the_future_exceptionally_when_the_executor_rejects_the_invocation() {
+        final Client client = proxy(task -> {
+            throw new RejectedExecutionException("Shut down");
+        });
+
+        final CompletableFuture<String> future = client.fetch("resource");
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("invoke the synchronous methods on the calling thread")
+    void should_invoke_the_synchronous_methods_on_the_calling_thread() {
+        final Client client = proxy();
+
+        assertThat(client.name()).isEqualTo("client");
+        assertThat(tasks).isEmpty();
+    }
+
+    private Client proxy() {
+        return proxy(tasks::add);
+    }
+
+    private Client proxy(final Executor executor) {
+        final AsyncExecutors asyncExecutors = AsyncExecutors.of(singletonMap("io", executor));
+
+        final Client client = ProxyRegistrable.of(Id.of("client"), Client.class, SimpleClient.class, emptyList())
+                .interceptedBy(AsyncInterceptor.of(asyncExecutors))
+                .instantiate(new DefaultInstantiator(), Components.empty())
+                .getInstance();
+        ProxyRegistrable.materialize(client);
+
+        return client;
+    }
+
+    public interface Client {
+
+        @Async("io")
+        CompletableFuture<String> fetch(String resource);
+
+        @Async("io")
+        CompletionStage<String> fail(String resource);
+
+        String name();
+    }
+
+    public static class SimpleClient implements Client {
+
+        @Override
+        public CompletableFuture<String> fetch(final String resource) {
+            return CompletableFuture.completedFuture("fetched " + resource);
+        }
+
+        @Override
+        public CompletionStage<String> fail(final String resource) {
+            throw new IllegalStateException("Unavailable " + resource);
+        }
+
+        @Override
+        public String name() {
+            return "client";
+        }
+    }
+
+    public interface BlockingClient {
+
+        @Async
+        String fetch(String resource);
+    }
+}
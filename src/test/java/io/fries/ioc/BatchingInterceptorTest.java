@@ -0,0 +1,114 @@
+package io.fries.ioc;
+
+import io.fries.ioc.annotations.Async;
+import io.fries.ioc.annotations.Batched;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Batching interceptor should")
+class BatchingInterceptorTest {
+
+    @Test
+    @DisplayName("detect the interfaces declaring batched methods")
+    void should_detect_the_interfaces_declaring_batched_methods() {
+        assertThat(BatchingInterceptor.declaresBatchedMethods(Repository.class)).isTrue();
+        assertThat(BatchingInterceptor.declaresBatchedMethods(Runnable.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("throw when a batched method does not take a single key")
+    void should_throw_when_a_batched_method_does_not_take_a_single_key() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BatchingInterceptor.declaresBatchedMethods(PairRepository.class))
+                .withMessageStartingWith("Batched methods must take a single key and return a value: ");
+    }
+
+    @Test
+    @DisplayName("throw when the bulk method of a batched method cannot be found")
+    void should_throw_when_the_bulk_method_of_a_batched_method_cannot_be_found() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BatchingInterceptor.declaresBatchedMethods(SetRepository.class))
+                .withMessageStartingWith("No bulk method getAll taking a collection of keys and returning a map of values on ");
+    }
+
+    @Test
+    @DisplayName("throw when a batched method is also asynchronous")
+    void should_throw_when_a_batched_method_is_also_asynchronous() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> BatchingInterceptor.declaresBatchedMethods(AsyncRepository.class))
+                .withMessageStartingWith("Batched methods cannot be asynchronous: ");
+    }
+
+    @Test
+    @DisplayName("route the batched calls through the bulk method")
+    void should_route_the_batched_calls_through_the_bulk_method() {
+        final Repository repository = ProxyRegistrable.of(Id.of("repository"), Repository.class, SimpleRepository.class, emptyList())
+                .interceptedBy(BatchingInterceptor.of())
+                .instantiate(new DefaultInstantiator(), Components.empty())
+                .getInstance();
+
+        assertThat(repository.get("key")).isEqualTo("bulk value of key");
+        assertThat(repository.getAll(emptyList())).isEmpty();
+    }
+
+    public interface Repository {
+
+        @Batched(value = "getAll", windowMillis = 0)
+        String get(String key);
+
+        Map<String, String> getAll(Collection<String> keys);
+    }
+
+    public static class SimpleRepository implements Repository {
+
+        @Override
+        public String get(final String key) {
+            return "value of " + key;
+        }
+
+        @Override
+        public Map<String, String> getAll(final Collection<String> keys) {
+            return keys.stream().collect(toMap(key -> key, key -> "bulk value of " + key));
+        }
+    }
+
+    public interface PairRepository {
+
+        @Batched("getAll")
+        String get(String first, String second);
+
+        Map<String, String> getAll(List<String> keys);
+    }
+
+    public interface SetRepository {
+
+        @Batched("getAll")
+        String get(String key);
+
+        Map<String, String> getAll(Set<String> keys);
+    }
+
+    public interface AsyncRepository {
+
+        @Async
+        @Batched("getAll")
+        CompletableFuture<String> get(String key);
+
+        Map<String, String> getAll(List<String> keys);
+    }
+}
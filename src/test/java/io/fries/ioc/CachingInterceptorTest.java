@@ -0,0 +1,103 @@
+package io.fries.ioc;
+
+import io.fries.ioc.annotations.Cached;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Caching interceptor should")
+class CachingInterceptorTest {
+
+    private static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("detect the interfaces declaring cached methods")
+    void should_detect_the_interfaces_declaring_cached_methods() {
+        assertThat(CachingInterceptor.declaresCachedMethods(Directory.class)).isTrue();
+        assertThat(CachingInterceptor.declaresCachedMethods(Runnable.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("throw when a cached method does not return a value")
+    void should_throw_when_a_cached_method_does_not_return_a_value() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CachingInterceptor.declaresCachedMethods(Notifier.class))
+                .withMessageStartingWith("Cached methods must return a value: ");
+    }
+
+    @Test
+    @DisplayName("cache the results of the cached methods only")
+    void should_cache_the_results_of_the_cached_methods_only() {
+        final Directory directory = proxy();
+        final int lookups = LOOKUPS.get();
+
+        directory.find("alice");
+        directory.find("alice");
+        directory.uncached("alice");
+        directory.uncached("alice");
+
+        assertThat(directory.find("alice")).isEqualTo("alice@example.com");
+        assertThat(LOOKUPS.get() - lookups).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("reload the results of the cached methods once expired")
+    void should_reload_the_results_of_the_cached_methods_once_expired() {
+        final Directory directory = proxy();
+        final int lookups = LOOKUPS.get();
+
+        directory.find("alice");
+        clock.addAndGet(1_000_000_000L);
+        directory.find("alice");
+
+        assertThat(LOOKUPS.get() - lookups).isEqualTo(2);
+    }
+
+    private Directory proxy() {
+        return ProxyRegistrable.of(Id.of("directory"), Directory.class, SimpleDirectory.class, emptyList())
+                .interceptedBy(CachingInterceptor.of(clock::get))
+                .instantiate(new DefaultInstantiator(), Components.empty())
+                .getInstance();
+    }
+
+    public interface Directory {
+
+        @Cached(maximumSize = 10, expireAfterWriteMillis = 1_000)
+        String find(String name);
+
+        String uncached(String name);
+    }
+
+    public static class SimpleDirectory implements Directory {
+
+        @Override
+        public String find(final String name) {
+            LOOKUPS.incrementAndGet();
+            return name + "@example.com";
+        }
+
+        @Override
+        public String uncached(final String name) {
+            LOOKUPS.incrementAndGet();
+            return name + "@example.com";
+        }
+    }
+
+    public interface Notifier {
+
+        @Cached
+        void send(String name);
+    }
+}
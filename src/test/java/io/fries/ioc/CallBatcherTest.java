@@ -0,0 +1,124 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Call batcher should")
+class CallBatcherTest {
+
+    private static final long LONG_WINDOW = TimeUnit.SECONDS.toNanos(30);
+
+    private final List<Collection<Object>> bulkCalls = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("throw when created with a non positive maximum size or a negative window")
+    void should_throw_when_created_with_a_non_positive_maximum_size_or_a_negative_window() throws Exception {
+        final MethodHandle bulkInvocation = bulk(this::titles);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CallBatcher.of(bulkInvocation, 0, 0))
+                .withMessage("The maximum batch size must be positive");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CallBatcher.of(bulkInvocation, 1, -1))
+                .withMessage("The batching window must not be negative");
+    }
+
+    @Test
+    @DisplayName("merge concurrent calls into a single bulk call")
+    void should_merge_concurrent_calls_into_a_single_bulk_call() throws Exception {
+        final CallBatcher batcher = CallBatcher.of(bulk(this::titles), 3, LONG_WINDOW);
+
+        final Future<Object> first = call(batcher, "first");
+        final Future<Object> second = call(batcher, "second");
+        final Future<Object> third = call(batcher, "third");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("Title of first");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("Title of second");
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("Title of third");
+        assertThat(bulkCalls).hasSize(1);
+        assertThat(bulkCalls.get(0)).containsExactlyInAnyOrder("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("request each key once per bulk call")
+    void should_request_each_key_once_per_bulk_call() throws Exception {
+        final CallBatcher batcher = CallBatcher.of(bulk(this::titles), 100, TimeUnit.MILLISECONDS.toNanos(500));
+
+        final Future<Object> first = call(batcher, "same");
+        final Future<Object> second = call(batcher, "same");
+        final Future<Object> third = call(batcher, "other");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("Title of same");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("Title of same");
+        assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("Title of other");
+        assertThat(bulkCalls).hasSize(1);
+        assertThat(bulkCalls.get(0)).containsExactlyInAnyOrder("same", "other");
+    }
+
+    @Test
+    @DisplayName("flush a batch once its window is elapsed")
+    void should_flush_a_batch_once_its_window_is_elapsed() throws Throwable {
+        final CallBatcher batcher = CallBatcher.of(bulk(this::titles), 100, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(batcher.call(null, "alone")).isEqualTo("Title of alone");
+        assertThat(bulkCalls).containsExactly(singletonList("alone"));
+    }
+
+    @Test
+    @DisplayName("fail every call of a batch whose bulk call failed")
+    void should_fail_every_call_of_a_batch_whose_bulk_call_failed() throws Exception {
+        final CallBatcher batcher = CallBatcher.of(bulk((target, keys) -> {
+            throw new IllegalStateException("Unavailable");
+        }), 1, 0);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> batcher.call(null, "key"))
+                .withMessage("Unavailable");
+    }
+
+    private Future<Object> call(final CallBatcher batcher, final String key) {
+        return executor.submit(() -> {
+            try {
+                return batcher.call(null, key);
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Map<Object, Object> titles(final Object target, final Object keys) {
+        @SuppressWarnings("unchecked") final Collection<Object> requestedKeys = (Collection<Object>) keys;
+        bulkCalls.add(requestedKeys);
+
+        return requestedKeys.stream().collect(toMap(key -> key, key -> "Title of " + key));
+    }
+
+    private MethodHandle bulk(final BiFunction<Object, Object, Object> bulkFunction) throws Exception {
+        return MethodHandles.lookup()
+                .findVirtual(BiFunction.class, "apply", methodType(Object.class, Object.class, Object.class))
+                .bindTo(bulkFunction);
+    }
+}
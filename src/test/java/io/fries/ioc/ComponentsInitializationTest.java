@@ -0,0 +1,167 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.components.Initializable;
+import io.fries.ioc.instantiator.ComponentInitializationException;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Components initialization should")
+class ComponentsInitializationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private ExecutorService executor;
+    private Registry registry;
+    private Components components;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newCachedThreadPool();
+        this.registry = mock(Registry.class);
+        this.components = Components.empty();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("throw when created with null components or registry")
+    void should_throw_when_created_with_null_components_or_registry() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ComponentsInitialization.of(null, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ComponentsInitialization.of(components, null));
+    }
+
+    @Test
+    @DisplayName("initialize independent components in parallel")
+    void should_initialize_independent_components_in_parallel() {
+        final CountDownLatch bothInitializing = new CountDownLatch(2);
+        final Initializable initializable = () -> {
+            bothInitializing.countDown();
+            if (!bothInitializing.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                throw new IllegalStateException("The components were initialized sequentially");
+        };
+        register("first", initializable, emptyList());
+        register("second", initializable, emptyList());
+
+        ComponentsInitialization.of(components, registry).initialize(registry.instantiationOrder(), executor);
+
+        assertThat(bothInitializing.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("initialize the dependencies of a component before it")
+    void should_initialize_the_dependencies_of_a_component_before_it() {
+        final Queue<String> initialized = new ConcurrentLinkedQueue<>();
+        register("database", recording(initialized, "database"), emptyList());
+        register("repository", recording(initialized, "repository"), singletonList(Id.of("database")));
+        register("service", recording(initialized, "service"), asList(Id.of("repository"), Id.of("database")));
+
+        ComponentsInitialization.of(components, registry).initialize(registry.instantiationOrder(), executor);
+
+        assertThat(initialized).containsExactly("database", "repository", "service");
+    }
+
+    @Test
+    @DisplayName("initialize the components not declaring their dependencies after every other component")
+    void should_initialize_the_components_not_declaring_their_dependencies_after_every_other_component() {
+        final Queue<String> initialized = new ConcurrentLinkedQueue<>();
+        register("first", recording(initialized, "first"), emptyList());
+        register("second", recording(initialized, "second"), emptyList());
+        final Registrable opaque = register("opaque", recording(initialized, "opaque"), emptyList());
+        when(opaque.countDependencies(registry)).thenReturn(1);
+
+        ComponentsInitialization.of(components, registry).initialize(registry.instantiationOrder(), executor);
+
+        assertThat(initialized).endsWith("opaque").hasSize(3);
+    }
+
+    @Test
+    @DisplayName("skip the dependents of a failed component and aggregate the failures")
+    void should_skip_the_dependents_of_a_failed_component_and_aggregate_the_failures() {
+        final Queue<String> initialized = new ConcurrentLinkedQueue<>();
+        final Exception firstFailure = new Exception("first");
+        final Exception secondFailure = new Exception("second");
+        register("first", (Initializable) () -> {
+            throw firstFailure;
+        }, emptyList());
+        register("second", (Initializable) () -> {
+            throw secondFailure;
+        }, emptyList());
+        register("dependent", recording(initialized, "dependent"), singletonList(Id.of("first")));
+        register("independent", recording(initialized, "independent"), emptyList());
+
+        assertThatExceptionOfType(ComponentInitializationException.class)
+                .isThrownBy(() -> ComponentsInitialization.of(components, registry).initialize(registry.instantiationOrder(), executor))
+                .withCause(firstFailure)
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1).allSatisfy(suppressed -> assertThat(suppressed).hasCause(secondFailure)));
+        assertThat(initialized).containsExactly("independent");
+    }
+
+    @Test
+    @DisplayName("not use the executor when no component has to be initialized")
+    void should_not_use_the_executor_when_no_component_has_to_be_initialized() {
+        final Executor executor = mock(Executor.class);
+        register("plain", new Object(), emptyList());
+
+        ComponentsInitialization.of(components, registry).initialize(registry.instantiationOrder(), executor);
+
+        verifyZeroInteractions(executor);
+    }
+
+    @Test
+    @DisplayName("not materialize a proxy to initialize it")
+    void should_not_materialize_a_proxy_to_initialize_it() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Component proxy = ProxyRegistrable.of(Id.of("proxy"), Initializable.class, Object.class, emptyList()).instantiate(instantiator, components);
+        register("proxy", proxy.getRawInstance(), emptyList());
+
+        ComponentsInitialization.of(components, registry).initialize(registry.instantiationOrder(), executor);
+
+        verify(instantiator, never()).createInstance(any(), any());
+    }
+
+    private Initializable recording(final Queue<String> initialized, final String name) {
+        return () -> initialized.add(name);
+    }
+
+    private Registrable register(final String id, final Object instance, final List<Id> dependencies) {
+        final Id componentId = Id.of(id);
+        final Registrable registrable = mock(Registrable.class);
+        final List<Id> instantiationOrder = new ArrayList<>(registry.instantiationOrder());
+        instantiationOrder.add(componentId);
+
+        when(registrable.getDependencies()).thenReturn(dependencies);
+        when(registry.get(componentId)).thenReturn(registrable);
+        when(registry.instantiationOrder()).thenReturn(instantiationOrder);
+        components.add(Component.of(componentId, instance));
+
+        return registrable;
+    }
+}
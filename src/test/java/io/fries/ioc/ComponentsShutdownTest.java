@@ -0,0 +1,181 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.ComponentCloseException;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Components shutdown should")
+class ComponentsShutdownTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private ExecutorService executor;
+    private Registry registry;
+    private Components components;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newCachedThreadPool();
+        this.registry = mock(Registry.class);
+        this.components = Components.empty();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("throw when created with null components or registry")
+    void should_throw_when_created_with_null_components_or_registry() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ComponentsShutdown.of(null, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ComponentsShutdown.of(components, null));
+    }
+
+    @Test
+    @DisplayName("close independent components in parallel")
+    void should_close_independent_components_in_parallel() {
+        final CountDownLatch bothClosing = new CountDownLatch(2);
+        final AutoCloseable closeable = () -> {
+            bothClosing.countDown();
+            if (!bothClosing.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                throw new IllegalStateException("The components were closed sequentially");
+        };
+        register("first", closeable, emptyList());
+        register("second", closeable, emptyList());
+
+        ComponentsShutdown.of(components, registry).close(executor, TIMEOUT);
+
+        assertThat(bothClosing.getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("close the dependents of a component before it")
+    void should_close_the_dependents_of_a_component_before_it() {
+        final Queue<String> closed = new ConcurrentLinkedQueue<>();
+        register("database", recording(closed, "database"), emptyList());
+        register("repository", recording(closed, "repository"), singletonList(Id.of("database")));
+        register("service", recording(closed, "service"), asList(Id.of("repository"), Id.of("database")));
+
+        ComponentsShutdown.of(components, registry).close(executor, TIMEOUT);
+
+        assertThat(closed).containsExactly("service", "repository", "database");
+    }
+
+    @Test
+    @DisplayName("close the components not declaring their dependencies after every other component")
+    void should_close_the_components_not_declaring_their_dependencies_after_every_other_component() {
+        final Queue<String> closed = new ConcurrentLinkedQueue<>();
+        register("first", recording(closed, "first"), emptyList());
+        register("second", recording(closed, "second"), emptyList());
+        final Registrable opaque = register("opaque", recording(closed, "opaque"), emptyList());
+        when(opaque.countDependencies(registry)).thenReturn(1);
+
+        ComponentsShutdown.of(components, registry).close(executor, TIMEOUT);
+
+        assertThat(closed).startsWith("opaque").hasSize(3);
+    }
+
+    @Test
+    @DisplayName("give up on a component that does not close in time and still close its dependencies")
+    void should_give_up_on_a_component_that_does_not_close_in_time() throws Exception {
+        final CountDownLatch never = new CountDownLatch(1);
+        final AutoCloseable dependency = mock(AutoCloseable.class);
+        register("dependency", dependency, emptyList());
+        register("stuck", (AutoCloseable) never::await, singletonList(Id.of("dependency")));
+
+        assertThatExceptionOfType(ComponentCloseException.class)
+                .isThrownBy(() -> ComponentsShutdown.of(components, registry).close(executor, Duration.ofMillis(50)))
+                .withCauseInstanceOf(TimeoutException.class)
+                .withMessageContaining("The component did not close in time: " + Id.of("stuck"));
+        verify(dependency).close();
+    }
+
+    @Test
+    @DisplayName("not materialize a proxy to close it")
+    void should_not_materialize_a_proxy_to_close_it() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Id id = Id.of("proxy");
+        final Component proxy = ProxyRegistrable.of(id, AutoCloseable.class, Object.class, emptyList()).instantiate(instantiator, components);
+        register("proxy", proxy.getRawInstance(), emptyList());
+
+        ComponentsShutdown.of(components, registry).close(executor, TIMEOUT);
+
+        verify(instantiator, never()).createInstance(any(), any());
+    }
+
+    @Test
+    @DisplayName("close the instance of a materialized proxy")
+    void should_close_the_instance_of_a_materialized_proxy() throws Exception {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Runnable instance = mock(Runnable.class, withSettings().extraInterfaces(AutoCloseable.class));
+        final Component proxy = ProxyRegistrable.of(Id.of("proxy"), Runnable.class, Object.class, emptyList()).instantiate(instantiator, components);
+        register("proxy", proxy.getRawInstance(), emptyList());
+
+        when(instantiator.createInstance(any(), any())).thenReturn(instance);
+        proxy.<Runnable>getInstance().run();
+        ComponentsShutdown.of(components, registry).close(executor, TIMEOUT);
+
+        verify((AutoCloseable) instance).close();
+    }
+
+    @Test
+    @DisplayName("close the given components it owns in reverse order and report their failures")
+    void should_close_the_given_components_it_owns_in_reverse_order_and_report_their_failures() {
+        final Queue<String> closed = new ConcurrentLinkedQueue<>();
+        register("plot", recording(closed, "plot"), emptyList());
+        register("story", (AutoCloseable) () -> {
+            closed.add("story");
+            throw new IllegalStateException("Unable to close");
+        }, singletonList(Id.of("plot")));
+        register("book", recording(closed, "book"), singletonList(Id.of("story")));
+
+        assertThatExceptionOfType(ComponentCloseException.class)
+                .isThrownBy(() -> ComponentsShutdown.of(components, registry).close(asList(Id.of("plot"), Id.of("story"), Id.of("inherited"))))
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(closed).containsExactly("story", "plot");
+    }
+
+    private AutoCloseable recording(final Queue<String> closed, final String name) {
+        return () -> closed.add(name);
+    }
+
+    private Registrable register(final String id, final Object instance, final List<Id> dependencies) {
+        final Id componentId = Id.of(id);
+        final Registrable registrable = mock(Registrable.class);
+        final List<Id> instantiationOrder = new ArrayList<>(registry.instantiationOrder());
+        instantiationOrder.add(componentId);
+
+        when(registrable.getDependencies()).thenReturn(dependencies);
+        when(registry.get(componentId)).thenReturn(registrable);
+        when(registry.instantiationOrder()).thenReturn(instantiationOrder);
+        components.add(Component.of(componentId, instance));
+
+        return registrable;
+    }
+}
@@ -1,13 +1,32 @@
 package io.fries.ioc;
 
+import io.fries.ioc.annotations.Async;
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.components.Initializable;
 import io.fries.ioc.instantiator.DefaultInstantiator;
 import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.instrumentation.ComponentTiming;
+import io.fries.ioc.instrumentation.ContainerMetrics;
+import io.fries.ioc.instrumentation.DefaultContainerMetrics;
+import io.fries.ioc.instrumentation.StartupPhase;
+import io.fries.ioc.instrumentation.StartupReport;
+import io.fries.ioc.instrumentation.StartupTimeline;
+import io.fries.ioc.registry.pooled.Handle;
+import io.fries.ioc.registry.pooled.Pool;
+import io.fries.ioc.registry.proxy.Interceptor;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import testable.Book;
 import testable.NovelBook;
 import testable.TestableApplication;
+import testable.library.CountingLibrary;
+import testable.library.Library;
+import testable.library.LibraryConnection;
 import testable.stories.FantasyStory;
+import testable.stories.ScienceFictionStory;
+import testable.stories.Story;
 import testable.stories.plots.IncrediblePlot;
 import testable.stories.plots.Plot;
 import testable.stories.plots.PredictablePlot;
@@ -15,10 +34,29 @@ import testable.stories.protagonists.FriendlyProtagonist;
 import testable.stories.protagonists.HeroicProtagonist;
 import testable.stories.protagonists.Protagonist;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static io.fries.ioc.registry.managed.ManagedRegistrableBuilder.managed;
 import static io.fries.ioc.registry.proxy.ProxyRegistrableBuilder.proxy;
 import static io.fries.ioc.registry.supplied.SuppliedRegistrableBuilder.supplied;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 @DisplayName("IoC container should")
 class ContainerAcceptanceTest {
@@ -83,6 +121,617 @@ class ContainerAcceptanceTest {
         assertThat(book.toString()).isEqualTo("NovelBook(FantasyStory(PredictablePlot('Outcome'), FriendlyProtagonist(FriendlyProtagonist)))");
     }
 
+    @Test
+    @DisplayName("replace a component and rebuild the components depending on it")
+    void should_replace_a_component_and_rebuild_its_dependents() {
+        final Container container = Container.empty()
+                .register(managed(FantasyStory.class).with(IncrediblePlot.class, HeroicProtagonist.class))
+                .register(managed(NovelBook.class).with(FantasyStory.class))
+                .register(managed(IncrediblePlot.class))
+                .register(managed(HeroicProtagonist.class))
+                .register(supplied(() -> "Outcome").as("plot.outcome"))
+                .instantiate();
+        final Book previousBook = container.provide(NovelBook.class);
+        final Protagonist previousProtagonist = container.provide(HeroicProtagonist.class);
+
+        container.replace(IncrediblePlot.class, managed(PredictablePlot.class).with("plot.outcome").as(IncrediblePlot.class));
+        final Book book = container.provide(NovelBook.class);
+        final Protagonist protagonist = container.provide(HeroicProtagonist.class);
+
+        assertThat(book.toString()).isEqualTo("NovelBook(FantasyStory(PredictablePlot('Outcome'), HeroicProtagonist))");
+        assertThat(previousBook.toString()).isEqualTo("NovelBook(FantasyStory(IncrediblePlot, HeroicProtagonist))");
+        assertThat(protagonist).isSameAs(previousProtagonist);
+    }
+
+    @Test
+    @DisplayName("keep the instances of the components it replaced open for their current users")
+    void should_keep_the_instances_of_the_components_it_replaced_open_for_their_current_users() {
+        final List<LibraryConnection> closedConnections = new CopyOnWriteArrayList<>();
+        final Container container = Container.empty()
+                .register(managed(LibraryConnection.class).with("closed.connections"))
+                .register(supplied(() -> closedConnections).as("closed.connections"))
+                .instantiate();
+        final LibraryConnection previousConnection = container.provide(LibraryConnection.class);
+
+        container.replace(LibraryConnection.class, managed(LibraryConnection.class).with("closed.connections"));
+
+        assertThat(closedConnections).isEmpty();
+        assertThat(container.<LibraryConnection, Class<?>>provide(LibraryConnection.class)).isNotSameAs(previousConnection);
+    }
+
+    @Test
+    @DisplayName("close the instances of the components it replaced when asked to")
+    void should_close_the_instances_of_the_components_it_replaced_when_asked_to() {
+        final List<LibraryConnection> closedConnections = new CopyOnWriteArrayList<>();
+        final Container container = Container.empty()
+                .register(managed(LibraryConnection.class).with("closed.connections"))
+                .register(supplied(() -> closedConnections).as("closed.connections"))
+                .instantiate();
+        final LibraryConnection previousConnection = container.provide(LibraryConnection.class);
+
+        container.replaceAndClose(LibraryConnection.class, managed(LibraryConnection.class).with("closed.connections"));
+
+        assertThat(closedConnections).containsExactly(previousConnection);
+        assertThat(container.<LibraryConnection, Class<?>>provide(LibraryConnection.class)).isNotSameAs(previousConnection);
+    }
+
+    @Test
+    @DisplayName("provide the components of a parent container from a child container overriding some of them")
+    void should_provide_inherited_and_overridden_components_from_a_child_container() {
+        final Container parent = Container.empty()
+                .register(managed(FantasyStory.class).with(IncrediblePlot.class, HeroicProtagonist.class))
+                .register(managed(NovelBook.class).with(FantasyStory.class))
+                .register(managed(IncrediblePlot.class))
+                .register(managed(HeroicProtagonist.class))
+                .instantiate();
+
+        final Container child = parent.child()
+                .register(managed(PredictablePlot.class).with("plot.outcome").as(IncrediblePlot.class))
+                .register(supplied(() -> "Outcome").as("plot.outcome"))
+                .instantiate();
+
+        final Book parentBook = parent.provide(NovelBook.class);
+        final Book childBook = child.provide(NovelBook.class);
+        final Protagonist parentProtagonist = parent.provide(HeroicProtagonist.class);
+        final Protagonist childProtagonist = child.provide(HeroicProtagonist.class);
+
+        assertThat(parentBook.toString()).isEqualTo("NovelBook(FantasyStory(IncrediblePlot, HeroicProtagonist))");
+        assertThat(childBook.toString()).isEqualTo("NovelBook(FantasyStory(PredictablePlot('Outcome'), HeroicProtagonist))");
+        assertThat(childProtagonist).isSameAs(parentProtagonist);
+    }
+
+    @Test
+    @DisplayName("dispatch each asynchronous call of the parent proxies it rebuilt once")
+    void should_dispatch_each_asynchronous_call_of_the_parent_proxies_it_rebuilt_once() throws Exception {
+        final List<Runnable> dispatched = new CopyOnWriteArrayList<>();
+        final Executor executor = task -> {
+            dispatched.add(task);
+            task.run();
+        };
+        final Container parent = Container.empty()
+                .register(proxy(PrefixedCatalog.class).of(Catalog.class).with("catalog.prefix").as("catalog"))
+                .register(supplied(() -> "Parent").as("catalog.prefix"))
+                .executeAsyncOn("lookups", executor)
+                .instantiate();
+        final Container child = parent.child()
+                .register(supplied(() -> "Child").as("catalog.prefix"))
+                .executeAsyncOn("lookups", executor)
+                .instantiate();
+
+        final Catalog catalog = child.provide("catalog");
+
+        assertThat(catalog.fetchTitle("978-0553293357").get(5, TimeUnit.SECONDS)).isEqualTo("Child title of 978-0553293357");
+        assertThat(dispatched).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("keep running the asynchronous calls of the parent proxies it rebuilt once its parent is closed")
+    void should_keep_running_the_asynchronous_calls_of_the_parent_proxies_it_rebuilt_once_its_parent_is_closed() throws Exception {
+        final Container parent = Container.empty()
+                .register(proxy(PrefixedCatalog.class).of(Catalog.class).with("catalog.prefix").as("catalog"))
+                .register(supplied(() -> "Parent").as("catalog.prefix"))
+                .instantiate();
+
+        try (final Container child = parent.child()
+                .register(supplied(() -> "Child").as("catalog.prefix"))
+                .instantiate()) {
+            final Catalog catalog = child.provide("catalog");
+            catalog.fetchTitle("978-0553293357").get(5, TimeUnit.SECONDS);
+
+            parent.close();
+
+            assertThat(catalog.fetchTitle("978-0441172719").get(5, TimeUnit.SECONDS)).isEqualTo("Child title of 978-0441172719");
+        }
+    }
+
+    @Test
+    @DisplayName("provide a bounded number of tenant containers")
+    void should_provide_a_bounded_number_of_tenant_containers() {
+        final Container parent = Container.empty()
+                .register(managed(PredictablePlot.class).with("plot.outcome"))
+                .register(supplied(() -> "Outcome").as("plot.outcome"))
+                .instantiate();
+        final TenantContainers<String> tenantContainers = TenantContainers.of(2, tenant -> parent.child()
+                .register(supplied(() -> tenant).as("plot.outcome"))
+                .instantiate()
+        );
+
+        final Plot firstPlot = tenantContainers.get("First").provide(PredictablePlot.class);
+        final Plot secondPlot = tenantContainers.get("Second").provide(PredictablePlot.class);
+        tenantContainers.get("Third");
+
+        assertThat(firstPlot.toString()).isEqualTo("PredictablePlot('First')");
+        assertThat(secondPlot.toString()).isEqualTo("PredictablePlot('Second')");
+        assertThat(tenantContainers.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("report the timeline of its startup")
+    void should_report_the_timeline_of_its_startup() {
+        final StartupTimeline startupTimeline = StartupTimeline.create();
+        Container.empty()
+                .listenInstantiations(startupTimeline)
+                .register(managed(FantasyStory.class).with(IncrediblePlot.class, HeroicProtagonist.class))
+                .register(managed(NovelBook.class).with(FantasyStory.class))
+                .register(managed(IncrediblePlot.class))
+                .register(managed(HeroicProtagonist.class))
+                .instantiate();
+
+        final StartupReport report = startupTimeline.report();
+        final List<ComponentTiming> criticalPath = report.getCriticalPath();
+
+        assertThat(report.getComponentTimings()).hasSize(4);
+        assertThat(criticalPath).hasSize(3);
+        assertThat(criticalPath.get(2).getId()).isEqualTo(Id.of(NovelBook.class));
+        assertThat(report.getPhaseTime(StartupPhase.CONSTRUCTION)).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("report its provisions and proxy invocations to the installed metrics")
+    void should_report_its_provisions_and_proxy_invocations_to_the_installed_metrics() throws NoSuchMethodException {
+        final DefaultContainerMetrics metrics = new DefaultContainerMetrics();
+        final Container container = Container.empty()
+                .register(managed(FriendlyProtagonist.class).with("knights.karadoc").as("knights.perceval"))
+                .register(proxy(FriendlyProtagonist.class).of(Protagonist.class).with("knights.perceval").as("knights.karadoc"))
+                .instantiate();
+
+        ContainerMetrics.install(metrics);
+        try {
+            final Protagonist karadoc = container.provide("knights.karadoc");
+            karadoc.toString();
+            container.provide("knights.karadoc");
+        } finally {
+            ContainerMetrics.install(ContainerMetrics.none());
+        }
+
+        assertThat(metrics.getProvisions()).containsEntry(Id.of("knights.karadoc"), 2L);
+        assertThat(metrics.getInvocations().get(Object.class.getMethod("toString")).getCount()).isEqualTo(1);
+        assertThat(metrics.getMaterializations()).containsOnlyKeys(FriendlyProtagonist.class);
+    }
+
+    @Test
+    @DisplayName("report the provisions of unregistered components as misses rather than per identifier")
+    void should_report_the_provisions_of_unregistered_components_as_misses_rather_than_per_identifier() {
+        final DefaultContainerMetrics metrics = new DefaultContainerMetrics();
+        final Container container = Container.empty()
+                .register(supplied(() -> "Perceval").as("knights.perceval"))
+                .instantiate();
+
+        ContainerMetrics.install(metrics);
+        try {
+            for (int index = 0; index < 3; index++) {
+                final String id = "knights.unknown-" + index;
+                assertThatExceptionOfType(NoSuchElementException.class)
+                        .isThrownBy(() -> container.provide(id));
+            }
+            container.provide("knights.perceval");
+        } finally {
+            ContainerMetrics.install(ContainerMetrics.none());
+        }
+
+        assertThat(metrics.getMisses()).isEqualTo(3);
+        assertThat(metrics.getProvisions()).containsOnlyKeys(Id.of("knights.perceval"));
+    }
+
+    @Test
+    @DisplayName("close its components without invoking its proxies")
+    void should_close_its_components_without_invoking_its_proxies() {
+        final List<String> closed = new CopyOnWriteArrayList<>();
+        final AutoCloseable pool = () -> closed.add("pool");
+        final AutoCloseable client = () -> closed.add("client");
+
+        try (final Container container = Container.empty()
+                .register(supplied(() -> pool).as("pool"))
+                .register(supplied(() -> client).as("client"))
+                .register(proxy(IncrediblePlot.class).of(Plot.class).as("plot"))
+                .instantiate()) {
+            assertThat(container.<Object, String>provide("pool")).isSameAs(pool);
+        }
+
+        assertThat(closed).containsExactlyInAnyOrder("pool", "client");
+    }
+
+    @Test
+    @DisplayName("close the components of its opened keyed scopes when it is closed")
+    void should_close_the_components_of_its_opened_keyed_scopes_when_it_is_closed() {
+        final List<LibraryConnection> closedConnections = new CopyOnWriteArrayList<>();
+        final LibraryConnection connection;
+
+        try (final Container container = Container.empty()
+                .register(managed(LibraryConnection.class).with("closed.connections").scoped())
+                .register(supplied(() -> closedConnections).as("closed.connections"))
+                .instantiate()) {
+            connection = container.scope("tenant").provide(LibraryConnection.class);
+        }
+
+        assertThat(closedConnections).containsExactly(connection);
+    }
+
+    @Test
+    @DisplayName("close the idle members of its pools when it is closed")
+    void should_close_the_idle_members_of_its_pools_when_it_is_closed() {
+        final List<LibraryConnection> closedConnections = new CopyOnWriteArrayList<>();
+        final LibraryConnection idleConnection;
+        final Handle<LibraryConnection> borrowedHandle;
+
+        try (final Container container = Container.empty()
+                .register(managed(LibraryConnection.class).with("closed.connections").pooled(0, 2))
+                .register(supplied(() -> closedConnections).as("closed.connections"))
+                .instantiate()) {
+            final Pool<LibraryConnection> pool = container.provide(LibraryConnection.class);
+            try (final Handle<LibraryConnection> handle = pool.borrow()) {
+                idleConnection = handle.get();
+                borrowedHandle = pool.tryBorrow().orElseThrow(IllegalStateException::new);
+            }
+        }
+
+        assertThat(closedConnections).containsExactly(idleConnection);
+        final LibraryConnection borrowedConnection = borrowedHandle.get();
+        borrowedHandle.close();
+        assertThat(closedConnections).containsExactly(idleConnection, borrowedConnection);
+    }
+
+    @Test
+    @DisplayName("close the instances of its per thread components when it is closed")
+    void should_close_the_instances_of_its_per_thread_components_when_it_is_closed() throws InterruptedException {
+        final List<LibraryConnection> closedConnections = new CopyOnWriteArrayList<>();
+        final AtomicReference<LibraryConnection> otherThreadConnection = new AtomicReference<>();
+        final LibraryConnection connection;
+
+        try (final Container container = Container.empty()
+                .register(managed(LibraryConnection.class).with("closed.connections").perThread())
+                .register(supplied(() -> closedConnections).as("closed.connections"))
+                .instantiate()) {
+            connection = container.provide(LibraryConnection.class);
+            final Thread thread = new Thread(() -> otherThreadConnection.set(container.provide(LibraryConnection.class)));
+            thread.start();
+            thread.join();
+        }
+
+        assertThat(closedConnections).containsExactlyInAnyOrder(connection, otherThreadConnection.get());
+    }
+
+    @Test
+    @DisplayName("initialize its components once they are wired and again when they are replaced")
+    void should_initialize_its_components_once_they_are_wired_and_again_when_they_are_replaced() {
+        final List<String> initialized = new CopyOnWriteArrayList<>();
+        final Initializable cache = () -> initialized.add("cache");
+        final Initializable index = () -> initialized.add("index");
+        final Initializable replacedCache = () -> initialized.add("replaced cache");
+
+        final Container container = Container.empty()
+                .register(supplied(() -> cache).as("cache"))
+                .register(supplied(() -> index).as("index"))
+                .instantiate();
+        assertThat(initialized).containsExactlyInAnyOrder("cache", "index");
+
+        container.replace("cache", supplied(() -> replacedCache).as("cache"));
+        assertThat(initialized).containsExactlyInAnyOrder("cache", "index", "replaced cache");
+    }
+
+    @Test
+    @DisplayName("prefetch on the next boot the proxies invoked during the previous one")
+    void should_prefetch_on_the_next_boot_the_proxies_invoked_during_the_previous_one() throws Exception {
+        final Path profile = Files.createTempFile("ioc-container", ".profile");
+        Files.delete(profile);
+
+        try {
+            try (final Container container = Container.empty()
+                    .register(proxy(IncrediblePlot.class).of(Plot.class).as("plot"))
+                    .register(proxy(PredictablePlot.class).of(Plot.class).as("unused"))
+                    .profileStartup(profile, Duration.ofMinutes(1))
+                    .instantiate()) {
+                container.<Plot, String>provide("plot").toString();
+            }
+
+            final Container container = Container.empty()
+                    .register(proxy(IncrediblePlot.class).of(Plot.class).as("plot"))
+                    .register(proxy(PredictablePlot.class).of(Plot.class).as("unused"))
+                    .profileStartup(profile, Duration.ofMinutes(1))
+                    .instantiate();
+            final Object plot = container.provide("plot");
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                while (!ProxyRegistrable.unwrap(plot).isPresent())
+                    Thread.sleep(1);
+            });
+            assertThat(ProxyRegistrable.unwrap(container.provide("unused"))).isEmpty();
+        } finally {
+            Files.deleteIfExists(profile);
+        }
+    }
+
+    @Test
+    @DisplayName("prefetch the proxies of the previous boot once their dependencies are initialized")
+    void should_prefetch_the_proxies_of_the_previous_boot_once_their_dependencies_are_initialized() throws Exception {
+        final Path profile = Files.createTempFile("ioc-container", ".profile");
+        Files.delete(profile);
+
+        try {
+            try (final Container container = bootWithProfiledStory(profile, new InitializedPlot(), new DefaultInstantiator())) {
+                container.<Story, String>provide("story").toString();
+            }
+
+            final InitializedPlot plot = new InitializedPlot();
+            final CompletableFuture<Boolean> initializedBeforeStory = new CompletableFuture<>();
+            final Instantiator instantiator = new Instantiator() {
+                private final Instantiator delegate = new DefaultInstantiator();
+
+                @Override
+                public <T> T createInstance(final Class<T> type, final List<Component> dependencies) {
+                    if (type == FantasyStory.class) {
+                        initializedBeforeStory.complete(plot.initialized);
+                        plot.storyCreated.countDown();
+                    }
+                    return delegate.createInstance(type, dependencies);
+                }
+            };
+            bootWithProfiledStory(profile, plot, instantiator);
+
+            assertThat(initializedBeforeStory.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            Files.deleteIfExists(profile);
+        }
+    }
+
+    private Container bootWithProfiledStory(final Path profile, final InitializedPlot plot, final Instantiator instantiator) {
+        return Container.using(instantiator)
+                .register(proxy(FantasyStory.class).of(Story.class).with("plot", "protagonist").as("story"))
+                .register(supplied(() -> plot).as("plot"))
+                .register(managed(HeroicProtagonist.class).as("protagonist"))
+                .profileStartup(profile, Duration.ofMinutes(1))
+                .instantiate();
+    }
+
+    @Test
+    @DisplayName("proxy the components that were slow to construct during the previous boot")
+    void should_proxy_the_components_that_were_slow_to_construct_during_the_previous_boot() throws Exception {
+        final Path costs = Files.createTempFile("ioc-container", ".costs");
+        Files.write(costs, singletonList("50000000\tplot"));
+
+        try {
+            final Container container = Container.empty()
+                    .register(managed(IncrediblePlot.class).as("plot"))
+                    .register(managed(ScienceFictionStory.class).with("plot"))
+                    .proxySlowComponents(costs, Duration.ofMillis(10))
+                    .instantiate();
+
+            assertThat(container.<Story, Class<?>>provide(ScienceFictionStory.class)).isNotNull();
+            assertThat(ProxyRegistrable.unwrap(container.provide("plot"))).isEmpty();
+            assertThat(container.<Plot, String>provide("plot").toString()).isEqualTo("IncrediblePlot");
+        } finally {
+            Files.deleteIfExists(costs);
+        }
+    }
+
+    @Test
+    @DisplayName("intercept the invocations of its proxies")
+    void should_intercept_the_invocations_of_its_proxies() {
+        final List<String> invocations = new CopyOnWriteArrayList<>();
+        final Container container = Container.empty()
+                .register(proxy(IncrediblePlot.class).of(Plot.class).as("plot"))
+                .register(supplied(() -> "outcome").as("outcome"))
+                .interceptProxies(Interceptor.before((method, args) -> invocations.add(method.getName())))
+                .interceptProxies(Interceptor.after((method, result) -> "Intercepted" + result))
+                .instantiate();
+
+        assertThat(container.<Plot, String>provide("plot").toString()).isEqualTo("InterceptedIncrediblePlot");
+        assertThat(container.<Object, String>provide("outcome")).isEqualTo("outcome");
+        assertThat(invocations).containsExactly("toString");
+    }
+
+    @Test
+    @DisplayName("intercept the invocations of the proxies replacing its components")
+    void should_intercept_the_invocations_of_the_proxies_replacing_its_components() {
+        final Container container = Container.empty()
+                .register(proxy(IncrediblePlot.class).of(Plot.class).as("plot"))
+                .register(supplied(() -> "outcome").as("outcome"))
+                .interceptProxies(Interceptor.after((method, result) -> "Intercepted" + result))
+                .instantiate();
+
+        container.replace("plot", proxy(PredictablePlot.class).of(Plot.class).with("outcome").as("plot"));
+
+        assertThat(container.<Plot, String>provide("plot").toString()).isEqualTo("InterceptedPredictablePlot('outcome')");
+    }
+
+    @Test
+    @DisplayName("run the asynchronous methods of the proxies replacing its components on their named executor")
+    void should_run_the_asynchronous_methods_of_the_proxies_replacing_its_components_on_their_named_executor() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "lookups"));
+
+        try (final Container container = Container.empty()
+                .register(proxy(CountingLibrary.class).of(Library.class).as("library"))
+                .executeAsyncOn("lookups", executor)
+                .instantiate()) {
+            container.replace("library", proxy(CountingLibrary.class).of(Library.class).as("library"));
+            final Library library = container.provide("library");
+
+            assertThat(library.fetchTitle("978-0553293357").get(5, TimeUnit.SECONDS)).isEqualTo("lookups: Title of 978-0553293357");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("cache the results of the cached methods of its proxies")
+    void should_cache_the_results_of_the_cached_methods_of_its_proxies() {
+        final Container container = Container.empty()
+                .register(proxy(CountingLibrary.class).of(Library.class).as("library"))
+                .instantiate();
+        final Library library = container.provide("library");
+
+        library.findTitle("978-0553293357");
+        library.findTitle("978-0553293357");
+        library.findTitle("978-0441172719");
+
+        assertThat(library.findTitle("978-0553293357")).isEqualTo("Title of 978-0553293357");
+        assertThat(library.countLookups()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("run the asynchronous methods of its proxies on their named executor")
+    void should_run_the_asynchronous_methods_of_its_proxies_on_their_named_executor() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "lookups"));
+
+        try (final Container container = Container.empty()
+                .register(proxy(CountingLibrary.class).of(Library.class).as("library"))
+                .executeAsyncOn("lookups", executor)
+                .instantiate()) {
+            final Library library = container.provide("library");
+
+            assertThat(library.fetchTitle("978-0553293357").get(5, TimeUnit.SECONDS)).isEqualTo("lookups: Title of 978-0553293357");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("merge the concurrent batched calls of its proxies into bulk calls")
+    void should_merge_the_concurrent_batched_calls_of_its_proxies_into_bulk_calls() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try (final Container container = Container.empty()
+                .register(proxy(CountingLibrary.class).of(Library.class).as("library"))
+                .instantiate()) {
+            final Library library = container.provide("library");
+
+            final List<Future<String>> authors = executor.invokeAll(asList(
+                    () -> library.findAuthor("978-0553293357"),
+                    () -> library.findAuthor("978-0441172719"),
+                    () -> library.findAuthor("978-0765326355")
+            ));
+
+            assertThat(authors.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("Author of 978-0553293357");
+            assertThat(authors.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("Author of 978-0765326355");
+            assertThat(library.countLookups()).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("provide one instance of a per thread component to each thread")
+    void should_provide_one_instance_of_a_per_thread_component_to_each_thread() throws InterruptedException {
+        final Container container = Container.empty()
+                .register(managed(IncrediblePlot.class).perThread())
+                .instantiate();
+        final AtomicReference<Plot> otherThreadPlot = new AtomicReference<>();
+
+        final Plot plot = container.provide(IncrediblePlot.class);
+        final Thread thread = new Thread(() -> otherThreadPlot.set(container.provide(IncrediblePlot.class)));
+        thread.start();
+        thread.join();
+
+        assertThat(container.<Plot, Class<?>>provide(IncrediblePlot.class)).isSameAs(plot);
+        assertThat(otherThreadPlot.get()).isInstanceOf(IncrediblePlot.class).isNotSameAs(plot);
+    }
+
+    @Test
+    @DisplayName("refuse to inject a per thread component into a singleton component")
+    void should_refuse_to_inject_a_per_thread_component_into_a_singleton_component() {
+        final RegistrationContainer container = Container.empty()
+                .register(managed(FantasyStory.class).with(IncrediblePlot.class, HeroicProtagonist.class))
+                .register(managed(IncrediblePlot.class).perThread())
+                .register(managed(HeroicProtagonist.class));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(container::instantiate)
+                .withMessageStartingWith("A shared component cannot depend on a contextual component: ");
+    }
+
+    @Test
+    @DisplayName("provide scoped components from an opened scope")
+    void should_provide_scoped_components_from_an_opened_scope() {
+        final Container container = Container.empty()
+                .register(managed(FantasyStory.class).with(IncrediblePlot.class, HeroicProtagonist.class).scoped())
+                .register(managed(IncrediblePlot.class).scoped())
+                .register(managed(HeroicProtagonist.class))
+                .instantiate();
+
+        final Story firstStory;
+        try (final ScopedContainer scope = container.openScope()) {
+            firstStory = scope.provide(FantasyStory.class);
+            assertThat(scope.<Story, Class<?>>provide(FantasyStory.class)).isSameAs(firstStory);
+        }
+        try (final ScopedContainer scope = container.openScope()) {
+            assertThat(scope.<Story, Class<?>>provide(FantasyStory.class)).isNotSameAs(firstStory);
+        }
+
+        assertThat(firstStory.toString()).isEqualTo("FantasyStory(IncrediblePlot, HeroicProtagonist)");
+    }
+
+    @Test
+    @DisplayName("lend pooled components through handles")
+    void should_lend_pooled_components_through_handles() {
+        final Container container = Container.empty()
+                .register(managed(PredictablePlot.class).with("plot.outcome").pooled(1, 2))
+                .register(supplied(() -> "Outcome").as("plot.outcome"))
+                .instantiate();
+
+        final Pool<Plot> pool = container.provide(PredictablePlot.class);
+
+        try (final Handle<Plot> handle = pool.borrow()) {
+            assertThat(handle.get().toString()).isEqualTo("PredictablePlot('Outcome')");
+        }
+    }
+
+    @Test
+    @DisplayName("provide scoped components from a keyed scope until it is closed")
+    void should_provide_scoped_components_from_a_keyed_scope_until_it_is_closed() {
+        final Container container = Container.empty()
+                .register(managed(IncrediblePlot.class).scoped())
+                .expireScopes(ScopeExpiration.never().afterIdle(Duration.ofMinutes(30)))
+                .instantiate();
+
+        final Plot plot = container.scope("tenant").provide(IncrediblePlot.class);
+        final Plot samePlot = container.scope("tenant").provide(IncrediblePlot.class);
+        container.closeScope("tenant");
+        final Plot newPlot = container.scope("tenant").provide(IncrediblePlot.class);
+
+        assertThat(samePlot).isSameAs(plot);
+        assertThat(newPlot).isNotSameAs(plot);
+    }
+
+    @Test
+    @DisplayName("register components from several threads")
+    void should_register_components_from_several_threads() throws InterruptedException {
+        final RegistrationContainer registrationContainer = Container.concurrent();
+        final Thread plots = new Thread(() -> registrationContainer
+                .register(managed(PredictablePlot.class).with("plot.outcome"))
+                .register(supplied(() -> "Outcome").as("plot.outcome")));
+        final Thread stories = new Thread(() -> registrationContainer
+                .register(managed(FantasyStory.class).with(PredictablePlot.class, HeroicProtagonist.class))
+                .register(managed(HeroicProtagonist.class)));
+
+        plots.start();
+        stories.start();
+        plots.join();
+        stories.join();
+        final Story story = registrationContainer.instantiate().provide(FantasyStory.class);
+
+        assertThat(story.toString()).isEqualTo("FantasyStory(PredictablePlot('Outcome'), HeroicProtagonist)");
+    }
+
     @Test
     void should_scan_annotated_components() {
         final Container container = Container.scan(TestableApplication.class);
@@ -91,4 +740,36 @@ class ContainerAcceptanceTest {
 
         assertThat(book.toString()).isEqualTo("NovelBook(FantasyStory(PredictablePlot('Outcome'), FriendlyProtagonist(HeroicProtagonist)))");
     }
+
+    public interface Catalog {
+
+        @Async("lookups")
+        CompletableFuture<String> fetchTitle(String isbn);
+    }
+
+    public static class PrefixedCatalog implements Catalog {
+
+        private final String prefix;
+
+        public PrefixedCatalog(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public CompletableFuture<String> fetchTitle(final String isbn) {
+            return CompletableFuture.completedFuture(prefix + " title of " + isbn);
+        }
+    }
+
+    private static class InitializedPlot implements Plot, Initializable {
+
+        private final CountDownLatch storyCreated = new CountDownLatch(1);
+        private volatile boolean initialized;
+
+        @Override
+        public void initialize() throws InterruptedException {
+            storyCreated.await(100, TimeUnit.MILLISECONDS);
+            initialized = true;
+        }
+    }
 }
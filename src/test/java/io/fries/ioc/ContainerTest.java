@@ -1,10 +1,24 @@
 package io.fries.ioc;
 
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.ComponentCloseException;
 import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import testable.stories.plots.IncrediblePlot;
 
+import java.time.Duration;
+import java.util.HashMap;
+
+import static io.fries.ioc.AllocationBudget.assertAllocatesAtMost;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.*;
@@ -19,6 +33,13 @@ class ContainerTest {
                 .isThrownBy(() -> Container.using(null));
     }
 
+    @Test
+    @DisplayName("throw when using a null Instantiator concurrently")
+    void should_throw_when_using_a_null_instantiator_concurrently() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Container.concurrentUsing(null));
+    }
+
     @Test
     @DisplayName("provide a component instance using its identifier value")
     void should_provide_a_component_instance_using_its_id_value() {
@@ -36,6 +57,148 @@ class ContainerTest {
         assertThat(providedInstance).isEqualTo(instance);
     }
 
+    @Test
+    @DisplayName("not allocate when providing a component")
+    void should_not_allocate_when_providing_a_component() {
+        final Components components = Components.empty()
+                .add(Component.of(Id.of(IncrediblePlot.class), new IncrediblePlot()))
+                .add(Component.of(Id.of("plot.outcome"), "Outcome"));
+        final Container container = Container.of(components);
+
+        assertAllocatesAtMost(0, () -> container.provide(IncrediblePlot.class));
+        assertAllocatesAtMost(0, () -> container.provide("plot.outcome"));
+    }
+
+    @Test
+    @DisplayName("throw when replacing a component with a registrable of another identifier")
+    void should_throw_when_replacing_a_component_with_a_registrable_of_another_id() {
+        final Registrable registrable = mock(Registrable.class);
+        final Container container = Container.of(mock(Components.class));
+
+        when(registrable.getId()).thenReturn(Id.of("other"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> container.replace("replaced", registrable))
+                .withMessage("The replacing component must be registered with the id: " + Id.of("replaced"));
+    }
+
+    @Test
+    @DisplayName("throw when replacing a component that its registry does not hold")
+    void should_throw_when_replacing_a_component_that_its_registry_does_not_hold() {
+        final Id id = Id.of("replaced");
+        final Registrable registrable = mock(Registrable.class);
+        final Container container = Container.of(Components.empty().add(Component.of(id, "previous")));
+
+        when(registrable.getId()).thenReturn(id);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> container.replace("replaced", registrable))
+                .withMessage("Only the components registered in the registry of the container can be replaced: " + id);
+    }
+
+    @Test
+    @DisplayName("publish the replaced components without altering the previous ones")
+    void should_publish_the_replaced_components_without_altering_the_previous_ones() {
+        final Id id = Id.of("replaced");
+        final Registrable previousRegistrable = mock(Registrable.class);
+        final Registrable registrable = mock(Registrable.class);
+        final Components components = Components.of(new HashMap<>(singletonMap(id, Component.of(id, "previous"))));
+        final Registry registry = Registry.of(singletonMap(id, previousRegistrable));
+        final Container container = Container.of(components, registry, mock(Instantiator.class), ScopeExpiration.never());
+
+        when(previousRegistrable.getId()).thenReturn(id);
+        when(registrable.getId()).thenReturn(id);
+        when(registrable.instantiate(any(), any())).thenReturn(Component.of(id, "replacing"));
+        container.replace("replaced", registrable);
+
+        assertThat(container.<Object, String>provide("replaced")).isEqualTo("replacing");
+        assertThat(components.<Object>getInstance(id)).isEqualTo("previous");
+    }
+
+    @Test
+    @DisplayName("close its components in reverse instantiation order")
+    void should_close_its_components_in_reverse_instantiation_order() throws Exception {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final AutoCloseable first = mock(AutoCloseable.class);
+        final AutoCloseable second = mock(AutoCloseable.class);
+        final Registrable secondRegistrable = dependingOn(firstId);
+        final Registry registry = mock(Registry.class);
+        final Components components = Components.empty()
+                .add(Component.of(firstId, first))
+                .add(Component.of(secondId, second));
+        final Container container = Container.of(components, registry, mock(Instantiator.class), ScopeExpiration.never());
+
+        when(registry.instantiationOrder()).thenReturn(asList(firstId, secondId));
+        when(registry.get(firstId)).thenReturn(mock(Registrable.class));
+        when(registry.get(secondId)).thenReturn(secondRegistrable);
+        container.close();
+
+        final InOrder inOrder = inOrder(first, second);
+        inOrder.verify(second).close();
+        inOrder.verify(first).close();
+    }
+
+    @Test
+    @DisplayName("close every component and aggregate the failures")
+    void should_close_every_component_and_aggregate_the_failures() throws Exception {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final AutoCloseable first = mock(AutoCloseable.class);
+        final AutoCloseable second = mock(AutoCloseable.class);
+        final Exception firstFailure = new Exception("first");
+        final Exception secondFailure = new Exception("second");
+        final Registrable secondRegistrable = dependingOn(firstId);
+        final Registry registry = mock(Registry.class);
+        final Components components = Components.empty()
+                .add(Component.of(firstId, first))
+                .add(Component.of(secondId, second));
+        final Container container = Container.of(components, registry, mock(Instantiator.class), ScopeExpiration.never());
+
+        when(registry.instantiationOrder()).thenReturn(asList(firstId, secondId));
+        when(registry.get(firstId)).thenReturn(mock(Registrable.class));
+        when(registry.get(secondId)).thenReturn(secondRegistrable);
+        doThrow(firstFailure).when(first).close();
+        doThrow(secondFailure).when(second).close();
+
+        assertThatExceptionOfType(ComponentCloseException.class)
+                .isThrownBy(container::close)
+                .withCause(secondFailure)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(firstFailure));
+    }
+
+    @Test
+    @DisplayName("only close its components once")
+    void should_only_close_its_components_once() throws Exception {
+        final Id id = Id.of("closed");
+        final AutoCloseable closeable = mock(AutoCloseable.class);
+        final Registry registry = mock(Registry.class);
+        final Container container = Container.of(Components.empty().add(Component.of(id, closeable)), registry, mock(Instantiator.class), ScopeExpiration.never());
+
+        when(registry.instantiationOrder()).thenReturn(singletonList(id));
+        when(registry.get(id)).thenReturn(mock(Registrable.class));
+        container.close();
+        container.close();
+
+        verify(closeable).close();
+    }
+
+    @Test
+    @DisplayName("throw when closed with a null executor or timeout")
+    void should_throw_when_closed_with_a_null_executor_or_timeout() {
+        final Container container = Container.of(Components.empty());
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> container.close(null, Duration.ZERO));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> container.close(Runnable::run, null));
+    }
+
+    private Registrable dependingOn(final Id dependency) {
+        final Registrable registrable = mock(Registrable.class);
+        when(registrable.getDependencies()).thenReturn(singletonList(dependency));
+
+        return registrable;
+    }
+
     @Test
     @DisplayName("be equal")
     void should_be_equal() {
@@ -0,0 +1,53 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Frequency sketch should")
+class FrequencySketchTest {
+
+    @Test
+    @DisplayName("throw when created with a non positive maximum size")
+    void should_throw_when_created_with_a_non_positive_maximum_size() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> FrequencySketch.of(0))
+                .withMessage("The maximum size must be positive");
+    }
+
+    @Test
+    @DisplayName("estimate the frequency of an element")
+    void should_estimate_the_frequency_of_an_element() {
+        final FrequencySketch sketch = FrequencySketch.of(64);
+
+        for (int increment = 0; increment < 5; increment++)
+            sketch.increment("tenant");
+
+        assertThat(sketch.frequency("tenant")).isEqualTo(5);
+        assertThat(sketch.frequency("unknown")).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("saturate the frequency of an element")
+    void should_saturate_the_frequency_of_an_element() {
+        final FrequencySketch sketch = FrequencySketch.of(64);
+
+        for (int increment = 0; increment < 100; increment++)
+            sketch.increment("tenant");
+
+        assertThat(sketch.frequency("tenant")).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("halve every frequency once its sample size is reached")
+    void should_halve_every_frequency_once_its_sample_size_is_reached() {
+        final FrequencySketch sketch = FrequencySketch.of(1);
+
+        for (int increment = 0; increment < 10; increment++)
+            sketch.increment("tenant");
+
+        assertThat(sketch.frequency("tenant")).isEqualTo(5);
+    }
+}
@@ -0,0 +1,159 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.instrumentation.ConstructionCosts;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.managed.ManagedRegistrable;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import testable.stories.ScienceFictionStory;
+import testable.stories.plots.IncrediblePlot;
+import testable.stories.plots.Plot;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Lazy proxy insertion should")
+class LazyProxyInsertionTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(10);
+    private static final Id PLOT = Id.of("plot");
+    private static final Id STORY = Id.of("story");
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.file = Files.createTempFile("ioc-container", ".costs");
+        Files.write(file, asList("50000000\tplot", "1000000\tstory"), StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("throw when created with a negative threshold")
+    void should_throw_when_created_with_a_negative_threshold() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> LazyProxyInsertion.of(file, Duration.ofMillis(-1), emptyList()))
+                .withMessage("The threshold must not be negative");
+    }
+
+    @Test
+    @DisplayName("proxy the slow components through their interface")
+    void should_proxy_the_slow_components_through_their_interface() {
+        final Registry registry = registry(managed(PLOT, IncrediblePlot.class), managed(STORY, ScienceFictionStory.class, PLOT));
+
+        final Registry proxied = LazyProxyInsertion.of(file, THRESHOLD, emptyList()).apply(registry);
+
+        assertThat(proxied.get(PLOT)).isEqualTo(ProxyRegistrable.of(PLOT, Plot.class, IncrediblePlot.class, emptyList()));
+        assertThat(proxied.get(STORY)).isEqualTo(registry.get(STORY));
+    }
+
+    @Test
+    @DisplayName("not proxy the components required by a root")
+    void should_not_proxy_the_components_required_by_a_root() {
+        final Registry registry = registry(managed(PLOT, IncrediblePlot.class), managed(STORY, ScienceFictionStory.class, PLOT));
+
+        final Registry proxied = LazyProxyInsertion.of(file, THRESHOLD, singletonList(STORY)).apply(registry);
+
+        assertThat(proxied.get(PLOT)).isEqualTo(registry.get(PLOT));
+    }
+
+    @Test
+    @DisplayName("not proxy the components below the threshold or without any recorded cost")
+    void should_not_proxy_the_components_below_the_threshold_or_without_any_recorded_cost() {
+        final Id unknown = Id.of("unknown");
+        final Registry registry = registry(managed(PLOT, IncrediblePlot.class), managed(unknown, IncrediblePlot.class));
+
+        final Registry proxied = LazyProxyInsertion.of(file, Duration.ofSeconds(1), emptyList()).apply(registry);
+
+        assertThat(proxied.get(PLOT)).isEqualTo(registry.get(PLOT));
+        assertThat(proxied.get(unknown)).isEqualTo(registry.get(unknown));
+    }
+
+    @Test
+    @DisplayName("not proxy a component injected as its concrete type")
+    void should_not_proxy_a_component_injected_as_its_concrete_type() {
+        final Registry registry = registry(managed(PLOT, IncrediblePlot.class), managed(STORY, ConcreteStory.class, PLOT));
+
+        final Registry proxied = LazyProxyInsertion.of(file, THRESHOLD, emptyList()).apply(registry);
+
+        assertThat(proxied.get(PLOT)).isEqualTo(registry.get(PLOT));
+    }
+
+    @Test
+    @DisplayName("not proxy a component implementing several interfaces")
+    void should_not_proxy_a_component_implementing_several_interfaces() {
+        final Registry registry = registry(managed(PLOT, ClosablePlot.class));
+
+        final Registry proxied = LazyProxyInsertion.of(file, THRESHOLD, emptyList()).apply(registry);
+
+        assertThat(proxied.get(PLOT)).isEqualTo(registry.get(PLOT));
+    }
+
+    @Test
+    @DisplayName("save the costs measured while instantiating the components")
+    void should_save_the_costs_measured_while_instantiating_the_components() {
+        final Id book = Id.of("book");
+        final Registry registry = registry(managed(PLOT, IncrediblePlot.class), managed(book, IncrediblePlot.class));
+        final LazyProxyInsertion lazyProxyInsertion = LazyProxyInsertion.of(file, THRESHOLD, emptyList());
+
+        lazyProxyInsertion.apply(registry).instantiate(new DefaultInstantiator());
+        lazyProxyInsertion.save();
+
+        final ConstructionCosts costs = ConstructionCosts.load(file);
+        assertThat(costs.find(PLOT)).contains(Duration.ofMillis(50));
+        assertThat(costs.find(book)).isPresent();
+    }
+
+    @Test
+    @DisplayName("leave the registry untouched when disabled")
+    void should_leave_the_registry_untouched_when_disabled() {
+        final Registry registry = registry(managed(PLOT, IncrediblePlot.class));
+
+        assertThat(LazyProxyInsertion.disabled().apply(registry)).isSameAs(registry);
+    }
+
+    private ManagedRegistrable managed(final Id id, final Class<?> type, final Id... dependencies) {
+        return ManagedRegistrable.of(id, type, asList(dependencies));
+    }
+
+    private Registry registry(final ManagedRegistrable... registrables) {
+        Registry registry = Registry.empty();
+        for (final ManagedRegistrable registrable : registrables)
+            registry = registry.add(registrable);
+
+        return registry;
+    }
+
+    private static class ConcreteStory {
+
+        private final IncrediblePlot plot;
+
+        ConcreteStory(final IncrediblePlot plot) {
+            this.plot = plot;
+        }
+    }
+
+    private interface Closable {
+    }
+
+    private static class ClosablePlot implements Plot, Closable {
+    }
+}
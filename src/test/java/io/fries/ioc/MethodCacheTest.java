@@ -0,0 +1,153 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Method cache should")
+class MethodCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("throw when created with a non positive maximum size or a negative expiration delay")
+    void should_throw_when_created_with_a_non_positive_maximum_size_or_a_negative_expiration_delay() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MethodCache.of(clock::get, 0, 0))
+                .withMessage("The maximum size must be positive");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MethodCache.of(clock::get, 1, -1))
+                .withMessage("The expiration delay must not be negative");
+    }
+
+    @Test
+    @DisplayName("load a value once per arguments")
+    void should_load_a_value_once_per_arguments() throws Throwable {
+        final MethodCache cache = MethodCache.of(clock::get, 10, 0);
+
+        final Object first = cache.get(new Object[]{"isbn", new int[]{1}}, this::load);
+        final Object second = cache.get(new Object[]{"isbn", new int[]{1}}, this::load);
+        final Object other = cache.get(new Object[]{"isbn", new int[]{2}}, this::load);
+
+        assertThat(first).isSameAs(second).isNotEqualTo(other);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("cache the value of a method without arguments")
+    void should_cache_the_value_of_a_method_without_arguments() throws Throwable {
+        final MethodCache cache = MethodCache.of(clock::get, 10, 0);
+
+        cache.get(null, this::load);
+        cache.get(new Object[0], this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("reload a value once its expiration delay is elapsed")
+    void should_reload_a_value_once_its_expiration_delay_is_elapsed() throws Throwable {
+        final MethodCache cache = MethodCache.of(clock::get, 10, 100);
+
+        cache.get(new Object[]{"isbn"}, this::load);
+        clock.addAndGet(99);
+        cache.get(new Object[]{"isbn"}, this::load);
+        clock.addAndGet(1);
+        cache.get(new Object[]{"isbn"}, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("keep at most its maximum size of values")
+    void should_keep_at_most_its_maximum_size_of_values() throws Throwable {
+        final MethodCache cache = MethodCache.of(clock::get, 4, 0);
+
+        for (int isbn = 0; isbn < 20; isbn++)
+            cache.get(new Object[]{isbn}, this::load);
+
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("not keep a value whose load failed")
+    void should_not_keep_a_value_whose_load_failed() throws Throwable {
+        final MethodCache cache = MethodCache.of(clock::get, 10, 0);
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> cache.get(new Object[]{"isbn"}, () -> {
+                    throw new IOException("Unavailable");
+                }));
+        cache.get(new Object[]{"isbn"}, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict a future once it completes exceptionally")
+    void should_evict_a_future_once_it_completes_exceptionally() throws Throwable {
+        final MethodCache cache = MethodCache.of(clock::get, 10, 0);
+        final CompletableFuture<String> failed = new CompletableFuture<>();
+        final CompletableFuture<String> succeeded = new CompletableFuture<>();
+
+        assertThat(cache.get(new Object[]{"isbn"}, () -> failed)).isSameAs(failed);
+        failed.completeExceptionally(new IOException("Unavailable"));
+        assertThat(cache.size()).isZero();
+
+        assertThat(cache.get(new Object[]{"isbn"}, () -> succeeded)).isSameAs(succeeded);
+        succeeded.complete("Title");
+        assertThat(cache.get(new Object[]{"isbn"}, this::load)).isSameAs(succeeded);
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("coalesce concurrent loads of the same arguments")
+    void should_coalesce_concurrent_loads_of_the_same_arguments() throws Exception {
+        final MethodCache cache = MethodCache.of(clock::get, 10, 0);
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch loadReleased = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final Future<Object> first = executor.submit(() -> get(cache, () -> {
+                loadStarted.countDown();
+                loadReleased.await();
+                return load();
+            }));
+            loadStarted.await();
+
+            final Future<?>[] others = new Future<?>[7];
+            for (int index = 0; index < others.length; index++)
+                others[index] = executor.submit(() -> get(cache, this::load));
+            loadReleased.countDown();
+
+            for (final Future<?> other : others)
+                assertThat(other.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Object get(final MethodCache cache, final MethodCache.Loader loader) throws Exception {
+        try {
+            return cache.get(new Object[]{"isbn"}, loader);
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object load() {
+        return "Title " + loads.incrementAndGet();
+    }
+}
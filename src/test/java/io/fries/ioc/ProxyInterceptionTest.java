@@ -0,0 +1,58 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.managed.ManagedRegistrable;
+import io.fries.ioc.registry.proxy.Interceptor;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import testable.library.CountingLibrary;
+import testable.library.Library;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Proxy interception should")
+class ProxyInterceptionTest {
+
+    @Test
+    @DisplayName("throw when created from null interceptors or executors")
+    void should_throw_when_created_from_null_interceptors_or_executors() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ProxyInterception.of(null, AsyncExecutors.none()));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ProxyInterception.of(emptyList(), null));
+    }
+
+    @Test
+    @DisplayName("leave the components which are not proxies untouched")
+    void should_leave_the_components_which_are_not_proxies_untouched() {
+        final Registrable registrable = ManagedRegistrable.of(Id.of("library"), CountingLibrary.class, emptyList());
+
+        assertThat(ProxyInterception.none().intercept(registrable)).isSameAs(registrable);
+    }
+
+    @Test
+    @DisplayName("apply the registered interceptors before the annotated ones")
+    void should_apply_the_registered_interceptors_before_the_annotated_ones() {
+        final ProxyInterception interception = ProxyInterception.of(
+                singletonList(Interceptor.after((method, result) -> method.getName().equals("findTitle") ? "Intercepted " + result : result)),
+                AsyncExecutors.none()
+        );
+        final Registrable registrable = ProxyRegistrable.of(Id.of("library"), Library.class, CountingLibrary.class, emptyList());
+
+        final Library library = interception.intercept(registrable)
+                .instantiate(new DefaultInstantiator(), Components.empty())
+                .getInstance();
+        library.findTitle("978-0553293357");
+
+        assertThat(library.findTitle("978-0553293357")).isEqualTo("Intercepted Title of 978-0553293357");
+        assertThat(library.countLookups()).isEqualTo(1);
+        interception.shutdown();
+    }
+}
@@ -1,7 +1,11 @@
 package io.fries.ioc;
 
+import io.fries.ioc.components.Component;
 import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.components.Initializable;
 import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.instrumentation.InstantiationListener;
 import io.fries.ioc.registry.Registrable;
 import io.fries.ioc.registry.RegistrableBuilder;
 import io.fries.ioc.registry.Registry;
@@ -12,7 +16,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.Executor;
+
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,15 +53,59 @@ class RegistrationContainerTest {
         verify(registry).add(registrable);
     }
 
+    @Test
+    @DisplayName("listen to the instantiation of its components")
+    void should_listen_to_the_instantiation_of_its_components() {
+        final InstantiationListener instantiationListener = mock(InstantiationListener.class);
+
+        registrationContainer.listenInstantiations(instantiationListener);
+
+        verify(registry).listenedBy(instantiationListener);
+    }
+
     @Test
     @DisplayName("create a container containing the instanced component of each registrable")
     void should_create_a_container_containing_the_instanced_component_of_each_registrable() {
         final Components components = mock(Components.class);
 
         when(registry.instantiate(instantiator)).thenReturn(components);
+        when(registry.getInstantiationListener()).thenReturn(InstantiationListener.none());
         final Container container = registrationContainer.instantiate();
 
         verify(registry).instantiate(instantiator);
         assertThat(container).isEqualTo(Container.of(components));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("throw when initializing on a null executor")
+    void should_throw_when_initializing_on_a_null_executor() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> registrationContainer.initializeOn(null));
+    }
+
+    @Test
+    @DisplayName("initialize the instanced components on the given executor")
+    void should_initialize_the_instanced_components_on_the_given_executor() throws Exception {
+        final Id id = Id.of("initializable");
+        final Initializable initializable = mock(Initializable.class);
+        final Components components = Components.empty().add(Component.of(id, initializable));
+        final Executor executor = spy(new DirectExecutor());
+
+        when(registry.instantiate(instantiator)).thenReturn(components);
+        when(registry.getInstantiationListener()).thenReturn(InstantiationListener.none());
+        when(registry.instantiationOrder()).thenReturn(singletonList(id));
+        when(registry.get(id)).thenReturn(mock(Registrable.class));
+        registrationContainer.initializeOn(executor).instantiate();
+
+        verify(executor).execute(any());
+        verify(initializable).initialize();
+    }
+
+    private static class DirectExecutor implements Executor {
+
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    }
+}
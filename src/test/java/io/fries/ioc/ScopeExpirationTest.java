@@ -0,0 +1,77 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Scope expiration should")
+class ScopeExpirationTest {
+
+    @Test
+    @DisplayName("throw when providing an idle timeout that is not positive")
+    void should_throw_when_providing_an_idle_timeout_that_is_not_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ScopeExpiration.never().afterIdle(Duration.ZERO))
+                .withMessage("The idle timeout of a scope must be positive");
+    }
+
+    @Test
+    @DisplayName("throw when providing a time to live that is not positive")
+    void should_throw_when_providing_a_time_to_live_that_is_not_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ScopeExpiration.never().afterCreation(Duration.ofSeconds(-1)))
+                .withMessage("The time to live of a scope must be positive");
+    }
+
+    @Test
+    @DisplayName("throw when providing a tick that is not positive")
+    void should_throw_when_providing_a_tick_that_is_not_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ScopeExpiration.never().tickingEvery(Duration.ZERO))
+                .withMessage("The expiration tick must be positive");
+    }
+
+    @Test
+    @DisplayName("compute the earliest deadline of a scope")
+    void should_compute_the_earliest_deadline_of_a_scope() {
+        final ScopeExpiration expiration = ScopeExpiration.never()
+                .afterIdle(Duration.ofNanos(10))
+                .afterCreation(Duration.ofNanos(25));
+
+        assertThat(expiration.deadlineNanos(0, 5)).isEqualTo(15);
+        assertThat(expiration.deadlineNanos(0, 20)).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("never expire by default")
+    void should_never_expire_by_default() {
+        final ScopeExpiration expiration = ScopeExpiration.never();
+
+        assertThat(expiration.expires()).isFalse();
+        assertThat(expiration.deadlineNanos(0, 0)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final ScopeExpiration firstExpiration = ScopeExpiration.never().afterIdle(Duration.ofSeconds(1));
+        final ScopeExpiration secondExpiration = ScopeExpiration.never().afterIdle(Duration.ofSeconds(1));
+
+        assertThat(firstExpiration).isEqualTo(secondExpiration);
+        assertThat(firstExpiration.hashCode()).isEqualTo(secondExpiration.hashCode());
+    }
+
+    @Test
+    @DisplayName("be formatted as a string")
+    void should_be_formatted_as_a_string() {
+        final ScopeExpiration expiration = ScopeExpiration.never().afterIdle(Duration.ofMinutes(30));
+
+        final String result = expiration.toString();
+
+        assertThat(result).isEqualTo("ScopeExpiration{idleTimeout=PT30M, timeToLive=PT0S, tick=PT1S}");
+    }
+}
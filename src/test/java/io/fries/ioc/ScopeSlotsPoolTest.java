@@ -0,0 +1,54 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Scope slots pool should")
+class ScopeSlotsPoolTest {
+
+    @Test
+    @DisplayName("throw when created with a capacity that is not positive")
+    void should_throw_when_created_with_a_capacity_that_is_not_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ScopeSlotsPool.of(0))
+                .withMessage("The pool capacity must be positive");
+    }
+
+    @Test
+    @DisplayName("create new slots when empty")
+    void should_create_new_slots_when_empty() {
+        final ScopeSlotsPool pool = ScopeSlotsPool.of(2);
+
+        final ScopeSlots firstSlots = pool.acquire();
+        final ScopeSlots secondSlots = pool.acquire();
+
+        assertThat(firstSlots).isNotNull().isNotSameAs(secondSlots);
+    }
+
+    @Test
+    @DisplayName("recycle released slots")
+    void should_recycle_released_slots() {
+        final ScopeSlotsPool pool = ScopeSlotsPool.of(2);
+        final ScopeSlots slots = pool.acquire();
+
+        pool.release(slots);
+        final ScopeSlots result = pool.acquire();
+
+        assertThat(result).isSameAs(slots);
+        assertThat(pool.countPooled()).isZero();
+    }
+
+    @Test
+    @DisplayName("drop released slots when full")
+    void should_drop_released_slots_when_full() {
+        final ScopeSlotsPool pool = ScopeSlotsPool.of(1);
+
+        pool.release(new ScopeSlots());
+        pool.release(new ScopeSlots());
+
+        assertThat(pool.countPooled()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,77 @@
+package io.fries.ioc;
+
+import io.fries.ioc.registry.scoped.ScopedInstance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.fries.ioc.ScopeSlots.INITIAL_CAPACITY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Scope slots should")
+class ScopeSlotsTest {
+
+    @Test
+    @DisplayName("not find an instance that was never put")
+    void should_not_find_an_instance_that_was_never_put() {
+        final ScopeSlots slots = new ScopeSlots();
+
+        final Object result = slots.get(scopedInstance(1));
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("find an instance by its scoped instance")
+    void should_find_an_instance_by_its_scoped_instance() {
+        final ScopeSlots slots = new ScopeSlots();
+        final ScopedInstance firstKey = scopedInstance(1);
+        final ScopedInstance secondKey = scopedInstance(1);
+        final Object firstInstance = mock(Object.class);
+        final Object secondInstance = mock(Object.class);
+
+        slots.put(firstKey, firstInstance);
+        slots.put(secondKey, secondInstance);
+
+        assertThat(slots.get(firstKey)).isEqualTo(firstInstance);
+        assertThat(slots.get(secondKey)).isEqualTo(secondInstance);
+    }
+
+    @Test
+    @DisplayName("keep the creation order of its instances while growing")
+    void should_keep_the_creation_order_of_its_instances_while_growing() {
+        final ScopeSlots slots = new ScopeSlots();
+        final ScopedInstance[] keys = new ScopedInstance[INITIAL_CAPACITY * 2];
+
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = scopedInstance(index * 7);
+            slots.put(keys[index], index);
+        }
+
+        assertThat(slots.size()).isEqualTo(keys.length);
+        for (int index = 0; index < keys.length; index++) {
+            assertThat(slots.get(keys[index])).isEqualTo(index);
+            assertThat(slots.createdAt(index)).isEqualTo(index);
+        }
+    }
+
+    @Test
+    @DisplayName("forget its instances when cleared")
+    void should_forget_its_instances_when_cleared() {
+        final ScopeSlots slots = new ScopeSlots();
+        final ScopedInstance key = scopedInstance(3);
+
+        slots.put(key, mock(Object.class));
+        slots.clear();
+
+        assertThat(slots.size()).isZero();
+        assertThat(slots.get(key)).isNull();
+    }
+
+    private ScopedInstance scopedInstance(final int hash) {
+        final ScopedInstance scopedInstance = mock(ScopedInstance.class);
+        when(scopedInstance.slotHash()).thenReturn(hash);
+        return scopedInstance;
+    }
+}
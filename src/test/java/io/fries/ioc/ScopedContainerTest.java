@@ -0,0 +1,173 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.ComponentCloseException;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.managed.ManagedRegistrable;
+import io.fries.ioc.registry.scoped.ScopedRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Scoped container should")
+class ScopedContainerTest {
+
+    private static final List<String> CLOSED = new ArrayList<>();
+
+    @Test
+    @DisplayName("throw when opened without components")
+    void should_throw_when_opened_without_components() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ScopedContainer.open(null, ScopeSlotsPool.of(1)));
+    }
+
+    @Test
+    @DisplayName("provide the same scoped instance for the whole scope")
+    void should_provide_the_same_scoped_instance_for_the_whole_scope() {
+        final Components components = components();
+
+        final Object instance;
+        final Object otherScopeInstance;
+        try (final ScopedContainer scope = ScopedContainer.open(components, ScopeSlotsPool.of(1))) {
+            instance = scope.provide("unit");
+            assertThat(scope.<Object, String>provide("unit")).isSameAs(instance);
+        }
+        try (final ScopedContainer scope = ScopedContainer.open(components, ScopeSlotsPool.of(1))) {
+            otherScopeInstance = scope.provide("unit");
+        }
+
+        assertThat(otherScopeInstance).isNotSameAs(instance);
+    }
+
+    @Test
+    @DisplayName("delegate singletons to the parent components")
+    void should_delegate_singletons_to_the_parent_components() {
+        final Components components = components();
+
+        try (final ScopedContainer scope = ScopedContainer.open(components, ScopeSlotsPool.of(1))) {
+            final UnitOfWork unitOfWork = scope.provide("unit");
+
+            assertThat(unitOfWork.resource).isSameAs(components.getInstance(Id.of("resource")));
+        }
+    }
+
+    @Test
+    @DisplayName("close its scoped instances in reverse creation order")
+    void should_close_its_scoped_instances_in_reverse_creation_order() {
+        final Components components = components();
+        CLOSED.clear();
+
+        try (final ScopedContainer scope = ScopedContainer.open(components, ScopeSlotsPool.of(1))) {
+            scope.provide("outer");
+        }
+
+        assertThat(CLOSED).containsExactly("outer", "unit");
+    }
+
+    @Test
+    @DisplayName("aggregate the failures of its closed instances")
+    void should_aggregate_the_failures_of_its_closed_instances() {
+        final Components components = components();
+        final ScopedContainer scope = ScopedContainer.open(components, ScopeSlotsPool.of(1));
+
+        scope.provide("failing.first");
+        scope.provide("failing.second");
+
+        assertThatExceptionOfType(ComponentCloseException.class)
+                .isThrownBy(scope::close)
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("return its slots to the pool when closed")
+    void should_return_its_slots_to_the_pool_when_closed() {
+        final ScopeSlotsPool pool = ScopeSlotsPool.of(1);
+        final ScopedContainer scope = ScopedContainer.open(components(), pool);
+
+        scope.close();
+        scope.close();
+
+        assertThat(pool.countPooled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("throw when providing from a closed scope")
+    void should_throw_when_providing_from_a_closed_scope() {
+        final ScopedContainer scope = ScopedContainer.open(components(), ScopeSlotsPool.of(1));
+
+        scope.close();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> scope.provide("unit"))
+                .withMessage("This scope has already been closed");
+    }
+
+    @Test
+    @DisplayName("throw when its scoped components depend on each other")
+    void should_throw_when_its_scoped_components_depend_on_each_other() {
+        final Components components = Registry.empty()
+                .add(ScopedRegistrable.of(Id.of("first"), Object.class, singletonList(Id.of("second"))))
+                .add(ScopedRegistrable.of(Id.of("second"), Object.class, singletonList(Id.of("first"))))
+                .instantiate(new DefaultInstantiator());
+
+        try (final ScopedContainer scope = ScopedContainer.open(components, ScopeSlotsPool.of(1))) {
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> scope.provide("first"))
+                    .withMessage("Circular dependency detected on the scoped component: " + Id.of("first"));
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> scope.provide("second"))
+                    .withMessage("Circular dependency detected on the scoped component: " + Id.of("second"));
+        }
+    }
+
+    private Components components() {
+        final Instantiator instantiator = new DefaultInstantiator();
+        return Registry.empty()
+                .add(ManagedRegistrable.of(Id.of("resource"), Object.class, emptyList()))
+                .add(ScopedRegistrable.of(Id.of("unit"), UnitOfWork.class, singletonList(Id.of("resource"))))
+                .add(ScopedRegistrable.of(Id.of("outer"), OuterUnitOfWork.class, singletonList(Id.of("unit"))))
+                .add(ScopedRegistrable.of(Id.of("failing.first"), FailingUnitOfWork.class, emptyList()))
+                .add(ScopedRegistrable.of(Id.of("failing.second"), FailingUnitOfWork.class, emptyList()))
+                .instantiate(instantiator);
+    }
+
+    static class UnitOfWork implements AutoCloseable {
+        private final Object resource;
+
+        UnitOfWork(final Object resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public void close() {
+            CLOSED.add("unit");
+        }
+    }
+
+    static class OuterUnitOfWork implements AutoCloseable {
+        OuterUnitOfWork(final UnitOfWork unitOfWork) {
+        }
+
+        @Override
+        public void close() {
+            CLOSED.add("outer");
+        }
+    }
+
+    static class FailingUnitOfWork implements AutoCloseable {
+        @Override
+        public void close() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.scoped.ScopedRegistrable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Session scopes should")
+class SessionScopesTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private AtomicLong clock;
+    private Components components;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new AtomicLong();
+        this.components = Registry.empty()
+                .add(ScopedRegistrable.of(Id.of("session"), Object.class, emptyList()))
+                .instantiate(new DefaultInstantiator());
+    }
+
+    @Test
+    @DisplayName("provide the same scope for the same key")
+    void should_provide_the_same_scope_for_the_same_key() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never());
+
+        final ScopedContainer firstScope = sessionScopes.get("tenant");
+        final ScopedContainer secondScope = sessionScopes.get("tenant");
+        final ScopedContainer otherScope = sessionScopes.get("other");
+
+        assertThat(firstScope).isSameAs(secondScope).isNotSameAs(otherScope);
+        assertThat(sessionScopes.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("expire scopes that stay idle for too long")
+    void should_expire_scopes_that_stay_idle_for_too_long() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never().afterIdle(Duration.ofSeconds(10)));
+        final ScopedContainer idleScope = sessionScopes.get("idle");
+        final ScopedContainer activeScope = sessionScopes.get("active");
+
+        clock.set(8 * SECOND);
+        sessionScopes.get("active");
+        clock.set(12 * SECOND);
+        final int expired = sessionScopes.expire();
+
+        assertThat(expired).isEqualTo(1);
+        assertThat(idleScope.isClosed()).isTrue();
+        assertThat(activeScope.isClosed()).isFalse();
+        assertThat(sessionScopes.get("idle")).isNotSameAs(idleScope);
+    }
+
+    @Test
+    @DisplayName("expire scopes after their time to live even when active")
+    void should_expire_scopes_after_their_time_to_live_even_when_active() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never().afterIdle(Duration.ofSeconds(10)).afterCreation(Duration.ofSeconds(15)));
+        final ScopedContainer scope = sessionScopes.get("tenant");
+
+        clock.set(8 * SECOND);
+        sessionScopes.get("tenant");
+        clock.set(16 * SECOND);
+        final ScopedContainer result = sessionScopes.get("tenant");
+
+        assertThat(scope.isClosed()).isTrue();
+        assertThat(result).isNotSameAs(scope);
+        assertThat(result.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("never expire scopes without expiration")
+    void should_never_expire_scopes_without_expiration() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never());
+        final ScopedContainer scope = sessionScopes.get("tenant");
+
+        clock.set(Duration.ofDays(365).toNanos());
+        final int expired = sessionScopes.expire();
+
+        assertThat(expired).isZero();
+        assertThat(scope.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("close a scope on demand")
+    void should_close_a_scope_on_demand() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never().afterIdle(Duration.ofSeconds(10)));
+        final ScopedContainer scope = sessionScopes.get("tenant");
+
+        sessionScopes.close("tenant");
+
+        assertThat(scope.isClosed()).isTrue();
+        assertThat(sessionScopes.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("close all of its opened scopes")
+    void should_close_all_of_its_opened_scopes() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never().afterIdle(Duration.ofSeconds(10)));
+        final ScopedContainer firstScope = sessionScopes.get("first tenant");
+        final ScopedContainer secondScope = sessionScopes.get("second tenant");
+
+        sessionScopes.closeAll();
+
+        assertThat(firstScope.isClosed()).isTrue();
+        assertThat(secondScope.isClosed()).isTrue();
+        assertThat(sessionScopes.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("open a new scope when the previous one was closed by its user")
+    void should_open_a_new_scope_when_the_previous_one_was_closed_by_its_user() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never());
+        final ScopedContainer scope = sessionScopes.get("tenant");
+
+        scope.close();
+        final ScopedContainer result = sessionScopes.get("tenant");
+
+        assertThat(result).isNotSameAs(scope);
+        assertThat(result.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("expire a large number of scopes")
+    void should_expire_a_large_number_of_scopes() {
+        final SessionScopes sessionScopes = sessionScopes(ScopeExpiration.never().afterIdle(Duration.ofSeconds(30)));
+
+        for (int session = 0; session < 200_000; session++) {
+            clock.set(session % 60 * SECOND);
+            sessionScopes.get(session);
+        }
+        clock.set(120 * SECOND);
+        sessionScopes.expire();
+
+        assertThat(sessionScopes.size()).isZero();
+    }
+
+    private SessionScopes sessionScopes(final ScopeExpiration expiration) {
+        return SessionScopes.of(() -> components, ScopeSlotsPool.of(1), expiration, clock::get);
+    }
+}
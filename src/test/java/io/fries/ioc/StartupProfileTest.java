@@ -0,0 +1,170 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Startup profile should")
+class StartupProfileTest {
+
+    private static final Duration WINDOW = Duration.ofHours(1);
+
+    private Path file;
+    private AtomicLong clock;
+    private Registry registry;
+    private Components components;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.file = Files.createTempFile("ioc-container", ".profile");
+        Files.delete(file);
+        this.clock = new AtomicLong();
+        this.registry = mock(Registry.class);
+        this.components = Components.empty();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("throw when created with a null file or window")
+    void should_throw_when_created_with_a_null_file_or_window() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> StartupProfile.of(null, WINDOW));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> StartupProfile.of(file, null));
+    }
+
+    @Test
+    @DisplayName("throw when created with a negative window")
+    void should_throw_when_created_with_a_negative_window() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> StartupProfile.of(file, Duration.ofSeconds(-1)))
+                .withMessage("The recording window must not be negative");
+    }
+
+    @Test
+    @DisplayName("save the first accesses in order once the window is over")
+    void should_save_the_first_accesses_in_order_once_the_window_is_over() {
+        final StartupProfile profile = StartupProfile.of(file, WINDOW, clock::get);
+        register("first", new Object(), false);
+        register("second", new Object(), false);
+
+        profile.start(components, registry);
+        profile.accessed(Id.of("second"));
+        profile.accessed(Id.of("first"));
+        profile.accessed(Id.of("second"));
+        clock.addAndGet(WINDOW.toNanos());
+        profile.accessed(Id.of("late"));
+
+        assertThat(StartupProfile.of(file, WINDOW).load()).containsExactly(Id.of("second"), Id.of("first"));
+    }
+
+    @Test
+    @DisplayName("only save its profile once")
+    void should_only_save_its_profile_once() throws IOException {
+        final StartupProfile profile = StartupProfile.of(file, WINDOW, clock::get);
+        register("first", new Object(), false);
+
+        profile.start(components, registry);
+        profile.accessed(Id.of("first"));
+        profile.save();
+        Files.delete(file);
+        profile.save();
+
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("load an empty profile when its file does not exist")
+    void should_load_an_empty_profile_when_its_file_does_not_exist() {
+        assertThat(StartupProfile.of(file, WINDOW).load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("prefetch the lazy components of the previous profile")
+    void should_prefetch_the_lazy_components_of_the_previous_profile() throws IOException {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Component proxy = ProxyRegistrable.of(Id.of("proxy"), Runnable.class, Thread.class, emptyList()).instantiate(instantiator, components);
+        register("proxy", proxy.getRawInstance(), true);
+        register("eager", new Object(), false);
+        Files.write(file, asList("eager", "unknown", "proxy"), StandardCharsets.UTF_8);
+
+        when(instantiator.createInstance(eq(Thread.class), any())).thenReturn(new Thread());
+        StartupProfile.of(file, WINDOW, clock::get).prefetch(components, registry);
+
+        verify(instantiator, timeout(5_000)).createInstance(eq(Thread.class), any());
+    }
+
+    @Test
+    @DisplayName("record the first invocation of a proxy rather than its prefetch")
+    void should_record_the_first_invocation_of_a_proxy_rather_than_its_prefetch() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Component invoked = ProxyRegistrable.of(Id.of("invoked"), Runnable.class, Thread.class, emptyList()).instantiate(instantiator, components);
+        final Component prefetched = ProxyRegistrable.of(Id.of("prefetched"), Runnable.class, Thread.class, emptyList()).instantiate(instantiator, components);
+        register("invoked", invoked.getRawInstance(), true);
+        register("prefetched", prefetched.getRawInstance(), true);
+        final StartupProfile profile = StartupProfile.of(file, WINDOW, clock::get);
+
+        when(instantiator.createInstance(eq(Thread.class), any())).thenReturn(new Thread());
+        profile.start(components, registry);
+        ProxyRegistrable.materialize(prefetched.getRawInstance());
+        invoked.<Runnable>getInstance().run();
+        profile.save();
+
+        assertThat(profile.load()).containsExactly(Id.of("invoked"));
+    }
+
+    @Test
+    @DisplayName("neither record nor save anything when disabled")
+    void should_neither_record_nor_save_anything_when_disabled() {
+        final StartupProfile profile = StartupProfile.disabled();
+
+        profile.start(components, registry);
+        profile.prefetch(components, registry);
+        profile.accessed(Id.of("first"));
+        profile.save();
+
+        verifyZeroInteractions(registry);
+        assertThat(profile.load()).isEmpty();
+    }
+
+    private void register(final String id, final Object instance, final boolean lazy) {
+        final Id componentId = Id.of(id);
+        final Registrable registrable = mock(Registrable.class);
+        final List<Id> instantiationOrder = new ArrayList<>(registry.instantiationOrder());
+        instantiationOrder.add(componentId);
+
+        when(registrable.isLazy()).thenReturn(lazy);
+        when(registry.get(componentId)).thenReturn(registrable);
+        when(registry.instantiationOrder()).thenReturn(instantiationOrder);
+        components.add(Component.of(componentId, instance));
+    }
+}
@@ -0,0 +1,166 @@
+package io.fries.ioc;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.supplied.SuppliedRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Tenant containers should")
+class TenantContainersTest {
+
+    private final Map<String, AtomicInteger> builds = new ConcurrentHashMap<>();
+    private final Set<String> closed = ConcurrentHashMap.newKeySet();
+
+    @Test
+    @DisplayName("throw when created with a null container factory")
+    void should_throw_when_created_with_a_null_container_factory() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> TenantContainers.of(1, null));
+    }
+
+    @Test
+    @DisplayName("throw when created with a non positive maximum size")
+    void should_throw_when_created_with_a_non_positive_maximum_size() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> TenantContainers.of(0, this::container))
+                .withMessage("The maximum size must be positive");
+    }
+
+    @Test
+    @DisplayName("build one container per tenant")
+    void should_build_one_container_per_tenant() {
+        final TenantContainers<String> tenantContainers = TenantContainers.of(10, this::container);
+
+        final Container first = tenantContainers.get("tenant");
+        final Container second = tenantContainers.get("tenant");
+
+        assertThat(first).isSameAs(second);
+        assertThat(builds.get("tenant").get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("coalesce concurrent misses on the same tenant into a single build")
+    void should_coalesce_concurrent_misses_on_the_same_tenant_into_a_single_build() throws Exception {
+        final CountDownLatch buildStarted = new CountDownLatch(1);
+        final CountDownLatch buildReleased = new CountDownLatch(1);
+        final TenantContainers<String> tenantContainers = TenantContainers.of(10, tenant -> {
+            buildStarted.countDown();
+            await(buildReleased);
+            return container(tenant);
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final List<Future<Container>> futures = new ArrayList<>();
+            for (int caller = 0; caller < 8; caller++)
+                futures.add(executor.submit(() -> tenantContainers.get("tenant")));
+
+            buildStarted.await();
+            buildReleased.countDown();
+
+            final Set<Container> containers = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final Future<Container> future : futures)
+                containers.add(future.get());
+
+            assertThat(containers).hasSize(1);
+            assertThat(builds.get("tenant").get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("not keep a container whose build failed")
+    void should_not_keep_a_container_whose_build_failed() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final TenantContainers<String> tenantContainers = TenantContainers.of(10, tenant -> {
+            if (attempts.getAndIncrement() == 0)
+                throw new IllegalStateException("Build failure");
+            return container(tenant);
+        });
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> tenantContainers.get("tenant"))
+                .withMessage("Build failure");
+        assertThat(tenantContainers.get("tenant")).isNotNull();
+        assertThat(tenantContainers.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("keep at most its maximum size of containers")
+    void should_keep_at_most_its_maximum_size_of_containers() {
+        final TenantContainers<String> tenantContainers = TenantContainers.of(10, this::container);
+
+        for (int tenant = 0; tenant < 100; tenant++)
+            tenantContainers.get("tenant-" + tenant);
+
+        assertThat(tenantContainers.size()).isEqualTo(10);
+        assertThat(closed).hasSize(90);
+    }
+
+    @Test
+    @DisplayName("close the components of an evicted container")
+    void should_close_the_components_of_an_evicted_container() {
+        final TenantContainers<String> tenantContainers = TenantContainers.of(1, this::container);
+
+        tenantContainers.get("first");
+        tenantContainers.get("second");
+
+        assertThat(closed).containsExactly("first");
+        assertThat(tenantContainers.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("keep frequently used containers over containers used once")
+    void should_keep_frequently_used_containers_over_containers_used_once() {
+        final TenantContainers<String> tenantContainers = TenantContainers.of(10, this::container);
+
+        for (int tenant = 0; tenant < 1_000; tenant++) {
+            if (tenant % 20 == 0)
+                tenantContainers.get("frequent");
+            tenantContainers.get("once-" + tenant);
+        }
+
+        assertThat(builds.get("frequent").get()).isEqualTo(1);
+        assertThat(closed).doesNotContain("frequent");
+    }
+
+    @Test
+    @DisplayName("close and forget an invalidated container")
+    void should_close_and_forget_an_invalidated_container() {
+        final TenantContainers<String> tenantContainers = TenantContainers.of(10, this::container);
+
+        final Container invalidated = tenantContainers.get("tenant");
+        tenantContainers.invalidate("tenant");
+        final Container rebuilt = tenantContainers.get("tenant");
+
+        assertThat(closed).containsExactly("tenant");
+        assertThat(rebuilt).isNotSameAs(invalidated);
+        assertThat(builds.get("tenant").get()).isEqualTo(2);
+    }
+
+    private Container container(final String tenant) {
+        builds.computeIfAbsent(tenant, key -> new AtomicInteger()).incrementAndGet();
+
+        final AutoCloseable resource = () -> closed.add(tenant);
+        return Container.empty()
+                .register(SuppliedRegistrable.of(Id.of("resource"), () -> resource))
+                .instantiate();
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Timer wheel should")
+class TimerWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    @DisplayName("throw when the number of buckets is not a power of two")
+    void should_throw_when_the_number_of_buckets_is_not_a_power_of_two() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> TimerWheel.of(3, TICK, 0))
+                .withMessage("The number of buckets must be a power of two");
+    }
+
+    @Test
+    @DisplayName("throw when the tick duration is not positive")
+    void should_throw_when_the_tick_duration_is_not_positive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> TimerWheel.of(4, 0, 0))
+                .withMessage("The tick duration must be positive");
+    }
+
+    @Test
+    @DisplayName("expire timeouts once their deadline is reached")
+    void should_expire_timeouts_once_their_deadline_is_reached() {
+        final TimerWheel<TimerWheel.Timeout> timerWheel = TimerWheel.of(4, TICK, 0);
+        final TimerWheel.Timeout early = new TimerWheel.Timeout();
+        final TimerWheel.Timeout late = new TimerWheel.Timeout();
+
+        timerWheel.schedule(early, 15);
+        timerWheel.schedule(late, 35);
+        final List<TimerWheel.Timeout> beforeDeadlines = timerWheel.advance(19);
+        final List<TimerWheel.Timeout> afterFirstDeadline = timerWheel.advance(20);
+        final List<TimerWheel.Timeout> afterSecondDeadline = timerWheel.advance(40);
+
+        assertThat(beforeDeadlines).isEmpty();
+        assertThat(afterFirstDeadline).containsExactly(early);
+        assertThat(afterSecondDeadline).containsExactly(late);
+        assertThat(timerWheel.size()).isZero();
+        assertThat(early.isScheduled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("keep timeouts scheduled beyond a full rotation")
+    void should_keep_timeouts_scheduled_beyond_a_full_rotation() {
+        final TimerWheel<TimerWheel.Timeout> timerWheel = TimerWheel.of(4, TICK, 0);
+        final TimerWheel.Timeout timeout = new TimerWheel.Timeout();
+
+        timerWheel.schedule(timeout, 100);
+        final List<TimerWheel.Timeout> afterOneRotation = timerWheel.advance(60);
+        final List<TimerWheel.Timeout> afterDeadline = timerWheel.advance(100);
+
+        assertThat(afterOneRotation).isEmpty();
+        assertThat(afterDeadline).containsExactly(timeout);
+    }
+
+    @Test
+    @DisplayName("expire every due timeout when advancing by more than a full rotation")
+    void should_expire_every_due_timeout_when_advancing_by_more_than_a_full_rotation() {
+        final TimerWheel<TimerWheel.Timeout> timerWheel = TimerWheel.of(4, TICK, 0);
+        final TimerWheel.Timeout first = new TimerWheel.Timeout();
+        final TimerWheel.Timeout second = new TimerWheel.Timeout();
+        final TimerWheel.Timeout third = new TimerWheel.Timeout();
+
+        timerWheel.schedule(first, 10);
+        timerWheel.schedule(second, 70);
+        timerWheel.schedule(third, 1_000);
+        final List<TimerWheel.Timeout> result = timerWheel.advance(500);
+
+        assertThat(result).containsExactlyInAnyOrder(first, second);
+        assertThat(timerWheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("not expire cancelled or rescheduled timeouts")
+    void should_not_expire_cancelled_or_rescheduled_timeouts() {
+        final TimerWheel<TimerWheel.Timeout> timerWheel = TimerWheel.of(4, TICK, 0);
+        final TimerWheel.Timeout cancelled = new TimerWheel.Timeout();
+        final TimerWheel.Timeout rescheduled = new TimerWheel.Timeout();
+
+        timerWheel.schedule(cancelled, 10);
+        timerWheel.schedule(rescheduled, 10);
+        timerWheel.cancel(cancelled);
+        timerWheel.schedule(rescheduled, 30);
+        final List<TimerWheel.Timeout> result = timerWheel.advance(20);
+
+        assertThat(result).isEmpty();
+        assertThat(timerWheel.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,89 @@
+package io.fries.ioc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("TinyLFU policy should")
+class TinyLfuPolicyTest {
+
+    private final Set<String> present = ConcurrentHashMap.newKeySet();
+
+    @Test
+    @DisplayName("throw when created with a non positive maximum size")
+    void should_throw_when_created_with_a_non_positive_maximum_size() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> TinyLfuPolicy.of(0))
+                .withMessage("The maximum size must be positive");
+    }
+
+    @Test
+    @DisplayName("evict the keys exceeding its maximum size")
+    void should_evict_the_keys_exceeding_its_maximum_size() {
+        final TinyLfuPolicy<String> policy = TinyLfuPolicy.of(2);
+
+        admit(policy, "first");
+        admit(policy, "second");
+        final List<String> evicted = admit(policy, "third");
+
+        assertThat(evicted).hasSize(1);
+        assertThat(present).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("keep the frequently accessed keys over the keys accessed once")
+    void should_keep_the_frequently_accessed_keys_over_the_keys_accessed_once() {
+        final TinyLfuPolicy<String> policy = TinyLfuPolicy.of(2);
+
+        admit(policy, "frequent");
+        for (int access = 0; access < 5; access++)
+            policy.recordAccess("frequent");
+        for (int key = 0; key < 10; key++)
+            admit(policy, "once-" + key);
+
+        assertThat(present).contains("frequent");
+    }
+
+    @Test
+    @DisplayName("not admit a key which is no longer present")
+    void should_not_admit_a_key_which_is_no_longer_present() {
+        final TinyLfuPolicy<String> policy = TinyLfuPolicy.of(1);
+
+        final List<String> evicted = policy.admit("removed", () -> false, this::evict);
+        admit(policy, "kept");
+
+        assertThat(evicted).isEmpty();
+        assertThat(present).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("forget a removed key")
+    void should_forget_a_removed_key() {
+        final TinyLfuPolicy<String> policy = TinyLfuPolicy.of(2);
+
+        admit(policy, "first");
+        admit(policy, "second");
+        policy.remove("first");
+        present.remove("first");
+        final List<String> evicted = admit(policy, "third");
+
+        assertThat(evicted).isEmpty();
+        assertThat(present).containsOnly("second", "third");
+    }
+
+    private List<String> admit(final TinyLfuPolicy<String> policy, final String key) {
+        present.add(key);
+        return policy.admit(key, () -> present.contains(key), this::evict);
+    }
+
+    private String evict(final String key) {
+        present.remove(key);
+        return key;
+    }
+}
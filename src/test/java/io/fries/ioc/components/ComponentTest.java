@@ -10,6 +10,19 @@ import static org.mockito.Mockito.when;
 @DisplayName("Component should")
 class ComponentTest {
 
+    @Test
+    @DisplayName("resolve a contextual instance")
+    void should_resolve_a_contextual_instance() {
+        final ContextualInstance contextualInstance = mock(ContextualInstance.class);
+        final Object instance = mock(Object.class);
+        final Component component = Component.of(mock(Id.class), contextualInstance);
+
+        when(contextualInstance.get()).thenReturn(instance);
+        final Object result = component.getInstance();
+
+        assertThat(result).isEqualTo(instance);
+    }
+
     @Test
     @DisplayName("be equal")
     void should_be_equal() {
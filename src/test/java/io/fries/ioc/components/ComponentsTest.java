@@ -54,6 +54,57 @@ class ComponentsTest {
                 .withMessage("No component registered with id: " + id);
     }
 
+    @Test
+    @DisplayName("copy its components into an independent instance")
+    void should_copy_its_components_into_an_independent_instance() {
+        final Id id = mock(Id.class);
+        final Component component = mock(Component.class);
+        final Components components = Components.empty();
+
+        when(component.getId()).thenReturn(id);
+        final Components result = components.copy().add(component);
+
+        assertThat(components).isEqualTo(Components.empty());
+        assertThat(result).isEqualTo(Components.of(singletonMap(id, component)));
+    }
+
+    @Test
+    @DisplayName("throw when inheriting from null components")
+    void should_throw_when_inheriting_from_null_components() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Components.inheriting(null));
+    }
+
+    @Test
+    @DisplayName("get a component from its parent when it does not hold it")
+    void should_get_a_component_from_its_parent_when_it_does_not_hold_it() {
+        final Id inheritedId = mock(Id.class);
+        final Id overriddenId = mock(Id.class);
+        final Component inheritedComponent = mock(Component.class);
+        final Component overridingComponent = mock(Component.class);
+        final Map<Id, Component> parentMap = new HashMap<>();
+        parentMap.put(inheritedId, inheritedComponent);
+        parentMap.put(overriddenId, mock(Component.class));
+        final Components components = Components.inheriting(Components.of(parentMap));
+
+        when(overridingComponent.getId()).thenReturn(overriddenId);
+        components.add(overridingComponent);
+
+        assertThat(components.get(inheritedId)).isEqualTo(inheritedComponent);
+        assertThat(components.get(overriddenId)).isEqualTo(overridingComponent);
+    }
+
+    @Test
+    @DisplayName("throw when neither it nor its parent holds the required component")
+    void should_throw_when_neither_it_nor_its_parent_holds_the_required_component() {
+        final Components components = Components.inheriting(Components.empty());
+
+        final Id id = mock(Id.class);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> components.get(id))
+                .withMessage("No component registered with id: " + id);
+    }
+
     @Test
     @DisplayName("merge two components content")
     void should_merge_two_dependencies() {
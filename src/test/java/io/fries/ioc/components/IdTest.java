@@ -16,6 +16,13 @@ class IdTest {
                 .isThrownBy(() -> Id.of(null));
     }
 
+    @Test
+    @DisplayName("expose the string value of its identifier")
+    void should_expose_the_string_value_of_its_identifier() {
+        assertThat(Id.of(String.class).getValue()).isEqualTo("class java.lang.String");
+        assertThat(Id.of("value").getValue()).isEqualTo("value");
+    }
+
     @Test
     @DisplayName("be equal")
     void should_be_equal() {
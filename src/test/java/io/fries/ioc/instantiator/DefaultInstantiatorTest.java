@@ -1,6 +1,7 @@
 package io.fries.ioc.instantiator;
 
 import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Id;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import testable.Book;
@@ -11,6 +12,9 @@ import testable.stories.protagonists.FriendlyProtagonist;
 import testable.stories.protagonists.HeroicProtagonist;
 import testable.stories.protagonists.Protagonist;
 
+import java.util.List;
+
+import static io.fries.ioc.AllocationBudget.assertAllocatesAtMost;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +26,8 @@ import static org.mockito.Mockito.when;
 @DisplayName("Default instantiator should")
 class DefaultInstantiatorTest {
 
+    private static final long CREATION_BUDGET = 64;
+
     @Test
     void should_create_an_object_instance_using_the_default_constructor() {
         final Instantiator instantiator = new DefaultInstantiator();
@@ -86,4 +92,14 @@ class DefaultInstantiatorTest {
                 .withCauseInstanceOf(IllegalArgumentException.class)
                 .withMessageContaining("wrong number of arguments");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("only allocate the created instance and its constructor arguments")
+    void should_only_allocate_the_created_instance_and_its_constructor_arguments() {
+        final Instantiator instantiator = new DefaultInstantiator();
+        final List<Component> dependencies = singletonList(Component.of(Id.of(HeroicProtagonist.class), new HeroicProtagonist()));
+
+        assertAllocatesAtMost(CREATION_BUDGET, () -> instantiator.createInstance(IncrediblePlot.class, emptyList()));
+        assertAllocatesAtMost(CREATION_BUDGET, () -> instantiator.createInstance(FriendlyProtagonist.class, dependencies));
+    }
+}
@@ -0,0 +1,131 @@
+package io.fries.ioc.instantiator;
+
+import io.fries.ioc.annotations.Initialize;
+import io.fries.ioc.components.Initializable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Initialization hooks should")
+class InitializationHooksTest {
+
+    @Test
+    @DisplayName("throw when initializing a null instance")
+    void should_throw_when_initializing_a_null_instance() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> InitializationHooks.initialize(null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> InitializationHooks.isInitializable(null));
+    }
+
+    @Test
+    @DisplayName("run the annotated methods of the super classes first and the initializable hook last")
+    void should_run_the_annotated_methods_of_the_super_classes_first_and_the_initializable_hook_last() {
+        final Cache cache = new Cache();
+
+        InitializationHooks.initialize(cache);
+
+        assertThat(cache.steps).containsExactly("connect", "warm", "index");
+    }
+
+    @Test
+    @DisplayName("run an overridden annotated method only once")
+    void should_run_an_overridden_annotated_method_only_once() {
+        final OverridingCache cache = new OverridingCache();
+
+        InitializationHooks.initialize(cache);
+
+        assertThat(cache.steps).containsExactly("connect", "overridden warm", "index");
+    }
+
+    @Test
+    @DisplayName("tell whether an instance has to be initialized")
+    void should_tell_whether_an_instance_has_to_be_initialized() {
+        assertThat(InitializationHooks.isInitializable(new Cache())).isTrue();
+        assertThat(InitializationHooks.isInitializable((Initializable) () -> {
+        })).isTrue();
+        assertThat(InitializationHooks.isInitializable(new Object())).isFalse();
+    }
+
+    @Test
+    @DisplayName("not initialize a proxy")
+    void should_not_initialize_a_proxy() {
+        final Object proxy = Proxy.newProxyInstance(
+                Initializable.class.getClassLoader(),
+                new Class<?>[]{Initializable.class},
+                (instance, method, args) -> {
+                    throw new IllegalStateException("The proxy was initialized");
+                }
+        );
+
+        InitializationHooks.initialize(proxy);
+
+        assertThat(InitializationHooks.isInitializable(proxy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("wrap the failure of a hook")
+    void should_wrap_the_failure_of_a_hook() {
+        final Exception failure = new Exception("failure");
+        final Initializable initializable = () -> {
+            throw failure;
+        };
+
+        assertThatExceptionOfType(ComponentInitializationException.class)
+                .isThrownBy(() -> InitializationHooks.initialize(initializable))
+                .withCause(failure);
+    }
+
+    @Test
+    @DisplayName("reject annotated methods with parameters")
+    void should_reject_annotated_methods_with_parameters() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InitializationHooks.initialize(new InvalidHook()))
+                .withMessageStartingWith("Initialization methods must be instance methods without parameters: ");
+    }
+
+    private static class Connection {
+
+        final List<String> steps = new ArrayList<>();
+
+        @Initialize
+        private void connect() {
+            steps.add("connect");
+        }
+    }
+
+    private static class Cache extends Connection implements Initializable {
+
+        @Initialize
+        void warm() {
+            steps.add("warm");
+        }
+
+        @Override
+        public void initialize() {
+            steps.add("index");
+        }
+    }
+
+    private static class OverridingCache extends Cache {
+
+        @Override
+        @Initialize
+        void warm() {
+            steps.add("overridden warm");
+        }
+    }
+
+    private static class InvalidHook {
+
+        @Initialize
+        void initialize(final String value) {
+        }
+    }
+}
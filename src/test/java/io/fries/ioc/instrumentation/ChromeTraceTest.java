@@ -0,0 +1,120 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Chrome trace should")
+class ChromeTraceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("throw when created with a null clock")
+    void should_throw_when_created_with_a_null_clock() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ChromeTrace.of(null, null));
+    }
+
+    @Test
+    @DisplayName("not be enabled without its system property")
+    void should_not_be_enabled_without_its_system_property() {
+        assertThat(System.getProperty(ChromeTrace.FILE_PROPERTY)).isNull();
+        assertThat(ChromeTrace.fromSystemProperties()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("write nested spans as trace events of the thread that ran them")
+    void should_write_nested_spans_as_trace_events_of_the_thread_that_ran_them() throws IOException {
+        final ChromeTrace trace = ChromeTrace.of(clock::get, null);
+        final Registrable registrable = mock(Registrable.class);
+        final Thread thread = Thread.currentThread();
+
+        when(registrable.getId()).thenReturn(Id.of("plot\"1\""));
+        clock.set(1_000);
+        trace.phaseStarted(StartupPhase.CONSTRUCTION);
+        clock.set(2_500);
+        trace.instantiationStarted(registrable);
+        clock.set(4_000);
+        trace.instantiationEnded(registrable);
+        trace.materializationStarted();
+        clock.set(5_000);
+        trace.materializationEnded(String.class);
+        trace.phaseEnded(StartupPhase.CONSTRUCTION);
+
+        final StringWriter writer = new StringWriter();
+        trace.writeTo(writer);
+
+        final String tid = ",\"pid\":1,\"tid\":" + thread.getId();
+        assertThat(writer.toString()).isEqualTo("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n" +
+                "{\"name\":\"thread_name\",\"ph\":\"M\"" + tid + ",\"args\":{\"name\":\"" + thread.getName() + "\"}},\n" +
+                "{\"ph\":\"B\",\"name\":\"CONSTRUCTION\",\"cat\":\"phase\",\"ts\":1.000" + tid + "},\n" +
+                "{\"ph\":\"B\",\"name\":\"Id{value='plot\\\"1\\\"'}\",\"cat\":\"instantiation\",\"ts\":2.500" + tid + ",\"args\":{\"type\":\"" + registrable.getClass().getName() + "\"}},\n" +
+                "{\"ph\":\"E\",\"ts\":4.000" + tid + "},\n" +
+                "{\"ph\":\"B\",\"name\":\"ProxyMaterialization\",\"cat\":\"proxy\",\"ts\":4.000" + tid + "},\n" +
+                "{\"ph\":\"E\",\"ts\":5.000" + tid + ",\"args\":{\"type\":\"java.lang.String\"}},\n" +
+                "{\"ph\":\"E\",\"ts\":5.000" + tid + "}\n" +
+                "]}\n");
+    }
+
+    @Test
+    @DisplayName("write its events to its file once finished")
+    void should_write_its_events_to_its_file_once_finished() throws IOException {
+        final Path file = Files.createTempFile("ioc-container", ".json");
+
+        try {
+            final ChromeTrace trace = ChromeTrace.of(clock::get, file);
+            trace.phaseStarted(StartupPhase.SCANNING);
+            trace.phaseEnded(StartupPhase.SCANNING);
+            trace.finish();
+
+            assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8))
+                    .startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[")
+                    .contains("\"name\":\"SCANNING\"");
+
+            Files.delete(file);
+            trace.finish();
+            assertThat(file).doesNotExist();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("stop recording once finished")
+    void should_stop_recording_once_finished() throws IOException {
+        final ChromeTrace trace = ChromeTrace.of(clock::get, null);
+
+        trace.finish();
+        trace.phaseStarted(StartupPhase.SCANNING);
+        trace.materializationStarted();
+
+        final StringWriter writer = new StringWriter();
+        trace.writeTo(writer);
+
+        assertThat(writer.toString()).isEqualTo("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n]}\n");
+    }
+
+    @Test
+    @DisplayName("be claimed by a single container")
+    void should_be_claimed_by_a_single_container() {
+        final ChromeTrace trace = ChromeTrace.of(clock::get, null);
+
+        assertThat(trace.claim()).isTrue();
+        assertThat(trace.claim()).isFalse();
+        assertThat(ChromeTrace.claimSystemTrace()).isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Component timing should")
+class ComponentTimingTest {
+
+    @Test
+    @DisplayName("throw when created with a null identifier")
+    void should_throw_when_created_with_a_null_id() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ComponentTiming.of(null, emptyList(), 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("throw when created with null dependencies")
+    void should_throw_when_created_with_null_dependencies() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ComponentTiming.of(mock(Id.class), null, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("measure its wall time, cpu time and allocated bytes")
+    void should_measure_its_wall_time_cpu_time_and_allocated_bytes() {
+        final ComponentTiming timing = ComponentTiming.of(mock(Id.class), emptyList(), 100, 350, 200, 1_024);
+
+        assertThat(timing.getWallTime()).isEqualTo(Duration.ofNanos(250));
+        assertThat(timing.getCpuTime()).contains(Duration.ofNanos(200));
+        assertThat(timing.getAllocatedBytes()).hasValue(1_024);
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final Id id = mock(Id.class);
+        final ComponentTiming firstTiming = ComponentTiming.of(id, emptyList(), 0, 10, 5, 64);
+        final ComponentTiming secondTiming = ComponentTiming.of(id, emptyList(), 0, 10, 5, 64);
+
+        assertThat(firstTiming).isEqualTo(secondTiming);
+        assertThat(firstTiming.hashCode()).isEqualTo(secondTiming.hashCode());
+    }
+
+    @Test
+    @DisplayName("not be equal")
+    void should_not_be_equal() {
+        final ComponentTiming firstTiming = ComponentTiming.of(mock(Id.class), emptyList(), 0, 10, 5, 64);
+        final ComponentTiming secondTiming = ComponentTiming.of(mock(Id.class), emptyList(), 0, 10, 5, 64);
+
+        assertThat(firstTiming).isNotEqualTo(secondTiming);
+        assertThat(firstTiming.hashCode()).isNotEqualTo(secondTiming.hashCode());
+    }
+
+    @Test
+    @DisplayName("be formatted as a string")
+    void should_be_formatted_as_a_string() {
+        final ComponentTiming timing = ComponentTiming.of(Id.of("component"), emptyList(), 0, 1_000_000, ThreadResources.UNSUPPORTED, 64);
+
+        assertThat(timing.toString()).isEqualTo("ComponentTiming{id=Id{value='component'}, wallTime=PT0.001S, cpuTime=Optional.empty, allocatedBytes=OptionalLong[64]}");
+    }
+}
@@ -0,0 +1,102 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Construction costs should")
+class ConstructionCostsTest {
+
+    @Test
+    @DisplayName("record the construction time of the eager components")
+    void should_record_the_construction_time_of_the_eager_components() {
+        final AtomicLong clock = new AtomicLong();
+        final ConstructionCosts costs = ConstructionCosts.of(clock::get, emptyMap());
+        final Registrable eager = registrable("eager", false);
+        final Registrable lazy = registrable("lazy", true);
+
+        costs.instantiationStarted(eager);
+        clock.addAndGet(5_000_000);
+        costs.instantiationEnded(eager);
+        costs.instantiationStarted(lazy);
+        clock.addAndGet(1_000);
+        costs.instantiationEnded(lazy);
+
+        assertThat(costs.find(Id.of("eager"))).contains(Duration.ofMillis(5));
+        assertThat(costs.find(Id.of("lazy"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("keep the previous cost of the components that were not constructed")
+    void should_keep_the_previous_cost_of_the_components_that_were_not_constructed() {
+        final ConstructionCosts costs = ConstructionCosts.of(System::nanoTime, singletonMap(Id.of("lazy"), 7_000_000L));
+
+        costs.instantiationStarted(registrable("lazy", true));
+        costs.instantiationEnded(registrable("lazy", true));
+
+        assertThat(costs.find(Id.of("lazy"))).contains(Duration.ofMillis(7));
+    }
+
+    @Test
+    @DisplayName("save and load its costs")
+    void should_save_and_load_its_costs() throws IOException {
+        final Path file = Files.createTempFile("ioc-container", ".costs");
+
+        try {
+            ConstructionCosts.of(System::nanoTime, singletonMap(Id.of("plot"), 42L)).save(file);
+
+            assertThat(ConstructionCosts.load(file).find(Id.of("plot"))).contains(Duration.ofNanos(42));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("skip the malformed lines of its file")
+    void should_skip_the_malformed_lines_of_its_file() throws IOException {
+        final Path file = Files.createTempFile("ioc-container", ".costs");
+
+        try {
+            Files.write(file, asList("42\tplot", "not a number\tstory", "\tbook", "13"), StandardCharsets.UTF_8);
+            final ConstructionCosts costs = ConstructionCosts.load(file);
+
+            assertThat(costs.find(Id.of("plot"))).contains(Duration.ofNanos(42));
+            assertThat(costs.find(Id.of("story"))).isEmpty();
+            assertThat(costs.find(Id.of("book"))).isEmpty();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("load no cost when its file does not exist")
+    void should_load_no_cost_when_its_file_does_not_exist() throws IOException {
+        final Path file = Files.createTempFile("ioc-container", ".costs");
+        Files.delete(file);
+
+        assertThat(ConstructionCosts.load(file).find(Id.of("plot"))).isEmpty();
+    }
+
+    private Registrable registrable(final String id, final boolean lazy) {
+        final Registrable registrable = mock(Registrable.class);
+        when(registrable.getId()).thenReturn(Id.of(id));
+        when(registrable.isLazy()).thenReturn(lazy);
+
+        return registrable;
+    }
+}
@@ -0,0 +1,57 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import io.fries.ioc.registry.supplied.SuppliedRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Container events should")
+class ContainerEventsTest {
+
+    @Test
+    @DisplayName("not sample provisions while no recording enables them")
+    void should_not_sample_provisions_while_no_recording_enables_them() {
+        for (int provision = 0; provision < ContainerEvents.PROVIDE_SAMPLING * 4; provision++)
+            assertThat(ContainerEvents.beginSampledProvide().isRecording()).isFalse();
+    }
+
+    @Test
+    @DisplayName("record the instantiation of components and the materialization of proxies")
+    void should_record_the_instantiation_of_components_and_the_materialization_of_proxies() throws Exception {
+        assumeTrue(FlightRecorderEventType.define("io.fries.ioc.test.Availability", "Availability").isAvailable());
+
+        final Map<String, List<Object>> events;
+        try (final FlightRecording recording = FlightRecording.start("io.fries.ioc.ComponentInstantiation", "io.fries.ioc.ProxyMaterialization")) {
+            final Components components = Registry.empty()
+                    .add(SuppliedRegistrable.of(Id.of("value"), () -> "value"))
+                    .add(ProxyRegistrable.of(Id.of("proxy"), Supplier.class, ValueSupplier.class, emptyList()))
+                    .instantiate(new DefaultInstantiator());
+            components.<Supplier<?>>getInstance(Id.of("proxy")).get();
+
+            events = recording.stop();
+        }
+
+        assertThat(events.get("io.fries.ioc.ComponentInstantiation")).hasSize(2);
+        assertThat(FlightRecording.valueOf(events.get("io.fries.ioc.ProxyMaterialization").get(0), "instanceType"))
+                .isEqualTo(ValueSupplier.class.getName());
+    }
+
+    public static class ValueSupplier implements Supplier<String> {
+        @Override
+        public String get() {
+            return "supplied";
+        }
+    }
+}
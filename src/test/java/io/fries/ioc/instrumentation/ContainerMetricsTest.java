@@ -0,0 +1,40 @@
+package io.fries.ioc.instrumentation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Container metrics should")
+class ContainerMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        ContainerMetrics.install(ContainerMetrics.none());
+    }
+
+    @Test
+    @DisplayName("not be installed by default")
+    void should_not_be_installed_by_default() {
+        assertThat(ContainerMetrics.installed()).isSameAs(ContainerMetrics.none());
+    }
+
+    @Test
+    @DisplayName("install the provided metrics")
+    void should_install_the_provided_metrics() {
+        final ContainerMetrics metrics = new DefaultContainerMetrics();
+
+        ContainerMetrics.install(metrics);
+
+        assertThat(ContainerMetrics.installed()).isSameAs(metrics);
+    }
+
+    @Test
+    @DisplayName("throw when installing null metrics")
+    void should_throw_when_installing_null_metrics() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ContainerMetrics.install(null));
+    }
+}
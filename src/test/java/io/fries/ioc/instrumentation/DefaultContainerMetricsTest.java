@@ -0,0 +1,72 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+@DisplayName("Default container metrics should")
+class DefaultContainerMetricsTest {
+
+    private DefaultContainerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        this.metrics = new DefaultContainerMetrics();
+    }
+
+    @Test
+    @DisplayName("count the provisions of each component")
+    void should_count_the_provisions_of_each_component() {
+        final Id first = Id.of("first");
+        final Id second = Id.of("second");
+
+        metrics.provided(first);
+        metrics.provided(second);
+        metrics.provided(first);
+
+        assertThat(metrics.getProvisions())
+                .containsEntry(first, 2L)
+                .containsEntry(second, 1L)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("count the lookups of unregistered components in a single counter")
+    void should_count_the_lookups_of_unregistered_components_in_a_single_counter() {
+        metrics.missed();
+        metrics.missed();
+
+        assertThat(metrics.getMisses()).isEqualTo(2);
+        assertThat(metrics.getProvisions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("record the latency of the proxy invocations of each method")
+    void should_record_the_latency_of_the_proxy_invocations_of_each_method() {
+        assertDoesNotThrow(() -> {
+            final Method method = Runnable.class.getMethod("run");
+
+            metrics.proxyInvoked(method, 1_000);
+            metrics.proxyInvoked(method, 3_000);
+
+            final LatencyHistogram histogram = metrics.getInvocations().get(method);
+            assertThat(histogram.getCount()).isEqualTo(2);
+            assertThat(histogram.getMaximum().toNanos()).isEqualTo(3_000);
+        });
+    }
+
+    @Test
+    @DisplayName("record the materialization time of each proxied type")
+    void should_record_the_materialization_time_of_each_proxied_type() {
+        metrics.proxyMaterialized(String.class, 42);
+
+        assertThat(metrics.getMaterializations()).containsOnlyKeys(String.class);
+        assertThat(metrics.getMaterializations().get(String.class).getMean().toNanos()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,51 @@
+package io.fries.ioc.instrumentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Flight recorder event type should")
+class FlightRecorderEventTypeTest {
+
+    @Test
+    @DisplayName("throw when defined with a null name")
+    void should_throw_when_defined_with_a_null_name() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> FlightRecorderEventType.define(null, "Label"));
+    }
+
+    @Test
+    @DisplayName("not record events while no recording enables it")
+    void should_not_record_events_while_no_recording_enables_it() {
+        final FlightRecorderEventType eventType = FlightRecorderEventType.define("io.fries.ioc.test.Disabled", "Disabled");
+
+        final FlightRecorderEvent event = eventType.begin();
+
+        assertThat(eventType.isEnabled()).isFalse();
+        assertThat(event).isSameAs(FlightRecorderEvent.DISABLED);
+        assertThat(event.isRecording()).isFalse();
+    }
+
+    @Test
+    @DisplayName("record committed events with their values while a recording enables it")
+    void should_record_committed_events_with_their_values_while_a_recording_enables_it() throws Exception {
+        final FlightRecorderEventType eventType = FlightRecorderEventType.define("io.fries.ioc.test.Enabled", "Enabled", "first", "second");
+        assumeTrue(eventType.isAvailable());
+
+        final Map<String, List<Object>> events;
+        try (final FlightRecording recording = FlightRecording.start("io.fries.ioc.test.Enabled")) {
+            eventType.begin().commit("value", String.class);
+            events = recording.stop();
+        }
+
+        final Object event = events.get("io.fries.ioc.test.Enabled").get(0);
+        assertThat(FlightRecording.valueOf(event, "first")).isEqualTo("value");
+        assertThat(FlightRecording.valueOf(event, "second")).isEqualTo("java.lang.String");
+    }
+}
@@ -0,0 +1,64 @@
+package io.fries.ioc.instrumentation;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class FlightRecording implements AutoCloseable {
+
+    private final Class<?> recordingClass;
+    private final Object recording;
+
+    private FlightRecording(final Class<?> recordingClass, final Object recording) {
+        this.recordingClass = recordingClass;
+        this.recording = recording;
+    }
+
+    static FlightRecording start(final String... eventNames) throws ReflectiveOperationException {
+        final Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        final Object recording = recordingClass.getConstructor().newInstance();
+
+        for (final String eventName : eventNames)
+            recordingClass.getMethod("enable", String.class).invoke(recording, eventName);
+        recordingClass.getMethod("start").invoke(recording);
+
+        return new FlightRecording(recordingClass, recording);
+    }
+
+    Map<String, List<Object>> stop() throws Exception {
+        final Path file = Files.createTempFile("ioc-container", ".jfr");
+
+        try {
+            recordingClass.getMethod("stop").invoke(recording);
+            recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+
+            @SuppressWarnings("unchecked") final List<Object> events = (List<Object>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                    .getMethod("readAllEvents", Path.class)
+                    .invoke(null, file);
+
+            return events.stream().collect(Collectors.groupingBy(this::nameOf, Collectors.toList()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    static Object valueOf(final Object event, final String field) throws ReflectiveOperationException {
+        return Class.forName("jdk.jfr.consumer.RecordedObject").getMethod("getValue", String.class).invoke(event, field);
+    }
+
+    private String nameOf(final Object event) {
+        try {
+            final Object eventType = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getEventType").invoke(event);
+            return (String) Class.forName("jdk.jfr.EventType").getMethod("getName").invoke(eventType);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() throws ReflectiveOperationException {
+        recordingClass.getMethod("close").invoke(recording);
+    }
+}
@@ -0,0 +1,44 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.registry.Registrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Instantiation listener should")
+class InstantiationListenerTest {
+
+    @Test
+    @DisplayName("throw when chained to a null listener")
+    void should_throw_when_chained_to_a_null_listener() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> InstantiationListener.none().andThen(null));
+    }
+
+    @Test
+    @DisplayName("notify chained listeners in nesting order")
+    void should_notify_chained_listeners_in_nesting_order() {
+        final InstantiationListener first = mock(InstantiationListener.class);
+        final InstantiationListener second = mock(InstantiationListener.class);
+        final Registrable registrable = mock(Registrable.class);
+        final InstantiationListener chained = InstantiationListener.none().andThen(first).andThen(second);
+
+        chained.phaseStarted(StartupPhase.CONSTRUCTION);
+        chained.instantiationStarted(registrable);
+        chained.instantiationEnded(registrable);
+        chained.phaseEnded(StartupPhase.CONSTRUCTION);
+
+        final InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).phaseStarted(StartupPhase.CONSTRUCTION);
+        inOrder.verify(second).phaseStarted(StartupPhase.CONSTRUCTION);
+        inOrder.verify(first).instantiationStarted(registrable);
+        inOrder.verify(second).instantiationStarted(registrable);
+        inOrder.verify(second).instantiationEnded(registrable);
+        inOrder.verify(first).instantiationEnded(registrable);
+        inOrder.verify(second).phaseEnded(StartupPhase.CONSTRUCTION);
+        inOrder.verify(first).phaseEnded(StartupPhase.CONSTRUCTION);
+    }
+}
@@ -0,0 +1,85 @@
+package io.fries.ioc.instrumentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Latency histogram should")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("be empty when nothing has been recorded")
+    void should_be_empty_when_nothing_has_been_recorded() {
+        final LatencyHistogram histogram = LatencyHistogram.empty();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMean()).isEqualTo(Duration.ZERO);
+        assertThat(histogram.getMaximum()).isEqualTo(Duration.ZERO);
+        assertThat(histogram.getPercentile(99)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("keep small values exact")
+    void should_keep_small_values_exact() {
+        for (long nanos = 0; nanos < 8; nanos++)
+            assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(nanos))).isEqualTo(nanos);
+    }
+
+    @Test
+    @DisplayName("bound the relative error of a bucket to one eighth")
+    void should_bound_the_relative_error_of_a_bucket_to_one_eighth() {
+        for (long nanos = 8; nanos > 0 && nanos < Long.MAX_VALUE / 2; nanos = nanos * 3 + 1) {
+            final long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(nanos));
+
+            assertThat(upperBound).isGreaterThanOrEqualTo(nanos);
+            assertThat(upperBound - nanos).isLessThanOrEqualTo(nanos / 8);
+        }
+    }
+
+    @Test
+    @DisplayName("map the largest value to the last bucket")
+    void should_map_the_largest_value_to_the_last_bucket() {
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("record the count, mean and maximum latency")
+    void should_record_the_count_mean_and_maximum_latency() {
+        final LatencyHistogram histogram = LatencyHistogram.empty();
+
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+
+        assertThat(histogram.getCount()).isEqualTo(3);
+        assertThat(histogram.getMean()).isEqualTo(Duration.ofNanos(133));
+        assertThat(histogram.getMaximum()).isEqualTo(Duration.ofNanos(300));
+    }
+
+    @Test
+    @DisplayName("approximate percentiles from above")
+    void should_approximate_percentiles_from_above() {
+        final LatencyHistogram histogram = LatencyHistogram.empty();
+
+        for (int nanos = 1; nanos <= 1_000; nanos++)
+            histogram.record(nanos * 1_000L);
+
+        assertThat(histogram.getPercentile(50).toNanos()).isBetween(500_000L, 562_500L);
+        assertThat(histogram.getPercentile(99).toNanos()).isBetween(990_000L, 1_000_000L);
+        assertThat(histogram.getPercentile(100)).isEqualTo(Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("throw when requesting a percentile out of range")
+    void should_throw_when_requesting_a_percentile_out_of_range() {
+        final LatencyHistogram histogram = LatencyHistogram.empty();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> histogram.getPercentile(100.5))
+                .withMessage("The percentile must be between 0 and 100");
+    }
+}
@@ -0,0 +1,104 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Startup report should")
+class StartupReportTest {
+
+    private static final Id PLOT = Id.of("plot");
+    private static final Id PROTAGONIST = Id.of("protagonist");
+    private static final Id STORY = Id.of("story");
+    private static final Id BOOK = Id.of("book");
+    private static final Id PROXY = Id.of("proxy");
+
+    private final ComponentTiming plot = ComponentTiming.of(PLOT, emptyList(), 0, 5_000_000, 4_000_000, 2_048);
+    private final ComponentTiming protagonist = ComponentTiming.of(PROTAGONIST, emptyList(), 5_000_000, 6_000_000, 1_000_000, 512);
+    private final ComponentTiming proxy = ComponentTiming.of(PROXY, singletonList(BOOK), 6_000_000, 6_100_000, 100_000, 64);
+    private final ComponentTiming story = ComponentTiming.of(STORY, asList(PLOT, PROTAGONIST), 6_100_000, 7_100_000, 1_000_000, 128);
+    private final ComponentTiming book = ComponentTiming.of(BOOK, singletonList(STORY), 7_100_000, 9_100_000, ThreadResources.UNSUPPORTED, ThreadResources.UNSUPPORTED);
+
+    @Test
+    @DisplayName("throw when created with null timings")
+    void should_throw_when_created_with_null_timings() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> StartupReport.of(null, emptyMap()));
+    }
+
+    @Test
+    @DisplayName("order the component timings by start time")
+    void should_order_the_component_timings_by_start_time() {
+        final StartupReport report = StartupReport.of(asList(book, plot, story), emptyMap());
+
+        assertThat(report.getComponentTimings()).containsExactly(plot, story, book);
+    }
+
+    @Test
+    @DisplayName("list the slowest components")
+    void should_list_the_slowest_components() {
+        final StartupReport report = StartupReport.of(asList(plot, protagonist, proxy, story, book), emptyMap());
+
+        assertThat(report.getSlowestComponents(2)).containsExactly(plot, book);
+    }
+
+    @Test
+    @DisplayName("find the critical path through the dependencies built before each component")
+    void should_find_the_critical_path_through_the_dependencies_built_before_each_component() {
+        final StartupReport report = StartupReport.of(asList(plot, protagonist, proxy, story, book), emptyMap());
+
+        final List<ComponentTiming> criticalPath = report.getCriticalPath();
+
+        assertThat(criticalPath).containsExactly(plot, story, book);
+    }
+
+    @Test
+    @DisplayName("describe its phases, slowest components and critical path")
+    void should_describe_its_phases_slowest_components_and_critical_path() {
+        final Map<StartupPhase, Long> phases = new EnumMap<>(StartupPhase.class);
+        phases.put(StartupPhase.SCANNING, 1_500_000L);
+        phases.put(StartupPhase.CONSTRUCTION, 9_100_000L);
+        final StartupReport report = StartupReport.of(asList(plot, protagonist, proxy, story, book), phases);
+
+        final String description = report.describe(2);
+
+        assertThat(description).isEqualTo(
+                "Startup phases: SCANNING=1.500ms SORTING=0.000ms CONSTRUCTION=9.100ms INITIALIZATION=0.000ms\n" +
+                        "Slowest components:\n" +
+                        "  " + PLOT + " wall=5.000ms cpu=4.000ms allocated=2048B\n" +
+                        "  " + BOOK + " wall=2.000ms cpu=n/a allocated=n/a\n" +
+                        "Critical path (8.000ms): " + PLOT + " -> " + STORY + " -> " + BOOK
+        );
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final StartupReport firstReport = StartupReport.of(singletonList(plot), emptyMap());
+        final StartupReport secondReport = StartupReport.of(singletonList(plot), emptyMap());
+
+        assertThat(firstReport).isEqualTo(secondReport);
+        assertThat(firstReport.hashCode()).isEqualTo(secondReport.hashCode());
+    }
+
+    @Test
+    @DisplayName("not be equal")
+    void should_not_be_equal() {
+        final StartupReport firstReport = StartupReport.of(singletonList(plot), emptyMap());
+        final StartupReport secondReport = StartupReport.of(singletonList(book), emptyMap());
+
+        assertThat(firstReport).isNotEqualTo(secondReport);
+        assertThat(firstReport.hashCode()).isNotEqualTo(secondReport.hashCode());
+    }
+}
@@ -0,0 +1,91 @@
+package io.fries.ioc.instrumentation;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.Registrable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Startup timeline should")
+class StartupTimelineTest {
+
+    @Mock
+    private ThreadResources threadResources;
+
+    private StartupTimeline startupTimeline;
+
+    @BeforeEach
+    void setUp() {
+        this.startupTimeline = StartupTimeline.of(threadResources);
+    }
+
+    @Test
+    @DisplayName("throw when created with null thread resources")
+    void should_throw_when_created_with_null_thread_resources() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> StartupTimeline.of(null));
+    }
+
+    @Test
+    @DisplayName("record the wall time, cpu time and allocated bytes of an instantiation")
+    void should_record_the_wall_time_cpu_time_and_allocated_bytes_of_an_instantiation() {
+        final Registrable registrable = mock(Registrable.class);
+        final Id id = Id.of("component");
+        final Id dependency = Id.of("dependency");
+
+        when(registrable.getId()).thenReturn(id);
+        when(registrable.getDependencies()).thenReturn(singletonList(dependency));
+        when(threadResources.wallNanos()).thenReturn(100L, 400L);
+        when(threadResources.cpuNanos()).thenReturn(10L, 210L);
+        when(threadResources.allocatedBytes()).thenReturn(1_000L, 1_512L);
+        startupTimeline.instantiationStarted(registrable);
+        startupTimeline.instantiationEnded(registrable);
+
+        assertThat(startupTimeline.report().getComponentTimings())
+                .containsExactly(ComponentTiming.of(id, singletonList(dependency), 100L, 400L, 200L, 512L));
+    }
+
+    @Test
+    @DisplayName("record unsupported measures as missing")
+    void should_record_unsupported_measures_as_missing() {
+        final Registrable registrable = mock(Registrable.class);
+
+        when(registrable.getId()).thenReturn(Id.of("component"));
+        when(threadResources.wallNanos()).thenReturn(0L, 10L);
+        when(threadResources.cpuNanos()).thenReturn(ThreadResources.UNSUPPORTED);
+        when(threadResources.allocatedBytes()).thenReturn(ThreadResources.UNSUPPORTED);
+        startupTimeline.instantiationStarted(registrable);
+        startupTimeline.instantiationEnded(registrable);
+
+        final ComponentTiming timing = startupTimeline.report().getComponentTimings().get(0);
+        assertThat(timing.getCpuTime()).isEmpty();
+        assertThat(timing.getAllocatedBytes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("accumulate the time spent in each phase")
+    void should_accumulate_the_time_spent_in_each_phase() {
+        when(threadResources.wallNanos()).thenReturn(0L, 100L, 200L, 250L);
+        startupTimeline.phaseStarted(StartupPhase.CONSTRUCTION);
+        startupTimeline.phaseEnded(StartupPhase.CONSTRUCTION);
+        startupTimeline.phaseStarted(StartupPhase.CONSTRUCTION);
+        startupTimeline.phaseEnded(StartupPhase.CONSTRUCTION);
+
+        final StartupReport report = startupTimeline.report();
+
+        assertThat(report.getPhaseTime(StartupPhase.CONSTRUCTION)).isEqualTo(Duration.ofNanos(150));
+        assertThat(report.getPhaseTime(StartupPhase.SCANNING)).isEqualTo(Duration.ZERO);
+    }
+}
@@ -4,14 +4,21 @@ import io.fries.ioc.components.Component;
 import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
 import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.instrumentation.InstantiationListener;
+import io.fries.ioc.instrumentation.StartupPhase;
 import io.fries.ioc.registry.managed.ManagedRegistrable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -47,6 +54,44 @@ class RegistryTest {
                 .withMessage("Another component was already registered with the id: " + id);
     }
 
+    @Test
+    @DisplayName("add new registered components concurrently")
+    void should_add_new_registered_components_concurrently() throws InterruptedException {
+        final Registry registry = Registry.concurrent();
+        final int registrations = 1_000;
+        final Thread[] threads = new Thread[4];
+
+        for (int thread = 0; thread < threads.length; thread++) {
+            final int offset = thread * registrations;
+            threads[thread] = new Thread(() -> {
+                for (int index = 0; index < registrations; index++)
+                    registry.add(ManagedRegistrable.of(Id.of(offset + index), Object.class, emptyList()));
+            });
+            threads[thread].start();
+        }
+        for (final Thread thread : threads)
+            thread.join();
+
+        for (int index = 0; index < threads.length * registrations; index++)
+            assertThat(registry.get(Id.of(index)).getId()).isEqualTo(Id.of(index));
+    }
+
+    @Test
+    @DisplayName("throw when concurrently adding a registered component with an identifier that already exists")
+    void should_throw_when_a_concurrently_registered_component_with_the_same_id_already_exists() {
+        final Id id = mock(Id.class);
+        final Registrable registrable = mock(Registrable.class);
+        final Registry registry = Registry.concurrent();
+
+        when(registrable.getId()).thenReturn(id);
+        final Registry result = registry.add(registrable);
+
+        assertThat(result).isSameAs(registry);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> registry.add(registrable))
+                .withMessage("Another component was already registered with the id: " + id);
+    }
+
     @Test
     @DisplayName("get a registered component using its identifier")
     void should_get_a_registered_component_by_its_id() {
@@ -71,6 +116,17 @@ class RegistryTest {
                 .withMessage("This identifier is not linked to any component inside the container: " + id);
     }
 
+    @Test
+    @DisplayName("tell whether a component is registered, including by its parent")
+    void should_tell_whether_a_component_is_registered_including_by_its_parent() {
+        final Id id = Id.of("registered");
+        final Registry parent = Registry.of(singletonMap(id, mock(Registrable.class)));
+
+        assertThat(parent.contains(id)).isTrue();
+        assertThat(parent.child().contains(id)).isTrue();
+        assertThat(parent.contains(Id.of("other"))).isFalse();
+    }
+
     @Test
     @DisplayName("instantiate a component from its registration")
     void should_instantiate_a_component_from_its_registration() {
@@ -107,6 +163,275 @@ class RegistryTest {
         assertThat(result).isEqualTo(components);
     }
 
+    @Test
+    @DisplayName("replace a registered component")
+    void should_create_a_new_registry_instance_containing_the_replaced_registered_component() {
+        final Id id = mock(Id.class);
+        final Registrable registrable = mock(Registrable.class);
+        final Registry registry = Registry.of(singletonMap(id, mock(Registrable.class)));
+
+        when(registrable.getId()).thenReturn(id);
+        final Registry result = registry.replace(registrable);
+
+        assertThat(result).isEqualTo(Registry.of(singletonMap(id, registrable)));
+        assertThat(registry).isNotEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("throw when replacing a component that was never registered")
+    void should_throw_when_replacing_a_component_that_was_never_registered() {
+        final Id id = mock(Id.class);
+        final Registrable registrable = mock(Registrable.class);
+        final Registry registry = Registry.empty();
+
+        when(registrable.getId()).thenReturn(id);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> registry.replace(registrable))
+                .withMessage("This identifier is not linked to any component inside the container: " + id);
+    }
+
+    @Test
+    @DisplayName("reinstantiate a component and its transitive dependents only")
+    void should_reinstantiate_a_component_and_its_transitive_dependents_only() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Id replacedId = Id.of("replaced");
+        final Id dependentId = Id.of("dependent");
+        final Id transitiveId = Id.of("transitive");
+        final Id unrelatedId = Id.of("unrelated");
+        final Registrable replaced = registrable(replacedId, emptyList(), 0);
+        final Registrable dependent = registrable(dependentId, singletonList(replacedId), 1);
+        final Registrable transitive = registrable(transitiveId, singletonList(dependentId), 2);
+        final Registrable unrelated = registrable(unrelatedId, emptyList(), 0);
+
+        final Map<Id, Registrable> registryMap = new HashMap<>();
+        registryMap.put(replacedId, replaced);
+        registryMap.put(dependentId, dependent);
+        registryMap.put(transitiveId, transitive);
+        registryMap.put(unrelatedId, unrelated);
+        final Registry registry = Registry.of(registryMap);
+
+        final Component unrelatedComponent = Component.of(unrelatedId, "unrelated");
+        final Components components = Components.empty()
+                .add(Component.of(replacedId, "previous"))
+                .add(Component.of(dependentId, "previous"))
+                .add(Component.of(transitiveId, "previous"))
+                .add(unrelatedComponent);
+
+        final Components result = registry.reinstantiate(instantiator, components, replacedId);
+
+        assertThat(result.<Object>getInstance(replacedId)).isEqualTo("reinstantiated");
+        assertThat(result.<Object>getInstance(dependentId)).isEqualTo("reinstantiated");
+        assertThat(result.<Object>getInstance(transitiveId)).isEqualTo("reinstantiated");
+        assertThat(result.get(unrelatedId)).isSameAs(unrelatedComponent);
+        assertThat(components.<Object>getInstance(replacedId)).isEqualTo("previous");
+        verify(unrelated, never()).instantiate(any(), any());
+    }
+
+    @Test
+    @DisplayName("sort its components from their declared dependencies")
+    void should_sort_its_components_from_their_declared_dependencies() {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final Id thirdId = Id.of("third");
+        final Map<Id, Registrable> registrables = new HashMap<>();
+        registrables.put(thirdId, registrable(thirdId, asList(firstId, secondId), 0));
+        registrables.put(secondId, registrable(secondId, singletonList(firstId), 0));
+        registrables.put(firstId, registrable(firstId, emptyList(), 0));
+
+        final List<Id> instantiationOrder = Registry.of(registrables).instantiationOrder();
+
+        assertThat(instantiationOrder).containsExactly(firstId, secondId, thirdId);
+    }
+
+    @Test
+    @DisplayName("throw when its components depend on each other without a lazy component")
+    void should_throw_when_its_components_depend_on_each_other_without_a_lazy_component() {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final Map<Id, Registrable> registrables = new HashMap<>();
+        registrables.put(firstId, registrable(firstId, singletonList(secondId), 0));
+        registrables.put(secondId, registrable(secondId, singletonList(firstId), 0));
+        final Registry registry = Registry.of(registrables);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(registry::instantiationOrder)
+                .withMessageStartingWith("Circular dependency detected on the component: ");
+    }
+
+    @Test
+    @DisplayName("not sort the dependencies of its lazy components")
+    void should_not_sort_the_dependencies_of_its_lazy_components() {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final Registrable lazy = registrable(secondId, singletonList(firstId), 0);
+        final Map<Id, Registrable> registrables = new HashMap<>();
+        registrables.put(firstId, registrable(firstId, singletonList(secondId), 0));
+        registrables.put(secondId, lazy);
+        when(lazy.isLazy()).thenReturn(true);
+
+        final List<Id> instantiationOrder = Registry.of(registrables).instantiationOrder();
+
+        assertThat(instantiationOrder).containsExactly(secondId, firstId);
+    }
+
+    @Test
+    @DisplayName("throw when a shared component depends on a contextual component")
+    void should_throw_when_a_shared_component_depends_on_a_contextual_component() {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final Registrable contextual = registrable(firstId, emptyList(), 0);
+        final Map<Id, Registrable> registrables = new HashMap<>();
+        registrables.put(firstId, contextual);
+        registrables.put(secondId, registrable(secondId, singletonList(firstId), 0));
+        when(contextual.isContextual()).thenReturn(true);
+        final Registry registry = Registry.of(registrables);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(registry::instantiationOrder)
+                .withMessage("A shared component cannot depend on a contextual component: " + secondId + " -> " + firstId);
+    }
+
+    @Test
+    @DisplayName("sort contextual components depending on each other")
+    void should_sort_contextual_components_depending_on_each_other() {
+        final Id firstId = Id.of("first");
+        final Id secondId = Id.of("second");
+        final Registrable first = registrable(firstId, emptyList(), 0);
+        final Registrable second = registrable(secondId, singletonList(firstId), 0);
+        final Map<Id, Registrable> registrables = new HashMap<>();
+        registrables.put(firstId, first);
+        registrables.put(secondId, second);
+        when(first.isContextual()).thenReturn(true);
+        when(second.isContextual()).thenReturn(true);
+
+        final List<Id> instantiationOrder = Registry.of(registrables).instantiationOrder();
+
+        assertThat(instantiationOrder).containsExactly(firstId, secondId);
+    }
+
+    private Registrable registrable(final Id id, final List<Id> dependencies, final int dependencyCount) {
+        final Registrable registrable = mock(Registrable.class);
+
+        when(registrable.getId()).thenReturn(id);
+        when(registrable.getDependencies()).thenReturn(dependencies);
+        when(registrable.countDependencies(any())).thenReturn(dependencyCount);
+        when(registrable.instantiate(any(), any())).thenReturn(Component.of(id, "reinstantiated"));
+
+        return registrable;
+    }
+
+    @Test
+    @DisplayName("get a registered component from its parent when it does not hold it")
+    void should_get_a_registered_component_from_its_parent_when_it_does_not_hold_it() {
+        final Id id = mock(Id.class);
+        final Registrable registrable = mock(Registrable.class);
+        final Registry registry = Registry.of(singletonMap(id, registrable)).child();
+
+        final Registrable result = registry.get(id);
+
+        assertThat(result).isEqualTo(registrable);
+    }
+
+    @Test
+    @DisplayName("override a component registered in its parent")
+    void should_override_a_component_registered_in_its_parent() {
+        final Id id = mock(Id.class);
+        final Registrable registrable = mock(Registrable.class);
+        final Registry registry = Registry.of(singletonMap(id, mock(Registrable.class))).child();
+
+        when(registrable.getId()).thenReturn(id);
+        final Registry result = registry.add(registrable);
+
+        assertThat(result.get(id)).isEqualTo(registrable);
+    }
+
+    @Test
+    @DisplayName("instantiate only its own components and their dependents over the parent components")
+    void should_instantiate_only_its_own_components_and_their_dependents_over_the_parent_components() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Id overriddenId = Id.of("overridden");
+        final Id dependentId = Id.of("dependent");
+        final Id unrelatedId = Id.of("unrelated");
+        final Registrable unrelated = registrable(unrelatedId, emptyList(), 0);
+
+        final Map<Id, Registrable> registryMap = new HashMap<>();
+        registryMap.put(overriddenId, registrable(overriddenId, emptyList(), 0));
+        registryMap.put(dependentId, registrable(dependentId, singletonList(overriddenId), 1));
+        registryMap.put(unrelatedId, unrelated);
+        final Registry registry = Registry.of(registryMap)
+                .child()
+                .add(registrable(overriddenId, emptyList(), 0));
+
+        final Component unrelatedComponent = Component.of(unrelatedId, "unrelated");
+        final Components parentComponents = Components.empty()
+                .add(Component.of(overriddenId, "parent"))
+                .add(Component.of(dependentId, "parent"))
+                .add(unrelatedComponent);
+
+        final Components result = registry.instantiate(instantiator, parentComponents);
+
+        assertThat(result.<Object>getInstance(overriddenId)).isEqualTo("reinstantiated");
+        assertThat(result.<Object>getInstance(dependentId)).isEqualTo("reinstantiated");
+        assertThat(result.get(unrelatedId)).isSameAs(unrelatedComponent);
+        assertThat(parentComponents.<Object>getInstance(overriddenId)).isEqualTo("parent");
+        verify(unrelated, never()).instantiate(any(), any());
+    }
+
+    @Test
+    @DisplayName("list the identifiers of its own components in instantiation order")
+    void should_list_the_identifiers_of_its_own_components_in_instantiation_order() {
+        final Id inheritedId = Id.of("inherited");
+        final Id overriddenId = Id.of("overridden");
+        final Id dependentId = Id.of("dependent");
+
+        final Map<Id, Registrable> registryMap = new HashMap<>();
+        registryMap.put(inheritedId, registrable(inheritedId, emptyList(), 0));
+        registryMap.put(overriddenId, registrable(overriddenId, emptyList(), 0));
+        registryMap.put(dependentId, registrable(dependentId, singletonList(overriddenId), 1));
+        final Registry parent = Registry.of(registryMap);
+        final Registry child = parent.child().add(registrable(overriddenId, emptyList(), 0));
+
+        assertThat(parent.instantiationOrder()).hasSize(3).endsWith(dependentId);
+        assertThat(child.instantiationOrder()).containsExactly(overriddenId, dependentId);
+    }
+
+    @Test
+    @DisplayName("notify its instantiation listener of the sorting and construction of its components")
+    void should_notify_its_instantiation_listener_of_the_sorting_and_construction_of_its_components() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final InstantiationListener instantiationListener = mock(InstantiationListener.class);
+        final Id id = Id.of("component");
+        final Registrable registrable = registrable(id, emptyList(), 0);
+        final Registry registry = Registry.of(singletonMap(id, registrable)).listenedBy(instantiationListener);
+
+        registry.instantiate(instantiator);
+
+        final InOrder inOrder = inOrder(instantiationListener, registrable);
+        inOrder.verify(instantiationListener).phaseStarted(StartupPhase.SORTING);
+        inOrder.verify(instantiationListener).phaseEnded(StartupPhase.SORTING);
+        inOrder.verify(instantiationListener).phaseStarted(StartupPhase.CONSTRUCTION);
+        inOrder.verify(instantiationListener).instantiationStarted(registrable);
+        inOrder.verify(registrable).instantiate(eq(instantiator), any());
+        inOrder.verify(instantiationListener).instantiationEnded(registrable);
+        inOrder.verify(instantiationListener).phaseEnded(StartupPhase.CONSTRUCTION);
+    }
+
+    @Test
+    @DisplayName("notify its instantiation listener of a failed instantiation")
+    void should_notify_its_instantiation_listener_of_a_failed_instantiation() {
+        final InstantiationListener instantiationListener = mock(InstantiationListener.class);
+        final Id id = Id.of("component");
+        final Registrable registrable = mock(Registrable.class);
+        final Registry registry = Registry.of(singletonMap(id, registrable)).listenedBy(instantiationListener);
+
+        when(registrable.instantiate(any(), any())).thenThrow(new IllegalStateException());
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> registry.instantiate(mock(Instantiator.class)));
+        verify(instantiationListener).instantiationEnded(registrable);
+        verify(instantiationListener).phaseEnded(StartupPhase.CONSTRUCTION);
+    }
+
     @Test
     @DisplayName("be equal")
     void should_be_equal() {
@@ -0,0 +1,165 @@
+package io.fries.ioc.registry;
+
+import io.fries.ioc.components.Id;
+import io.fries.ioc.registry.managed.ManagedRegistrable;
+import io.fries.ioc.registry.proxy.ProxyRegistrable;
+import io.fries.ioc.registry.supplied.SuppliedRegistrable;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+public class SyntheticGraph {
+
+    private static final int MAXIMUM_RANDOM_DEPENDENCIES = 3;
+    private static final int CYCLE_LENGTH = 10;
+
+    private final Map<Id, Registrable> registrables;
+
+    private SyntheticGraph() {
+        this.registrables = new HashMap<>();
+    }
+
+    public static Registry generate(final Shape shape, final int size) {
+        return generate(shape, size, 42);
+    }
+
+    public static Registry generate(final Shape shape, final int size, final long seed) {
+        Objects.requireNonNull(shape);
+
+        if (size <= 0)
+            throw new IllegalArgumentException("The size must be positive");
+
+        final SyntheticGraph graph = new SyntheticGraph();
+        shape.generate(graph, size, new Random(seed));
+
+        return Registry.of(graph.registrables);
+    }
+
+    public static Id nodeId(final int node) {
+        return Id.of("node-" + node);
+    }
+
+    private void supplied(final int node) {
+        add(SuppliedRegistrable.of(nodeId(node), Leaf::new));
+    }
+
+    private void managed(final int node, final List<Integer> dependencies) {
+        add(ManagedRegistrable.of(nodeId(node), typeOf(dependencies.size()), toIds(dependencies)));
+    }
+
+    private void proxy(final int node, final int dependency) {
+        add(ProxyRegistrable.of(nodeId(node), Node.class, Unary.class, singletonList(nodeId(dependency))));
+    }
+
+    private void add(final Registrable registrable) {
+        registrables.put(registrable.getId(), registrable);
+    }
+
+    private static Class<? extends Node> typeOf(final int arity) {
+        switch (arity) {
+            case 0:
+                return Leaf.class;
+            case 1:
+                return Unary.class;
+            case 2:
+                return Binary.class;
+            case 3:
+                return Ternary.class;
+            default:
+                throw new IllegalArgumentException("No synthetic node takes " + arity + " dependencies");
+        }
+    }
+
+    private static List<Id> toIds(final List<Integer> nodes) {
+        final List<Id> ids = new ArrayList<>(nodes.size());
+        nodes.forEach(node -> ids.add(nodeId(node)));
+
+        return ids;
+    }
+
+    public enum Shape {
+        CHAIN {
+            @Override
+            void generate(final SyntheticGraph graph, final int size, final Random random) {
+                graph.supplied(0);
+                for (int node = 1; node < size; node++)
+                    graph.managed(node, singletonList(node - 1));
+            }
+        },
+        FAN {
+            @Override
+            void generate(final SyntheticGraph graph, final int size, final Random random) {
+                graph.supplied(0);
+                for (int node = 1; node < size; node++)
+                    graph.managed(node, singletonList(0));
+            }
+        },
+        DIAMONDS {
+            @Override
+            void generate(final SyntheticGraph graph, final int size, final Random random) {
+                graph.supplied(0);
+                for (int node = 1; node < size; node++) {
+                    final int top = node - 1 - (node - 1) % 3;
+                    graph.managed(node, node % 3 == 0 ? asList(node - 2, node - 1) : singletonList(top));
+                }
+            }
+        },
+        RANDOM_DAG {
+            @Override
+            void generate(final SyntheticGraph graph, final int size, final Random random) {
+                graph.supplied(0);
+                for (int node = 1; node < size; node++) {
+                    final int arity = 1 + random.nextInt(Math.min(node, MAXIMUM_RANDOM_DEPENDENCIES));
+                    final Set<Integer> dependencies = new LinkedHashSet<>();
+
+                    while (dependencies.size() < arity)
+                        dependencies.add(random.nextInt(node));
+
+                    graph.managed(node, new ArrayList<>(dependencies));
+                }
+            }
+        },
+        PROXIED_CYCLES {
+            @Override
+            void generate(final SyntheticGraph graph, final int size, final Random random) {
+                for (int node = 0; node < size; node++) {
+                    final int cycleStart = node - node % CYCLE_LENGTH;
+                    final int next = node + 1 < Math.min(size, cycleStart + CYCLE_LENGTH) ? node + 1 : cycleStart;
+
+                    if (node == cycleStart)
+                        graph.proxy(node, next);
+                    else
+                        graph.managed(node, singletonList(next));
+                }
+            }
+        };
+
+        abstract void generate(final SyntheticGraph graph, final int size, final Random random);
+    }
+
+    public interface Node {
+    }
+
+    static class Leaf implements Node {
+    }
+
+    static class Unary implements Node {
+
+        Unary(final Node dependency) {
+        }
+    }
+
+    static class Binary implements Node {
+
+        Binary(final Node first, final Node second) {
+        }
+    }
+
+    static class Ternary implements Node {
+
+        Ternary(final Node first, final Node second, final Node third) {
+        }
+    }
+}
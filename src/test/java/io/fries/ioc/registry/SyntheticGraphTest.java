@@ -0,0 +1,129 @@
+package io.fries.ioc.registry;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import io.fries.ioc.registry.SyntheticGraph.Node;
+import io.fries.ioc.registry.SyntheticGraph.Shape;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static io.fries.ioc.registry.SyntheticGraph.nodeId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("Synthetic graph should")
+class SyntheticGraphTest {
+
+    private static final int SMALL = 100;
+    private static final int LARGE = 100_000;
+    private static final Duration LARGE_GRAPH_BUDGET = Duration.ofSeconds(20);
+    private static final int TIMED_RUNS = 5;
+    private static final int SCALE = 8;
+    private static final long MAXIMUM_TIME_GROWTH = 32;
+
+    @Test
+    @DisplayName("throw when generating an empty graph")
+    void should_throw_when_generating_an_empty_graph() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SyntheticGraph.generate(Shape.CHAIN, 0))
+                .withMessage("The size must be positive");
+    }
+
+    @Test
+    @DisplayName("throw when generating a graph without a shape")
+    void should_throw_when_generating_a_graph_without_a_shape() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> SyntheticGraph.generate(null, SMALL));
+    }
+
+    @Test
+    @DisplayName("generate the same graph for the same seed")
+    void should_generate_the_same_graph_for_the_same_seed() {
+        assertThat(SyntheticGraph.generate(Shape.RANDOM_DAG, SMALL, 7))
+                .isEqualTo(SyntheticGraph.generate(Shape.RANDOM_DAG, SMALL, 7))
+                .isNotEqualTo(SyntheticGraph.generate(Shape.RANDOM_DAG, SMALL, 8));
+    }
+
+    @Test
+    @DisplayName("instantiate every shape of small graphs")
+    void should_instantiate_every_shape_of_small_graphs() {
+        for (final Shape shape : Shape.values())
+            assertInstantiated(shape, SMALL);
+    }
+
+    @Test
+    @DisplayName("instantiate a large chain in linear time")
+    void should_instantiate_a_large_chain_in_linear_time() {
+        assertInstantiatedInLinearTime(Shape.CHAIN);
+    }
+
+    @Test
+    @DisplayName("instantiate a large fan in linear time")
+    void should_instantiate_a_large_fan_in_linear_time() {
+        assertInstantiatedInLinearTime(Shape.FAN);
+    }
+
+    @Test
+    @DisplayName("instantiate large diamonds in linear time")
+    void should_instantiate_large_diamonds_in_linear_time() {
+        assertInstantiatedInLinearTime(Shape.DIAMONDS);
+    }
+
+    @Test
+    @DisplayName("instantiate a large random graph in linear time")
+    void should_instantiate_a_large_random_graph_in_linear_time() {
+        assertInstantiatedInLinearTime(Shape.RANDOM_DAG);
+    }
+
+    @Test
+    @DisplayName("instantiate large cycles broken by proxies in linear time")
+    void should_instantiate_large_cycles_broken_by_proxies_in_linear_time() {
+        assertInstantiatedInLinearTime(Shape.PROXIED_CYCLES);
+    }
+
+    @Test
+    @DisplayName("materialize the proxies breaking cycles")
+    void should_materialize_the_proxies_breaking_cycles() {
+        final Components components = SyntheticGraph.generate(Shape.PROXIED_CYCLES, SMALL).instantiate(new DefaultInstantiator());
+        final Node proxy = components.getInstance(nodeId(0));
+
+        assertThat(proxy.toString()).startsWith(SyntheticGraph.Unary.class.getName());
+    }
+
+    // Instantiating eight times as many components must take well below the sixty-four times a quadratic instantiation would.
+    private void assertInstantiatedInLinearTime(final Shape shape) {
+        assertTimeoutPreemptively(LARGE_GRAPH_BUDGET, () -> {
+            assertInstantiated(shape, LARGE / SCALE);
+
+            final long smallNanos = timeInstantiation(shape, LARGE / SCALE);
+            final long largeNanos = timeInstantiation(shape, LARGE);
+
+            assertThat(largeNanos).isLessThan(smallNanos * MAXIMUM_TIME_GROWTH);
+            assertInstantiated(shape, LARGE);
+        });
+    }
+
+    private long timeInstantiation(final Shape shape, final int size) {
+        final Registry registry = SyntheticGraph.generate(shape, size);
+        long fastestNanos = Long.MAX_VALUE;
+
+        for (int run = 0; run < TIMED_RUNS; run++) {
+            System.gc();
+            final long startNanos = System.nanoTime();
+            registry.instantiate(new DefaultInstantiator());
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - startNanos);
+        }
+
+        return fastestNanos;
+    }
+
+    private void assertInstantiated(final Shape shape, final int size) {
+        final Components components = SyntheticGraph.generate(shape, size).instantiate(new DefaultInstantiator());
+
+        for (int node = 0; node < size; node++)
+            assertThat(components.<Node>getInstance(nodeId(node))).isInstanceOf(Node.class);
+    }
+}
@@ -2,6 +2,10 @@ package io.fries.ioc.registry.managed;
 
 import io.fries.ioc.components.Id;
 import io.fries.ioc.registry.Registrable;
+import io.fries.ioc.registry.pooled.PoolConfiguration;
+import io.fries.ioc.registry.pooled.PooledRegistrable;
+import io.fries.ioc.registry.scoped.ScopedRegistrable;
+import io.fries.ioc.registry.thread.ThreadRegistrable;
 import io.fries.ioc.scanner.dependencies.DependenciesScanner;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -95,6 +99,57 @@ class ManagedRegistrableBuilderTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("build a thread registrable when scoped per thread")
+    void should_build_a_thread_registrable_when_scoped_per_thread() {
+        final Id id = mock(Id.class);
+        final List<Id> dependencies = singletonList(Id.of(mock(Object.class)));
+        final ManagedRegistrableBuilder builder = new ManagedRegistrableBuilder(dependenciesScanner, id, Object.class, dependencies);
+        final ThreadRegistrable expected = ThreadRegistrable.of(id, Object.class, dependencies, true);
+
+        final Registrable result = builder.perThread(true).build();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("build a scoped registrable when scoped")
+    void should_build_a_scoped_registrable_when_scoped() {
+        final Id id = mock(Id.class);
+        final List<Id> dependencies = singletonList(Id.of(mock(Object.class)));
+        final ManagedRegistrableBuilder builder = new ManagedRegistrableBuilder(dependenciesScanner, id, Object.class, dependencies);
+        final ScopedRegistrable expected = ScopedRegistrable.of(id, Object.class, dependencies);
+
+        final Registrable result = builder.scoped().build();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("build a pooled registrable when pooled")
+    void should_build_a_pooled_registrable_when_pooled() {
+        final Id id = mock(Id.class);
+        final List<Id> dependencies = singletonList(Id.of(mock(Object.class)));
+        final ManagedRegistrableBuilder builder = new ManagedRegistrableBuilder(dependenciesScanner, id, Object.class, dependencies);
+        final PooledRegistrable expected = PooledRegistrable.of(id, Object.class, dependencies, PoolConfiguration.of(1, 4));
+
+        final Registrable result = builder.pooled(1, 4).build();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("not close per thread instances by default")
+    void should_not_close_per_thread_instances_by_default() {
+        final Id id = mock(Id.class);
+        final ManagedRegistrableBuilder builder = new ManagedRegistrableBuilder(dependenciesScanner, id, Object.class, emptyList());
+        final ManagedRegistrableBuilder expected = new ManagedRegistrableBuilder(dependenciesScanner, id, Object.class, emptyList()).perThread(false);
+
+        final ManagedRegistrableBuilder result = builder.perThread();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
     @Test
     @DisplayName("be equal")
     void should_be_equal() {
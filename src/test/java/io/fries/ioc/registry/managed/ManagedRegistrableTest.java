@@ -44,6 +44,14 @@ class ManagedRegistrableTest {
                 .isThrownBy(() -> ManagedRegistrable.of(mock(Id.class), Object.class, dependencies));
     }
 
+    @Test
+    @DisplayName("expose the type it instantiates")
+    void should_expose_the_type_it_instantiates() {
+        final ManagedRegistrable managedRegistrable = ManagedRegistrable.of(Id.of("id"), Object.class, emptyList());
+
+        assertThat(managedRegistrable.getType()).isEqualTo(Object.class);
+    }
+
     @Test
     @DisplayName("count its number of components")
     void should_count_its_number_of_dependencies() {
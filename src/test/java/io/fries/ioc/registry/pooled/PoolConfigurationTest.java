@@ -0,0 +1,75 @@
+package io.fries.ioc.registry.pooled;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Pool configuration should")
+class PoolConfigurationTest {
+
+    @Test
+    @DisplayName("throw when providing a negative minimum size")
+    void should_throw_when_providing_a_negative_minimum_size() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PoolConfiguration.of(-1, 1))
+                .withMessage("The minimum size of a pool cannot be negative");
+    }
+
+    @Test
+    @DisplayName("throw when providing a maximum size lower than the minimum size")
+    void should_throw_when_providing_a_maximum_size_lower_than_the_minimum_size() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PoolConfiguration.of(2, 1))
+                .withMessage("The maximum size of a pool must be positive and greater than its minimum size");
+    }
+
+    @Test
+    @DisplayName("throw when providing a negative idle timeout")
+    void should_throw_when_providing_a_negative_idle_timeout() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> PoolConfiguration.of(0, 1).evictIdleAfter(Duration.ofSeconds(-1)))
+                .withMessage("The idle timeout of a pool cannot be negative");
+    }
+
+    @Test
+    @DisplayName("not evict idle instances by default")
+    void should_not_evict_idle_instances_by_default() {
+        final PoolConfiguration configuration = PoolConfiguration.of(0, 1);
+
+        assertThat(configuration.evictsIdleInstances()).isFalse();
+        assertThat(configuration.evictIdleAfter(Duration.ofSeconds(1)).evictsIdleInstances()).isTrue();
+    }
+
+    @Test
+    @DisplayName("consider every instance valid by default")
+    void should_consider_every_instance_valid_by_default() {
+        final PoolConfiguration configuration = PoolConfiguration.of(0, 1);
+
+        assertThat(configuration.isValid(new Object())).isTrue();
+        assertThat(configuration.validatedBy(instance -> false).isValid(new Object())).isFalse();
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final PoolConfiguration firstConfiguration = PoolConfiguration.of(1, 2);
+        final PoolConfiguration secondConfiguration = PoolConfiguration.of(1, 2);
+
+        assertThat(firstConfiguration).isEqualTo(secondConfiguration);
+        assertThat(firstConfiguration.hashCode()).isEqualTo(secondConfiguration.hashCode());
+    }
+
+    @Test
+    @DisplayName("be formatted as a string")
+    void should_be_formatted_as_a_string() {
+        final PoolConfiguration configuration = PoolConfiguration.of(1, 2);
+
+        final String result = configuration.toString();
+
+        assertThat(result).isEqualTo("PoolConfiguration{minimumSize=1, maximumSize=2, idleTimeout=PT0S}");
+    }
+}
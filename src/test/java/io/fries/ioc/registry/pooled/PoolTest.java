@@ -0,0 +1,306 @@
+package io.fries.ioc.registry.pooled;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Pool should")
+class PoolTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("throw when providing a null instance supplier")
+    void should_throw_when_providing_a_null_instance_supplier() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Pool.of(null, PoolConfiguration.of(0, 1)));
+    }
+
+    @Test
+    @DisplayName("create its minimum number of instances eagerly")
+    void should_create_its_minimum_number_of_instances_eagerly() {
+        final AtomicInteger created = new AtomicInteger();
+
+        final Pool<Object> pool = Pool.of(created::incrementAndGet, PoolConfiguration.of(2, 4));
+
+        assertThat(created.get()).isEqualTo(2);
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.countIdle()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("reuse returned instances")
+    void should_reuse_returned_instances() {
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, 4));
+
+        final Object instance;
+        try (final Handle<Object> handle = pool.borrow()) {
+            instance = handle.get();
+        }
+        try (final Handle<Object> handle = pool.borrow()) {
+            assertThat(handle.get()).isSameAs(instance);
+        }
+
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("not lend more instances than its maximum size")
+    void should_not_lend_more_instances_than_its_maximum_size() {
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, 1));
+
+        final Handle<Object> handle = pool.borrow();
+        final Optional<Handle<Object>> exhausted = pool.tryBorrow();
+        handle.close();
+        final Optional<Handle<Object>> available = pool.tryBorrow();
+
+        assertThat(exhausted).isEmpty();
+        assertThat(available).isPresent();
+    }
+
+    @Test
+    @DisplayName("throw when no instance becomes available before the borrowing timeout")
+    void should_throw_when_no_instance_becomes_available_before_the_borrowing_timeout() {
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, 1), () -> clock.getAndAdd(Duration.ofMillis(1).toNanos()));
+        final Handle<Object> handle = pool.borrow();
+        final Object instance = handle.get();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> pool.borrow(Duration.ofMillis(10)))
+                .withMessage("No pooled instance became available within: PT0.01S");
+        handle.close();
+        assertThat(pool.borrow(Duration.ofMillis(10)).get()).isSameAs(instance);
+    }
+
+    @Test
+    @DisplayName("throw when borrowing with a negative timeout")
+    void should_throw_when_borrowing_with_a_negative_timeout() {
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, 1));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pool.borrow(Duration.ofMillis(-1)))
+                .withMessage("The borrowing timeout cannot be negative");
+    }
+
+    @Test
+    @DisplayName("throw when using a returned handle")
+    void should_throw_when_using_a_returned_handle() {
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, 1));
+        final Handle<Object> handle = pool.borrow();
+
+        handle.close();
+        handle.close();
+
+        assertThat(pool.countIdle()).isEqualTo(1);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(handle::get)
+                .withMessage("This handle has already been returned to its pool");
+    }
+
+    @Test
+    @DisplayName("destroy invalidated instances")
+    void should_destroy_invalidated_instances() throws Exception {
+        final AutoCloseable instance = mock(AutoCloseable.class);
+        final Pool<AutoCloseable> pool = Pool.of(() -> instance, PoolConfiguration.of(0, 1));
+
+        pool.borrow().invalidate();
+
+        verify(instance).close();
+        assertThat(pool.size()).isZero();
+        assertThat(pool.countIdle()).isZero();
+    }
+
+    @Test
+    @DisplayName("destroy its idle instances and the returned ones once closed")
+    void should_destroy_its_idle_instances_and_the_returned_ones_once_closed() throws Exception {
+        final AutoCloseable idleInstance = mock(AutoCloseable.class);
+        final AutoCloseable borrowedInstance = mock(AutoCloseable.class);
+        final Pool<AutoCloseable> pool = Pool.of(new ArrayDeque<>(asList(idleInstance, borrowedInstance))::pop, PoolConfiguration.of(0, 2));
+        final Handle<AutoCloseable> idleHandle = pool.borrow();
+        final Handle<AutoCloseable> handle = pool.borrow();
+        idleHandle.close();
+
+        pool.close();
+        verify(idleInstance).close();
+        verify(borrowedInstance, never()).close();
+
+        handle.close();
+        verify(borrowedInstance).close();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("throw when borrowing from a closed pool")
+    void should_throw_when_borrowing_from_a_closed_pool() {
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, 1));
+
+        pool.close();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(pool::tryBorrow)
+                .withMessage("This pool has already been closed");
+    }
+
+    @Test
+    @DisplayName("replace instances that fail their validation")
+    void should_replace_instances_that_fail_their_validation() {
+        final AtomicInteger created = new AtomicInteger();
+        final PoolConfiguration configuration = PoolConfiguration.of(1, 1).validatedBy((Integer instance) -> instance > 1);
+        final Pool<Integer> pool = Pool.of(created::incrementAndGet, configuration);
+
+        try (final Handle<Integer> handle = pool.borrow()) {
+            assertThat(handle.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("evict instances idle for too long down to its minimum size")
+    void should_evict_instances_idle_for_too_long_down_to_its_minimum_size() {
+        final PoolConfiguration configuration = PoolConfiguration.of(1, 3).evictIdleAfter(Duration.ofMillis(1));
+        final Pool<Object> pool = Pool.of(Object::new, configuration, clock::get);
+        final Handle<Object> firstHandle = pool.borrow();
+        final Handle<Object> secondHandle = pool.borrow();
+        final Handle<Object> thirdHandle = pool.borrow();
+        firstHandle.close();
+        secondHandle.close();
+        thirdHandle.close();
+
+        clock.addAndGet(Duration.ofMillis(2).toNanos());
+        final int evicted = pool.evictIdle();
+
+        assertThat(evicted).isEqualTo(2);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("never evict below its minimum size when swept concurrently")
+    void should_never_evict_below_its_minimum_size_when_swept_concurrently() throws Exception {
+        final int sweepers = 4;
+        final PoolConfiguration configuration = PoolConfiguration.of(1, sweepers).evictIdleAfter(Duration.ofMillis(1));
+        final ExecutorService executor = Executors.newFixedThreadPool(sweepers);
+
+        try {
+            for (int round = 0; round < 10_000; round++) {
+                final Pool<Object> pool = Pool.of(Object::new, configuration, clock::get);
+                final List<Handle<Object>> handles = new ArrayList<>();
+                for (int index = 0; index < sweepers; index++)
+                    handles.add(pool.borrow());
+                handles.forEach(Handle::close);
+                clock.addAndGet(Duration.ofMillis(2).toNanos());
+
+                final CyclicBarrier barrier = new CyclicBarrier(sweepers);
+                final List<Future<Integer>> evictions = new ArrayList<>();
+                for (int index = 0; index < sweepers; index++) {
+                    evictions.add(executor.submit(() -> {
+                        barrier.await();
+                        return pool.evictIdle();
+                    }));
+                }
+
+                int evicted = 0;
+                for (final Future<Integer> eviction : evictions)
+                    evicted += eviction.get(5, TimeUnit.SECONDS);
+
+                assertThat(evicted).isEqualTo(sweepers - 1);
+                assertThat(pool.size()).isEqualTo(1);
+                assertThat(pool.countIdle()).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("replace the instances failing their validation even when closing them fails")
+    void should_replace_the_instances_failing_their_validation_even_when_closing_them_fails() throws Exception {
+        final AutoCloseable invalidInstance = mock(AutoCloseable.class);
+        final AutoCloseable validInstance = mock(AutoCloseable.class);
+        doThrow(new IllegalStateException("Already broken")).when(invalidInstance).close();
+        final PoolConfiguration configuration = PoolConfiguration.of(1, 1).validatedBy(instance -> instance != invalidInstance);
+        final Pool<AutoCloseable> pool = Pool.of(new ArrayDeque<>(asList(invalidInstance, validInstance))::pop, configuration);
+
+        try (final Handle<AutoCloseable> handle = pool.borrow()) {
+            assertThat(handle.get()).isSameAs(validInstance);
+        }
+
+        verify(invalidInstance).close();
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("release the instances it invalidates even when closing them fails")
+    void should_release_the_instances_it_invalidates_even_when_closing_them_fails() throws Exception {
+        final AutoCloseable instance = mock(AutoCloseable.class);
+        doThrow(new IllegalStateException("Already broken")).when(instance).close();
+        final Pool<AutoCloseable> pool = Pool.of(() -> instance, PoolConfiguration.of(0, 1));
+
+        pool.borrow().invalidate();
+
+        verify(instance).close();
+        assertThat(pool.size()).isZero();
+        assertThat(pool.tryBorrow()).isPresent();
+    }
+
+    @Test
+    @DisplayName("never lend the same instance twice under contention")
+    void should_never_lend_the_same_instance_twice_under_contention() throws InterruptedException {
+        final int threads = 8;
+        final int iterations = 10_000;
+        final Pool<Object> pool = Pool.of(Object::new, PoolConfiguration.of(0, threads / 2));
+        final Set<Object> lent = ConcurrentHashMap.newKeySet();
+        final AtomicInteger collisions = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int thread = 0; thread < threads; thread++) {
+            executor.execute(() -> {
+                awaitQuietly(start);
+                for (int iteration = 0; iteration < iterations; iteration++) {
+                    try (final Handle<Object> handle = pool.borrow()) {
+                        if (!lent.add(handle.get()))
+                            collisions.incrementAndGet();
+                        lent.remove(handle.get());
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(collisions.get()).isZero();
+        assertThat(pool.size()).isLessThanOrEqualTo(threads / 2);
+        assertThat(pool.countIdle()).isEqualTo(pool.size());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
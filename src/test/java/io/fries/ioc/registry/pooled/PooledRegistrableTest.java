@@ -0,0 +1,109 @@
+package io.fries.ioc.registry.pooled;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Pooled registrable should")
+class PooledRegistrableTest {
+
+    private static final PoolConfiguration CONFIGURATION = PoolConfiguration.of(1, 2);
+
+    @Test
+    @DisplayName("throw when providing a null identifier")
+    void should_throw_when_providing_a_null_id() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PooledRegistrable.of(null, Object.class, emptyList(), CONFIGURATION));
+    }
+
+    @Test
+    @DisplayName("throw when providing a null type")
+    void should_throw_when_providing_a_null_type() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PooledRegistrable.of(mock(Id.class), null, emptyList(), CONFIGURATION));
+    }
+
+    @Test
+    @DisplayName("throw when providing null components")
+    void should_throw_when_providing_null_dependencies() {
+        final List<Id> dependencies = null;
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PooledRegistrable.of(mock(Id.class), Object.class, dependencies, CONFIGURATION));
+    }
+
+    @Test
+    @DisplayName("throw when providing a null configuration")
+    void should_throw_when_providing_a_null_configuration() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PooledRegistrable.of(mock(Id.class), Object.class, emptyList(), null));
+    }
+
+    @Test
+    @DisplayName("create a pool of instances using the instantiator")
+    void should_create_a_pool_of_instances_using_the_instantiator() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Components components = mock(Components.class);
+        final Id dependencyId = mock(Id.class);
+        final Component dependency = mock(Component.class);
+        final Object instance = mock(Object.class);
+
+        final Id id = mock(Id.class);
+        final PooledRegistrable registrable = PooledRegistrable.of(id, Object.class, singletonList(dependencyId), CONFIGURATION);
+
+        when(components.findAllById(singletonList(dependencyId))).thenReturn(singletonList(dependency));
+        when(instantiator.createInstance(Object.class, singletonList(dependency))).thenReturn(instance);
+        final Component component = registrable.instantiate(instantiator, components);
+        final Pool<Object> pool = component.getInstance();
+
+        verify(instantiator).createInstance(Object.class, singletonList(dependency));
+        assertThat(component.getId()).isEqualTo(id);
+        try (final Handle<Object> handle = pool.borrow()) {
+            assertThat(handle.get()).isEqualTo(instance);
+        }
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final Id id = mock(Id.class);
+        final PooledRegistrable firstRegistrable = PooledRegistrable.of(id, Object.class, emptyList(), CONFIGURATION);
+        final PooledRegistrable secondRegistrable = PooledRegistrable.of(id, Object.class, emptyList(), CONFIGURATION);
+
+        assertThat(firstRegistrable).isEqualTo(secondRegistrable);
+        assertThat(firstRegistrable.hashCode()).isEqualTo(secondRegistrable.hashCode());
+    }
+
+    @Test
+    @DisplayName("not be equal")
+    void should_not_be_equal() {
+        final PooledRegistrable firstRegistrable = PooledRegistrable.of(mock(Id.class), Object.class, emptyList(), CONFIGURATION);
+        final PooledRegistrable secondRegistrable = PooledRegistrable.of(mock(Id.class), Object.class, emptyList(), CONFIGURATION);
+
+        assertThat(firstRegistrable).isNotEqualTo(secondRegistrable);
+        assertThat(firstRegistrable.hashCode()).isNotEqualTo(secondRegistrable.hashCode());
+    }
+
+    @Test
+    @DisplayName("be formatted as a string")
+    void should_be_formatted_as_a_string() {
+        final Id id = mock(Id.class);
+        final PooledRegistrable registrable = PooledRegistrable.of(id, Object.class, emptyList(), CONFIGURATION);
+
+        when(id.toString()).thenReturn("Id");
+        final String result = registrable.toString();
+
+        assertThat(result).isEqualTo("PooledRegistrable{id=Id, type=class java.lang.Object, components=[], configuration=PoolConfiguration{minimumSize=1, maximumSize=2, idleTimeout=PT0S}}");
+    }
+}
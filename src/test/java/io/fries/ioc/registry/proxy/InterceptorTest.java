@@ -0,0 +1,143 @@
+package io.fries.ioc.registry.proxy;
+
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.DefaultInstantiator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@DisplayName("Interceptor should")
+class InterceptorTest {
+
+    @Test
+    @DisplayName("throw when created from a null function")
+    void should_throw_when_created_from_a_null_function() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Interceptor.before(null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Interceptor.after(null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Interceptor.timed(null));
+    }
+
+    @Test
+    @DisplayName("run an action with the arguments before the invocation")
+    void should_run_an_action_with_the_arguments_before_the_invocation() {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final Calculator calculator = proxy(Interceptor.before((method, args) -> calls.add(method.getName() + "(" + args[0] + ", " + args[1] + ")")));
+
+        final int result = calculator.add(2, 3);
+
+        assertThat(result).isEqualTo(5);
+        assertThat(calls).containsExactly("add(2, 3)");
+    }
+
+    @Test
+    @DisplayName("transform the value returned by the invocation")
+    void should_transform_the_value_returned_by_the_invocation() {
+        final Calculator calculator = proxy(Interceptor.after((method, result) -> (Integer) result * 10));
+
+        assertThat(calculator.add(2, 3)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("record the time spent by the invocation")
+    void should_record_the_time_spent_by_the_invocation() throws NoSuchMethodException {
+        final Map<Method, Long> timings = new ConcurrentHashMap<>();
+        final Calculator calculator = proxy(Interceptor.timed(timings::put));
+
+        calculator.reset();
+
+        assertThat(timings).containsOnlyKeys(Calculator.class.getMethod("reset"));
+        assertThat(timings.values()).allSatisfy(nanos -> assertThat(nanos).isNotNegative());
+    }
+
+    @Test
+    @DisplayName("record the time spent by a failed invocation")
+    void should_record_the_time_spent_by_a_failed_invocation() throws NoSuchMethodException {
+        final Map<Method, Long> timings = new ConcurrentHashMap<>();
+        final Calculator calculator = proxy(Interceptor.timed(timings::put));
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> calculator.divide(1, 0));
+
+        assertThat(timings).containsOnlyKeys(Calculator.class.getMethod("divide", int.class, int.class));
+        assertThat(timings.values()).allSatisfy(nanos -> assertThat(nanos).isNotNegative());
+    }
+
+    @Test
+    @DisplayName("rethrow the exception of the target without any interceptor")
+    void should_rethrow_the_exception_of_the_target_without_any_interceptor() {
+        final Calculator calculator = proxy();
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> calculator.divide(1, 0));
+    }
+
+    @Test
+    @DisplayName("run the first registered interceptor outermost")
+    void should_run_the_first_registered_interceptor_outermost() {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final Calculator calculator = proxy(
+                Interceptor.before((method, args) -> calls.add("first")),
+                Interceptor.before((method, args) -> calls.add("second"))
+        );
+
+        calculator.reset();
+
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("throw when an interceptor changes the invocation type")
+    void should_throw_when_an_interceptor_changes_the_invocation_type() {
+        final Calculator calculator = proxy((method, invocation) -> MethodHandles.dropArguments(invocation, 0, String.class));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(calculator::reset)
+                .withMessageStartingWith("The interceptor must preserve the invocation type");
+    }
+
+    private Calculator proxy(final Interceptor... interceptors) {
+        ProxyRegistrable proxyRegistrable = ProxyRegistrable.of(Id.of("calculator"), Calculator.class, SimpleCalculator.class, emptyList());
+        for (final Interceptor interceptor : interceptors)
+            proxyRegistrable = proxyRegistrable.interceptedBy(interceptor);
+
+        return proxyRegistrable.instantiate(new DefaultInstantiator(), Components.empty()).getInstance();
+    }
+
+    public interface Calculator {
+
+        int add(int first, int second);
+
+        int divide(int dividend, int divisor);
+
+        void reset();
+    }
+
+    public static class SimpleCalculator implements Calculator {
+
+        @Override
+        public int add(final int first, final int second) {
+            return first + second;
+        }
+
+        @Override
+        public int divide(final int dividend, final int divisor) {
+            return dividend / divisor;
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package io.fries.ioc.registry.proxy;
 
+import io.fries.ioc.instrumentation.ContainerMetrics;
+import io.fries.ioc.instrumentation.DefaultContainerMetrics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import static io.fries.ioc.AllocationBudget.assertAllocatesAtMost;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -45,4 +56,179 @@ class ProxyInvocationHandlerTest {
             assertThat(result).isEqualTo(expectedValue);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("report the invocations and the materialization to the installed metrics")
+    void should_report_the_invocations_and_the_materialization_to_the_installed_metrics() {
+        final DefaultContainerMetrics metrics = new DefaultContainerMetrics();
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(() -> "instance");
+
+        ContainerMetrics.install(metrics);
+        try {
+            assertDoesNotThrow(() -> {
+                final Method method = Object.class.getMethod("toString");
+
+                proxyInvocationHandler.invoke(null, method, new Object[]{});
+                proxyInvocationHandler.invoke(null, method, new Object[]{});
+
+                assertThat(metrics.getInvocations().get(method).getCount()).isEqualTo(2);
+                assertThat(metrics.getMaterializations().get(String.class).getCount()).isEqualTo(1);
+            });
+        } finally {
+            ContainerMetrics.install(ContainerMetrics.none());
+        }
+    }
+
+    @Test
+    @DisplayName("not allocate when invoking a method without parameters")
+    void should_not_allocate_when_invoking_a_method_without_parameters() {
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(() -> "instance");
+
+        assertDoesNotThrow(() -> {
+            final Method method = Object.class.getMethod("toString");
+
+            assertAllocatesAtMost(0, () -> invoke(proxyInvocationHandler, method));
+        });
+    }
+
+    @Test
+    @DisplayName("compile the interceptor chain of a method once")
+    void should_compile_the_interceptor_chain_of_a_method_once() {
+        final AtomicInteger compilations = new AtomicInteger();
+        final Interceptor interceptor = (method, invocation) -> {
+            compilations.incrementAndGet();
+            return invocation;
+        };
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(() -> "instance", singletonList(interceptor));
+
+        assertDoesNotThrow(() -> {
+            final Method method = Object.class.getMethod("toString");
+
+            assertThat(invoke(proxyInvocationHandler, method)).isEqualTo("instance");
+            assertThat(invoke(proxyInvocationHandler, method)).isEqualTo("instance");
+        });
+        assertThat(compilations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("throw when providing null interceptors")
+    void should_throw_when_providing_null_interceptors() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ProxyInvocationHandler.of(() -> "instance", null));
+    }
+
+    @Test
+    @DisplayName("throw when providing a null materialization executor")
+    void should_throw_when_providing_a_null_materialization_executor() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ProxyInvocationHandler.of(() -> "instance", emptyList(), null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("return the future of an asynchronous method before materializing its instance")
+    void should_return_the_future_of_an_asynchronous_method_before_materializing_its_instance() throws Exception {
+        final List<Runnable> materializations = new ArrayList<>();
+        final AtomicInteger supplied = new AtomicInteger();
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(() -> {
+            supplied.incrementAndGet();
+            return (Fetcher) () -> CompletableFuture.completedFuture("fetched");
+        }, emptyList(), materializations::add);
+        final Method method = Fetcher.class.getMethod("fetch");
+
+        final CompletableFuture<String> first = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+        final CompletableFuture<String> second = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+
+        assertThat(first).isNotDone();
+        assertThat(supplied).hasValue(0);
+        assertThat(materializations).hasSize(1);
+
+        materializations.get(0).run();
+
+        assertThat(first).isNotDone();
+        assertThat(materializations).hasSize(3);
+
+        materializations.subList(1, 3).forEach(Runnable::run);
+
+        assertThat(first).isCompletedWithValue("fetched");
+        assertThat(second).isCompletedWithValue("fetched");
+        assertThat(supplied).hasValue(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("fail the future of an asynchronous method when the materialization fails")
+    void should_fail_the_future_of_an_asynchronous_method_when_the_materialization_fails() throws Exception {
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(() -> {
+            throw new IllegalStateException("Unavailable");
+        }, emptyList(), Runnable::run);
+        final Method method = Fetcher.class.getMethod("fetch");
+
+        final CompletableFuture<String> future = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(future::join)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("retry a failed materialization on the next invocation")
+    void should_retry_a_failed_materialization_on_the_next_invocation() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(() -> {
+            if (attempts.incrementAndGet() == 1)
+                throw new IllegalStateException("Unavailable");
+
+            return (Fetcher) () -> CompletableFuture.completedFuture("fetched");
+        }, emptyList(), Runnable::run);
+        final Method method = Fetcher.class.getMethod("fetch");
+
+        final CompletableFuture<String> failed = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+        final CompletableFuture<String> retried = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retried).isCompletedWithValue("fetched");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("fail the call whose materialization is rejected and retry it on the next call")
+    void should_fail_the_call_whose_materialization_is_rejected_and_retry_it_on_the_next_call() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final ProxyInvocationHandler proxyInvocationHandler = ProxyInvocationHandler.of(
+                () -> (Fetcher) () -> CompletableFuture.completedFuture("fetched"),
+                emptyList(),
+                runnable -> {
+                    if (executions.incrementAndGet() == 1)
+                        throw new RejectedExecutionException("Shut down");
+
+                    runnable.run();
+                }
+        );
+        final Method method = Fetcher.class.getMethod("fetch");
+
+        final CompletableFuture<String> rejected = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+        final CompletableFuture<String> retried = (CompletableFuture<String>) invoke(proxyInvocationHandler, method);
+
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(rejected::join)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(retried).isCompletedWithValue("fetched");
+    }
+
+    private Object invoke(final ProxyInvocationHandler proxyInvocationHandler, final Method method) {
+        try {
+            return proxyInvocationHandler.invoke(null, method, null);
+        } catch (final Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    public interface Fetcher {
+
+        CompletableFuture<String> fetch();
+    }
+}
@@ -108,6 +108,22 @@ class ProxyRegistrableBuilderTest {
         assertThat(result).isEqualTo(registrable);
     }
 
+    @Test
+    @DisplayName("build the registrable proxy with its interceptors")
+    void should_build_the_registrable_proxy_with_its_interceptors() {
+        final Id id = mock(Id.class);
+        final List<Id> dependencies = singletonList(Id.of(mock(Object.class)));
+        final Interceptor first = (method, invocation) -> invocation;
+        final Interceptor second = (method, invocation) -> invocation;
+        final ProxyRegistrableBuilder builder = new ProxyRegistrableBuilder(dependenciesScanner, id, Supplier.class, Object.class, dependencies)
+                .interceptedBy(first)
+                .interceptedBy(second);
+
+        final Registrable result = builder.build();
+
+        assertThat(result).isEqualTo(ProxyRegistrable.of(id, Supplier.class, Object.class, dependencies).interceptedBy(first).interceptedBy(second));
+    }
+
     @Test
     @DisplayName("build the registrable proxy with inferred dependencies")
     void should_build_the_registrable_proxy_with_inferred_dependencies() {
@@ -153,6 +169,6 @@ class ProxyRegistrableBuilderTest {
         when(id.toString()).thenReturn("Id");
         final String result = builder.toString();
 
-        assertThat(result).isEqualTo("ProxyRegistrableBuilder{id=Id, interfaceType=interface java.util.function.Supplier, type=class java.lang.Object, dependencies=[]}");
+        assertThat(result).isEqualTo("ProxyRegistrableBuilder{id=Id, interfaceType=interface java.util.function.Supplier, type=class java.lang.Object, dependencies=[], interceptors=[]}");
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package io.fries.ioc.registry.proxy;
 import io.fries.ioc.components.Component;
 import io.fries.ioc.components.Components;
 import io.fries.ioc.components.Id;
+import io.fries.ioc.components.Initializable;
 import io.fries.ioc.instantiator.Instantiator;
 import io.fries.ioc.registry.Registry;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Component proxy should")
@@ -58,6 +60,14 @@ class ProxyRegistrableTest {
                 .isThrownBy(() -> ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, null));
     }
     
+    @Test
+    @DisplayName("expose the interface type it proxies")
+    void should_expose_the_interface_type_it_proxies() {
+        final ProxyRegistrable proxy = ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, emptyList());
+
+        assertThat(proxy.getInterfaceType()).isEqualTo(Supplier.class);
+    }
+
     @Test
     @DisplayName("always count zero components as they are not needed to create a proxy")
     void should_count_zero_dependencies() {
@@ -68,6 +78,14 @@ class ProxyRegistrableTest {
         assertThat(dependenciesCount).isEqualTo(NO_DEPENDENCIES);
     }
 
+    @Test
+    @DisplayName("be lazy as its instance is only created on its first invocation")
+    void should_be_lazy() {
+        final ProxyRegistrable proxy = ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, singletonList(mock(Id.class)));
+
+        assertThat(proxy.isLazy()).isTrue();
+    }
+
     @Test
     @DisplayName("create a proxy of the provided interface type without actually instantiating the object")
     void should_create_a_proxy_of_the_provided_interface_type() {
@@ -120,6 +138,127 @@ class ProxyRegistrableTest {
         when(id.toString()).thenReturn("Id");
         final String result = proxy.toString();
 
-        assertThat(result).isEqualTo("ProxyRegistrable{id=Id, interfaceType=interface java.util.function.Supplier, type=class java.lang.Object, components=[]}");
+        assertThat(result).isEqualTo("ProxyRegistrable{id=Id, interfaceType=interface java.util.function.Supplier, type=class java.lang.Object, components=[], interceptors=[]}");
+    }
+
+    @Test
+    @DisplayName("unwrap any other instance as itself")
+    void should_unwrap_any_other_instance_as_itself() {
+        final Object instance = new Object();
+
+        assertThat(ProxyRegistrable.unwrap(instance)).containsSame(instance);
+    }
+
+    @Test
+    @DisplayName("not unwrap a proxy that was never invoked")
+    void should_not_unwrap_a_proxy_that_was_never_invoked() {
+        final Component component = ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, emptyList())
+                .instantiate(mock(Instantiator.class), mock(Components.class));
+
+        assertThat(ProxyRegistrable.unwrap(component.getRawInstance())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("unwrap the instance of an invoked proxy")
+    void should_unwrap_the_instance_of_an_invoked_proxy() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Supplier<?> instance = () -> "value";
+        final Component component = ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, emptyList())
+                .instantiate(instantiator, mock(Components.class));
+
+        when(instantiator.createInstance(any(), any())).thenReturn(instance);
+        component.<Supplier<?>>getInstance().get();
+
+        assertThat(ProxyRegistrable.unwrap(component.getRawInstance())).containsSame(instance);
+    }
+
+    @Test
+    @DisplayName("initialize its instance when it is materialized")
+    void should_initialize_its_instance_when_it_is_materialized() throws Exception {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Initializable instance = mock(Initializable.class);
+        final Component component = ProxyRegistrable.of(mock(Id.class), Initializable.class, Object.class, emptyList())
+                .instantiate(instantiator, mock(Components.class));
+
+        when(instantiator.createInstance(any(), any())).thenReturn(instance);
+        component.<Initializable>getInstance().initialize();
+
+        verify(instance, times(2)).initialize();
+    }
+
+    @Test
+    @DisplayName("materialize a proxy without invoking it")
+    void should_materialize_a_proxy_without_invoking_it() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Supplier<?> instance = mock(Supplier.class);
+        final Component component = ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, emptyList())
+                .instantiate(instantiator, mock(Components.class));
+
+        when(instantiator.createInstance(any(), any())).thenReturn(instance);
+        ProxyRegistrable.materialize(component.getRawInstance());
+        ProxyRegistrable.materialize(component.getRawInstance());
+
+        verify(instantiator).createInstance(any(), any());
+        verifyZeroInteractions(instance);
+        assertThat(ProxyRegistrable.unwrap(component.getRawInstance())).containsSame(instance);
+    }
+
+    @Test
+    @DisplayName("notify the first invocation of a proxy only")
+    void should_notify_the_first_invocation_of_a_proxy_only() {
+        final Runnable listener = mock(Runnable.class);
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Component component = ProxyRegistrable.of(mock(Id.class), Supplier.class, Object.class, emptyList())
+                .instantiate(instantiator, mock(Components.class));
+
+        when(instantiator.createInstance(any(), any())).thenReturn((Supplier<?>) () -> "value");
+        ProxyRegistrable.listenFirstInvocation(component.getRawInstance(), listener);
+        ProxyRegistrable.materialize(component.getRawInstance());
+        verify(listener, never()).run();
+
+        component.<Supplier<?>>getInstance().get();
+        component.<Supplier<?>>getInstance().get();
+
+        verify(listener).run();
+    }
+
+    @Test
+    @DisplayName("ignore the materialization and listening of any other instance")
+    void should_ignore_the_materialization_and_listening_of_any_other_instance() {
+        final Runnable listener = mock(Runnable.class);
+
+        ProxyRegistrable.materialize("instance");
+        ProxyRegistrable.listenFirstInvocation("instance", listener);
+
+        verifyZeroInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("create an intercepted copy of itself")
+    void should_create_an_intercepted_copy_of_itself() {
+        final Interceptor interceptor = (method, invocation) -> invocation;
+        final ProxyRegistrable proxy = ProxyRegistrable.of(Id.of("proxy"), Supplier.class, Object.class, emptyList());
+
+        final ProxyRegistrable interceptedProxy = proxy.interceptedBy(interceptor);
+
+        assertThat(interceptedProxy).isNotEqualTo(proxy);
+        assertThat(interceptedProxy.getId()).isEqualTo(proxy.getId());
+        assertThat(interceptedProxy).isEqualTo(ProxyRegistrable.of(Id.of("proxy"), Supplier.class, Object.class, emptyList()).interceptedBy(interceptor));
+    }
+
+    @Test
+    @DisplayName("throw when intercepted by a null interceptor")
+    void should_throw_when_intercepted_by_a_null_interceptor() {
+        final ProxyRegistrable proxy = ProxyRegistrable.of(Id.of("proxy"), Supplier.class, Object.class, emptyList());
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> proxy.interceptedBy(null));
+    }
+
+    @Test
+    @DisplayName("throw when unwrapping a null instance")
+    void should_throw_when_unwrapping_a_null_instance() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ProxyRegistrable.unwrap(null));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package io.fries.ioc.registry.scoped;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.fries.ioc.registry.scoped.ScopedRegistrable.NO_DEPENDENCIES;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Scoped registrable should")
+class ScopedRegistrableTest {
+
+    @Test
+    @DisplayName("throw when providing a null identifier")
+    void should_throw_when_providing_a_null_id() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ScopedRegistrable.of(null, Object.class, emptyList()));
+    }
+
+    @Test
+    @DisplayName("throw when providing a null type")
+    void should_throw_when_providing_a_null_type() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ScopedRegistrable.of(mock(Id.class), null, emptyList()));
+    }
+
+    @Test
+    @DisplayName("throw when providing null components")
+    void should_throw_when_providing_null_dependencies() {
+        final List<Id> dependencies = null;
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ScopedRegistrable.of(mock(Id.class), Object.class, dependencies));
+    }
+
+    @Test
+    @DisplayName("always count zero components as they are resolved by each scope")
+    void should_count_zero_dependencies() {
+        final ScopedRegistrable registrable = ScopedRegistrable.of(mock(Id.class), Object.class, singletonList(mock(Id.class)));
+
+        final int dependenciesCount = registrable.countDependencies(mock(Registry.class));
+
+        assertThat(dependenciesCount).isEqualTo(NO_DEPENDENCIES);
+    }
+
+    @Test
+    @DisplayName("be lazy as its instances are only created by each scope")
+    void should_be_lazy() {
+        final ScopedRegistrable registrable = ScopedRegistrable.of(mock(Id.class), Object.class, singletonList(mock(Id.class)));
+
+        assertThat(registrable.isLazy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("create a scoped component without instantiating it")
+    void should_create_a_scoped_component_without_instantiating_it() {
+        final Id id = mock(Id.class);
+        final List<Id> dependencies = singletonList(mock(Id.class));
+        final ScopedRegistrable registrable = ScopedRegistrable.of(id, Object.class, dependencies);
+        final Instantiator instantiator = mock(Instantiator.class);
+
+        final Component component = registrable.instantiate(instantiator, mock(Components.class));
+
+        verify(instantiator, never()).createInstance(any(), any());
+        assertThat(component.getId()).isEqualTo(id);
+        assertThat(component.getRawInstance()).isInstanceOf(ScopedInstance.class);
+        assertThat(((ScopedInstance) component.getRawInstance()).getDependencies()).isEqualTo(dependencies);
+    }
+
+    @Test
+    @DisplayName("throw when its instance is provided outside of a scope")
+    void should_throw_when_its_instance_is_provided_outside_of_a_scope() {
+        final Id id = Id.of("unit");
+        final Component component = ScopedRegistrable.of(id, Object.class, emptyList()).instantiate(mock(Instantiator.class), mock(Components.class));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(component::getInstance)
+                .withMessage("The component " + id + " is scoped and can only be provided from an opened scope");
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final Id id = mock(Id.class);
+        final ScopedRegistrable firstRegistrable = ScopedRegistrable.of(id, Object.class, emptyList());
+        final ScopedRegistrable secondRegistrable = ScopedRegistrable.of(id, Object.class, emptyList());
+
+        assertThat(firstRegistrable).isEqualTo(secondRegistrable);
+        assertThat(firstRegistrable.hashCode()).isEqualTo(secondRegistrable.hashCode());
+    }
+
+    @Test
+    @DisplayName("not be equal")
+    void should_not_be_equal() {
+        final ScopedRegistrable firstRegistrable = ScopedRegistrable.of(mock(Id.class), Object.class, emptyList());
+        final ScopedRegistrable secondRegistrable = ScopedRegistrable.of(mock(Id.class), Object.class, emptyList());
+
+        assertThat(firstRegistrable).isNotEqualTo(secondRegistrable);
+        assertThat(firstRegistrable.hashCode()).isNotEqualTo(secondRegistrable.hashCode());
+    }
+
+    @Test
+    @DisplayName("be formatted as a string")
+    void should_be_formatted_as_a_string() {
+        final Id id = mock(Id.class);
+        final ScopedRegistrable registrable = ScopedRegistrable.of(id, Object.class, emptyList());
+
+        when(id.toString()).thenReturn("Id");
+        final String result = registrable.toString();
+
+        assertThat(result).isEqualTo("ScopedRegistrable{id=Id, type=class java.lang.Object, components=[]}");
+    }
+}
@@ -19,7 +19,7 @@ class SuppliedRegistrableBuilderTest {
     @DisplayName("infer the identifier of the instance supplier")
     void should_infer_the_identifier_of_the_instance_supplier() {
         final Id id = Id.of(Supplier.class);
-        final Supplier instanceSupplier = mock(Supplier.class);
+        final Supplier<?> instanceSupplier = mock(Supplier.class);
         final SuppliedRegistrableBuilder expected = new SuppliedRegistrableBuilder(id, instanceSupplier);
 
         final SuppliedRegistrableBuilder builder = supplied(instanceSupplier);
@@ -31,7 +31,7 @@ class SuppliedRegistrableBuilderTest {
     @DisplayName("update its identifier")
     void should_update_the_registrable_id() {
         final Object newId = mock(Object.class);
-        final Supplier instanceSupplier = mock(Supplier.class);
+        final Supplier<?> instanceSupplier = mock(Supplier.class);
         final SuppliedRegistrableBuilder expected = new SuppliedRegistrableBuilder(Id.of(newId), instanceSupplier);
 
         final SuppliedRegistrableBuilder builder = new SuppliedRegistrableBuilder(mock(Id.class), instanceSupplier);
@@ -44,7 +44,7 @@ class SuppliedRegistrableBuilderTest {
     @DisplayName("build the managed registrable")
     void should_build_the_managed_registrable() {
         final Id id = mock(Id.class);
-        final Supplier instanceSupplier = mock(Supplier.class);
+        final Supplier<?> instanceSupplier = mock(Supplier.class);
         final SuppliedRegistrableBuilder builder = new SuppliedRegistrableBuilder(id, instanceSupplier);
         final SuppliedRegistrable expected = SuppliedRegistrable.of(id, instanceSupplier);
 
@@ -57,7 +57,7 @@ class SuppliedRegistrableBuilderTest {
     @DisplayName("be equal")
     void should_be_equal() {
         final Id id = mock(Id.class);
-        final Supplier instanceSupplier = mock(Supplier.class);
+        final Supplier<?> instanceSupplier = mock(Supplier.class);
         final SuppliedRegistrableBuilder firstBuilder = new SuppliedRegistrableBuilder(id, instanceSupplier);
         final SuppliedRegistrableBuilder secondBuilder = new SuppliedRegistrableBuilder(id, instanceSupplier);
 
@@ -79,7 +79,7 @@ class SuppliedRegistrableBuilderTest {
     @DisplayName("be formatted as a string")
     void should_be_formatted_as_a_string() {
         final Id id = mock(Id.class);
-        final Supplier instanceSupplier = mock(Supplier.class);
+        final Supplier<?> instanceSupplier = mock(Supplier.class);
         final SuppliedRegistrableBuilder builder = new SuppliedRegistrableBuilder(id, instanceSupplier);
 
         when(id.toString()).thenReturn("Id");
@@ -0,0 +1,130 @@
+package io.fries.ioc.registry.thread;
+
+import io.fries.ioc.components.Component;
+import io.fries.ioc.components.Components;
+import io.fries.ioc.components.Id;
+import io.fries.ioc.instantiator.Instantiator;
+import io.fries.ioc.registry.Registry;
+import io.fries.ioc.registry.managed.ManagedRegistrable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Thread registrable should")
+class ThreadRegistrableTest {
+
+    @Test
+    @DisplayName("throw when providing a null identifier")
+    void should_throw_when_providing_a_null_id() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ThreadRegistrable.of(null, Object.class, emptyList(), false));
+    }
+
+    @Test
+    @DisplayName("throw when providing a null type")
+    void should_throw_when_providing_a_null_type() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ThreadRegistrable.of(mock(Id.class), null, emptyList(), false));
+    }
+
+    @Test
+    @DisplayName("throw when providing null components")
+    void should_throw_when_providing_null_dependencies() {
+        final List<Id> dependencies = null;
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ThreadRegistrable.of(mock(Id.class), Object.class, dependencies, false));
+    }
+
+    @Test
+    @DisplayName("count its number of components")
+    void should_count_its_number_of_dependencies() {
+        final Id firstId = mock(Id.class);
+        final ManagedRegistrable firstRegistrable = mock(ManagedRegistrable.class);
+        final Id secondId = mock(Id.class);
+        final ManagedRegistrable secondRegistrable = mock(ManagedRegistrable.class);
+        final Registry registry = mock(Registry.class);
+
+        final ThreadRegistrable registrable = ThreadRegistrable.of(mock(Id.class), Object.class, asList(firstId, secondId), false);
+
+        when(registry.get(firstId)).thenReturn(firstRegistrable);
+        when(registry.get(secondId)).thenReturn(secondRegistrable);
+        when(firstRegistrable.countDependencies(registry)).thenReturn(1);
+        when(secondRegistrable.countDependencies(registry)).thenReturn(0);
+        final int deepDependenciesCount = registrable.countDependencies(registry);
+
+        assertThat(deepDependenciesCount).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("create a component providing one instance per thread")
+    void should_create_a_component_providing_one_instance_per_thread() {
+        final Instantiator instantiator = mock(Instantiator.class);
+        final Components components = mock(Components.class);
+        final Id dependencyId = mock(Id.class);
+        final Component dependency = mock(Component.class);
+
+        final Id id = mock(Id.class);
+        final ThreadRegistrable registrable = ThreadRegistrable.of(id, Object.class, singletonList(dependencyId), false);
+
+        when(components.findAllById(singletonList(dependencyId))).thenReturn(singletonList(dependency));
+        when(instantiator.createInstance(Object.class, singletonList(dependency))).thenAnswer(invocation -> new Object());
+        final Component component = registrable.instantiate(instantiator, components);
+
+        verify(instantiator, never()).createInstance(any(), any());
+
+        final Object instance = component.getInstance();
+        final AtomicReference<Object> otherInstance = new AtomicReference<>();
+        final Thread thread = new Thread(() -> otherInstance.set(component.getInstance()));
+        thread.start();
+        assertDoesNotThrow(() -> thread.join());
+
+        assertThat(component.getId()).isEqualTo(id);
+        assertThat(component.<Object>getInstance()).isSameAs(instance);
+        assertThat(otherInstance.get()).isNotNull().isNotSameAs(instance);
+        verify(instantiator, times(2)).createInstance(Object.class, singletonList(dependency));
+    }
+
+    @Test
+    @DisplayName("be equal")
+    void should_be_equal() {
+        final Id id = mock(Id.class);
+        final ThreadRegistrable firstRegistrable = ThreadRegistrable.of(id, Object.class, emptyList(), false);
+        final ThreadRegistrable secondRegistrable = ThreadRegistrable.of(id, Object.class, emptyList(), false);
+
+        assertThat(firstRegistrable).isEqualTo(secondRegistrable);
+        assertThat(firstRegistrable.hashCode()).isEqualTo(secondRegistrable.hashCode());
+    }
+
+    @Test
+    @DisplayName("not be equal")
+    void should_not_be_equal() {
+        final ThreadRegistrable firstRegistrable = ThreadRegistrable.of(mock(Id.class), Object.class, emptyList(), false);
+        final ThreadRegistrable secondRegistrable = ThreadRegistrable.of(mock(Id.class), Object.class, emptyList(), false);
+
+        assertThat(firstRegistrable).isNotEqualTo(secondRegistrable);
+        assertThat(firstRegistrable.hashCode()).isNotEqualTo(secondRegistrable.hashCode());
+    }
+
+    @Test
+    @DisplayName("be formatted as a string")
+    void should_be_formatted_as_a_string() {
+        final Id id = mock(Id.class);
+        final ThreadRegistrable registrable = ThreadRegistrable.of(id, Object.class, emptyList(), true);
+
+        when(id.toString()).thenReturn("Id");
+        final String result = registrable.toString();
+
+        assertThat(result).isEqualTo("ThreadRegistrable{id=Id, type=class java.lang.Object, components=[], closeOnThreadDeath=true}");
+    }
+}
@@ -0,0 +1,143 @@
+package io.fries.ioc.registry.thread;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static io.fries.ioc.registry.thread.ThreadSlots.INITIAL_CAPACITY;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Thread slots should")
+class ThreadSlotsTest {
+
+    @Test
+    @DisplayName("throw when providing a null instance supplier")
+    void should_throw_when_providing_a_null_instance_supplier() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ThreadSlots.of(null, false));
+    }
+
+    @Test
+    @DisplayName("supply a single instance per thread")
+    void should_supply_a_single_instance_per_thread() {
+        final ThreadSlots threadSlots = ThreadSlots.of(Object::new, false);
+
+        final Object firstInstance = threadSlots.get();
+        final Object secondInstance = threadSlots.get();
+
+        assertThat(firstInstance).isSameAs(secondInstance);
+    }
+
+    @Test
+    @DisplayName("supply a distinct instance to each thread")
+    void should_supply_a_distinct_instance_to_each_thread() {
+        final ThreadSlots threadSlots = ThreadSlots.of(Object::new, false);
+        final AtomicReference<Object> otherInstance = new AtomicReference<>();
+
+        final Object instance = threadSlots.get();
+        runInThread(() -> otherInstance.set(threadSlots.get()));
+
+        assertThat(otherInstance.get()).isNotNull().isNotSameAs(instance);
+        assertThat(threadSlots.get()).isSameAs(instance);
+    }
+
+    @Test
+    @DisplayName("grow when more threads than its initial capacity claim a slot")
+    void should_grow_when_more_threads_than_its_initial_capacity_claim_a_slot() {
+        final AtomicInteger supplied = new AtomicInteger();
+        final ThreadSlots threadSlots = ThreadSlots.of(supplied::incrementAndGet, false);
+        final Thread[] threads = new Thread[INITIAL_CAPACITY * 4];
+        final CountDownLatch claimed = new CountDownLatch(threads.length);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        for (int index = 0; index < threads.length; index++) {
+            threads[index] = new Thread(() -> {
+                final Object instance = threadSlots.get();
+                claimed.countDown();
+                assertDoesNotThrow(() -> release.await());
+                if (threadSlots.get() != instance)
+                    supplied.set(Integer.MIN_VALUE);
+            });
+            threads[index].start();
+        }
+        assertDoesNotThrow(() -> claimed.await());
+        release.countDown();
+        assertDoesNotThrow(() -> {
+            for (final Thread thread : threads)
+                thread.join();
+        });
+
+        assertThat(supplied.get()).isEqualTo(threads.length);
+        assertThat(threadSlots.capacity()).isGreaterThan(INITIAL_CAPACITY);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("close the instances of dead threads when purging")
+    void should_close_the_instances_of_dead_threads_when_purging() throws Exception {
+        final AutoCloseable instance = mock(AutoCloseable.class);
+        final Supplier<Object> supplier = (Supplier<Object>) mock(Supplier.class);
+        final ThreadSlots threadSlots = ThreadSlots.of(supplier, true);
+
+        when(supplier.get()).thenReturn(instance);
+        runInThread(threadSlots::get);
+        final int alive = threadSlots.purge();
+
+        verify(instance).close();
+        assertThat(alive).isZero();
+    }
+
+    @Test
+    @DisplayName("not close the instances of dead threads unless asked to")
+    void should_not_close_the_instances_of_dead_threads_unless_asked_to() throws Exception {
+        final AutoCloseable instance = mock(AutoCloseable.class);
+        final ThreadSlots threadSlots = ThreadSlots.of(() -> instance, false);
+
+        runInThread(threadSlots::get);
+        threadSlots.purge();
+
+        verify(instance, never()).close();
+    }
+
+    @Test
+    @DisplayName("keep the instances of living threads when purging")
+    void should_keep_the_instances_of_living_threads_when_purging() {
+        final ThreadSlots threadSlots = ThreadSlots.of(Object::new, true);
+
+        final Object instance = threadSlots.get();
+        final int alive = threadSlots.purge();
+
+        assertThat(alive).isEqualTo(1);
+        assertThat(threadSlots.get()).isSameAs(instance);
+    }
+
+    @Test
+    @DisplayName("close the instances of every thread when closed")
+    void should_close_the_instances_of_every_thread_when_closed() throws Exception {
+        final AutoCloseable instance = mock(AutoCloseable.class);
+        final AutoCloseable otherThreadInstance = mock(AutoCloseable.class);
+        final ThreadSlots threadSlots = ThreadSlots.of(new ArrayDeque<>(asList(instance, otherThreadInstance))::pop, false);
+
+        threadSlots.get();
+        runInThread(threadSlots::get);
+        threadSlots.close();
+
+        verify(instance).close();
+        verify(otherThreadInstance).close();
+    }
+
+    private void runInThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable);
+        thread.start();
+        assertDoesNotThrow(() -> thread.join());
+    }
+}
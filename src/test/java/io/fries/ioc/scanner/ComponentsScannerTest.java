@@ -1,10 +1,13 @@
 package io.fries.ioc.scanner;
 
 import io.fries.ioc.RegistrationContainer;
+import io.fries.ioc.instrumentation.InstantiationListener;
+import io.fries.ioc.instrumentation.StartupPhase;
 import io.fries.ioc.registry.Registrable;
 import io.fries.ioc.scanner.registrable.RegistrableScanner;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.util.Collections;
 
@@ -20,6 +23,7 @@ class ComponentsScannerTest {
         final RegistrableScanner registrableScanner = mock(RegistrableScanner.class);
         final Registrable registrable = mock(Registrable.class);
 
+        when(registrationContainer.getInstantiationListener()).thenReturn(InstantiationListener.none());
         when(registrableScanner.findAll()).thenReturn(Collections.singletonList(registrable));
         ComponentsScanner.of(registrationContainer)
                 .use(registrableScanner)
@@ -29,4 +33,23 @@ class ComponentsScannerTest {
         verify(registrationContainer).register(registrable);
         verify(registrationContainer).instantiate();
     }
+
+    @Test
+    @DisplayName("notify the instantiation listener of the scanning phase")
+    void should_notify_the_instantiation_listener_of_the_scanning_phase() {
+        final RegistrationContainer registrationContainer = mock(RegistrationContainer.class);
+        final InstantiationListener instantiationListener = mock(InstantiationListener.class);
+        final RegistrableScanner registrableScanner = mock(RegistrableScanner.class);
+
+        when(registrationContainer.getInstantiationListener()).thenReturn(instantiationListener);
+        ComponentsScanner.of(registrationContainer)
+                .use(registrableScanner)
+                .scan();
+
+        final InOrder inOrder = inOrder(instantiationListener, registrableScanner, registrationContainer);
+        inOrder.verify(instantiationListener).phaseStarted(StartupPhase.SCANNING);
+        inOrder.verify(registrableScanner).findAll();
+        inOrder.verify(instantiationListener).phaseEnded(StartupPhase.SCANNING);
+        inOrder.verify(registrationContainer).instantiate();
+    }
 }
@@ -0,0 +1,129 @@
+package io.fries.ioc.threads;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Container threads should")
+class ContainerThreadsTest {
+
+    @Test
+    @DisplayName("throw when creating a thread without a task or a name")
+    void should_throw_when_creating_a_thread_without_a_task_or_a_name() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ContainerThreads.newThread(null, "ioc-container"));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ContainerThreads.newThread(() -> {
+                }, null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ContainerThreads.newExecutor(null));
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> ContainerThreads.newBoundedExecutor(null, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ContainerThreads.newBoundedExecutor("ioc-container", 0))
+                .withMessage("The maximum number of threads must be positive");
+    }
+
+    @Test
+    @DisplayName("create named daemon threads")
+    void should_create_named_daemon_threads() {
+        final Thread thread = ContainerThreads.newThread(() -> {
+        }, "ioc-container");
+
+        assertThat(thread.getName()).isEqualTo("ioc-container");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    @Test
+    @DisplayName("use virtual threads whenever the running JVM supports them")
+    void should_use_virtual_threads_whenever_the_running_jvm_supports_them() {
+        final String specificationVersion = System.getProperty("java.specification.version");
+        final boolean supportsVirtualThreads = !specificationVersion.startsWith("1.") && Integer.parseInt(specificationVersion) >= 21;
+
+        assertThat(ContainerThreads.areVirtual()).isEqualTo(supportsVirtualThreads);
+    }
+
+    @Test
+    @DisplayName("create named virtual threads whenever the running JVM supports them")
+    void should_create_named_virtual_threads_whenever_the_running_jvm_supports_them() throws Exception {
+        assumeTrue(ContainerThreads.areVirtual());
+        final Thread thread = ContainerThreads.newThread(() -> {
+        }, "ioc-container");
+
+        assertThat(isVirtual(thread)).isTrue();
+        assertThat(thread.getName()).isEqualTo("ioc-container");
+    }
+
+    @Test
+    @DisplayName("run each task of its executors on a new virtual thread whenever the running JVM supports them")
+    void should_run_each_task_of_its_executors_on_a_new_virtual_thread_whenever_the_running_jvm_supports_them() throws Exception {
+        assumeTrue(ContainerThreads.areVirtual());
+        final ExecutorService executor = ContainerThreads.newExecutor("ioc-container");
+
+        try {
+            final Thread first = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            final Thread second = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+            assertThat(isVirtual(first)).isTrue();
+            assertThat(first.getName()).isEqualTo("ioc-container");
+            assertThat(second).isNotSameAs(first);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("run at most the given number of platform threads in a bounded executor")
+    void should_run_at_most_the_given_number_of_platform_threads_in_a_bounded_executor() throws Exception {
+        assumeFalse(ContainerThreads.areVirtual());
+        final ExecutorService executor = ContainerThreads.newBoundedExecutor("ioc-container", 2);
+        final CountDownLatch started = new CountDownLatch(3);
+        final CountDownLatch released = new CountDownLatch(1);
+
+        try {
+            for (int index = 0; index < 3; index++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        released.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertThat(started.await(100, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(started.getCount()).isEqualTo(1);
+
+            released.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            released.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("run the tasks of its executors on named threads")
+    void should_run_the_tasks_of_its_executors_on_named_threads() throws Exception {
+        final ExecutorService executor = ContainerThreads.newExecutor("ioc-container");
+
+        try {
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS)).isEqualTo("ioc-container");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean isVirtual(final Thread thread) throws ReflectiveOperationException {
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}
@@ -0,0 +1,45 @@
+package testable.library;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toMap;
+
+public class CountingLibrary implements Library {
+
+    private final AtomicInteger lookups;
+
+    public CountingLibrary() {
+        this.lookups = new AtomicInteger();
+    }
+
+    @Override
+    public String findTitle(final String isbn) {
+        lookups.incrementAndGet();
+        return "Title of " + isbn;
+    }
+
+    @Override
+    public CompletableFuture<String> fetchTitle(final String isbn) {
+        return CompletableFuture.completedFuture(Thread.currentThread().getName() + ": " + findTitle(isbn));
+    }
+
+    @Override
+    public String findAuthor(final String isbn) {
+        return findAuthors(singletonList(isbn)).get(isbn);
+    }
+
+    @Override
+    public Map<String, String> findAuthors(final List<String> isbns) {
+        lookups.incrementAndGet();
+        return isbns.stream().collect(toMap(isbn -> isbn, isbn -> "Author of " + isbn));
+    }
+
+    @Override
+    public int countLookups() {
+        return lookups.get();
+    }
+}
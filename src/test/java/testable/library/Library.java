@@ -0,0 +1,25 @@
+package testable.library;
+
+import io.fries.ioc.annotations.Async;
+import io.fries.ioc.annotations.Batched;
+import io.fries.ioc.annotations.Cached;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface Library {
+
+    @Cached(maximumSize = 100)
+    String findTitle(String isbn);
+
+    @Async("lookups")
+    CompletableFuture<String> fetchTitle(String isbn);
+
+    @Batched(value = "findAuthors", maximumSize = 3, windowMillis = 30_000)
+    String findAuthor(String isbn);
+
+    Map<String, String> findAuthors(List<String> isbns);
+
+    int countLookups();
+}
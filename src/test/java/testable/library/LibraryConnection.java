@@ -0,0 +1,17 @@
+package testable.library;
+
+import java.util.List;
+
+public class LibraryConnection implements AutoCloseable {
+
+    private final List<LibraryConnection> closedConnections;
+
+    public LibraryConnection(final List<LibraryConnection> closedConnections) {
+        this.closedConnections = closedConnections;
+    }
+
+    @Override
+    public void close() {
+        closedConnections.add(this);
+    }
+}